@@ -0,0 +1,105 @@
+package com.kanban.benchmark;
+
+import com.kanban.KanbanApplication;
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.domain.repository.BoardRepository;
+import com.kanban.board.domain.repository.ColumnRepository;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.model.TaskPriority;
+import com.kanban.task.domain.model.TaskStatus;
+import com.kanban.task.domain.repository.TaskRepository;
+import com.kanban.task.infrastructure.TaskSearchIndex;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+
+
+/**
+ * The application running against its in-memory H2 database, seeded with one board
+ * holding two columns of tasks. Shared by the benchmarks that go through Spring and JPA.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    static final int TASKS_PER_COLUMN = 1000;
+
+    ConfigurableApplicationContext context;
+    TransactionTemplate transactionTemplate;
+    final List<Long> columnIds = new ArrayList<>();
+    final List<Long> taskIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void start() throws InterruptedException {
+        context = new SpringApplicationBuilder(KanbanApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.springframework.security=WARN",
+                        "logging.level.org.springframework.web=WARN")
+                .run();
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.executeWithoutResult(status -> seed());
+
+        // Text searches are answered from the index once it has caught up with the seeded tasks
+        TaskSearchIndex index = context.getBean(TaskSearchIndex.class);
+        while (!index.isReady() || index.size() < taskIds.size()) {
+            Thread.sleep(50);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed() {
+        Random random = new Random(42);
+        BoardRepository boardRepository = bean(BoardRepository.class);
+        ColumnRepository columnRepository = bean(ColumnRepository.class);
+        TaskRepository taskRepository = bean(TaskRepository.class);
+
+        Board board = new Board();
+        board.setName("Benchmark Board");
+        board = boardRepository.save(board);
+        for (int c = 0; c < 2; c++) {
+            BoardColumn column = new BoardColumn();
+            column.setName("Column " + c);
+            column.setOrderIndex(c);
+            column.setBoard(board);
+            column = columnRepository.save(column);
+            columnIds.add(column.getId());
+
+            List<Task> tasks = new ArrayList<>();
+            for (int t = 0; t < TASKS_PER_COLUMN; t++) {
+                Task task = new Task();
+                task.setTitle(BoardFixtures.sentence(random, 4));
+                task.setDescription(BoardFixtures.sentence(random, 30));
+                task.setPriority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)]);
+                task.setStatus(TaskStatus.values()[random.nextInt(TaskStatus.values().length)]);
+                task.setColumn(column);
+                task.setPosition(t);
+                tasks.add(task);
+            }
+            taskRepository.saveAll(tasks).forEach(task -> taskIds.add(task.getId()));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.kanban.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+
+
+/**
+ * Runs the benchmarks and compares their scores with the committed baseline
+ * (benchmarks/baseline.json). Any JMH command line option may be passed to narrow or
+ * lengthen the run; benchmarks slower than the baseline by more than the tolerance are
+ * reported, and fail the run when -Dbenchmark.failOnRegression=true.
+ */
+public final class BenchmarkRunner {
+
+    private static final String RESULT_FILE = "target/jmh-result.json";
+    private static final String BASELINE_FILE = "benchmarks/baseline.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        // Short defaults keep a full run within a few minutes; pass -wi/-i/-f for more precise numbers
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .result(RESULT_FILE)
+                .resultFormat(ResultFormatType.JSON);
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(BenchmarkRunner.class.getPackageName() + ".*Benchmark");
+        }
+        if (!commandLine.getWarmupIterations().hasValue()) {
+            options.warmupIterations(3);
+        }
+        if (!commandLine.getWarmupTime().hasValue()) {
+            options.warmupTime(TimeValue.seconds(1));
+        }
+        if (!commandLine.getMeasurementIterations().hasValue()) {
+            options.measurementIterations(5);
+        }
+        if (!commandLine.getMeasurementTime().hasValue()) {
+            options.measurementTime(TimeValue.seconds(1));
+        }
+        if (!commandLine.getForkCount().hasValue()) {
+            options.forks(1);
+        }
+        new Runner(options.build()).run();
+
+        double tolerance = Double.parseDouble(System.getProperty("benchmark.tolerance", "0.25"));
+        List<String> regressions = compare(new File(RESULT_FILE), new File(BASELINE_FILE), tolerance);
+        if (!regressions.isEmpty() && Boolean.getBoolean("benchmark.failOnRegression")) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Print the change of every benchmark against the baseline and return those slower than the tolerance
+     */
+    static List<String> compare(File result, File baseline, double tolerance) throws IOException {
+        List<String> regressions = new ArrayList<>();
+        if (!baseline.exists()) {
+            System.out.println("No baseline at " + baseline + ", copy " + result + " there to create one");
+            return regressions;
+        }
+        Map<String, Double> current = scores(result);
+        Map<String, Double> expected = scores(baseline);
+        System.out.println();
+        System.out.printf("%-70s %12s %12s %8s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Double> entry : current.entrySet()) {
+            Double before = expected.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %12s %12.3f %8s%n", entry.getKey(), "-", entry.getValue(), "new");
+                continue;
+            }
+            // Scores are average times, so higher is slower
+            double change = (entry.getValue() - before) / before;
+            boolean regressed = change > tolerance;
+            if (regressed) {
+                regressions.add(entry.getKey());
+            }
+            System.out.printf("%-70s %12.3f %12.3f %+7.1f%%%s%n", entry.getKey(), before, entry.getValue(),
+                    change * 100, regressed ? "  REGRESSION" : "");
+        }
+        return regressions;
+    }
+
+    private static Map<String, Double> scores(File file) throws IOException {
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            run.path("params").fields().forEachRemaining(param ->
+                    key.append(':').append(param.getKey()).append('=').append(param.getValue().asText()));
+            scores.put(key.toString(), run.path("primaryMetric").path("score").asDouble());
+        }
+        return scores;
+    }
+}
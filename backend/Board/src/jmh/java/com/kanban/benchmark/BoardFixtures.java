@@ -0,0 +1,118 @@
+package com.kanban.benchmark;
+
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.shared.domain.model.Comment;
+import com.kanban.shared.domain.model.Label;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.model.TaskPriority;
+import com.kanban.task.domain.model.TaskRank;
+import com.kanban.task.domain.model.TaskStatus;
+import com.kanban.user.domain.model.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+
+
+/**
+ * Detached, fully populated boards for the in-memory benchmarks.
+ * Generated from a fixed seed so every run measures the same shapes.
+ */
+final class BoardFixtures {
+
+    static final String[] WORDS = {
+        "login", "page", "crash", "export", "report", "invoice", "search", "filter", "avatar", "upload",
+        "timeout", "cache", "board", "column", "label", "comment", "deploy", "release", "mobile", "layout"
+    };
+
+    private BoardFixtures() {
+    }
+
+    /**
+     * A board with the given number of columns and tasks per column. Every task carries
+     * two labels, a comment, a creator and an assignee, like a busy production board.
+     */
+    static Board board(int columns, int tasksPerColumn) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            User user = new User();
+            user.setId((long) i + 1);
+            user.setUsername("user" + i);
+            user.setDisplayName("User " + i);
+            user.setEmail("user" + i + "@example.com");
+            user.setCreatedAt(now);
+            users.add(user);
+        }
+
+        Board board = new Board();
+        board.setId(1L);
+        board.setName("Benchmark Board");
+        board.setDescription("Board used by the benchmarks");
+        board.setCreatedAt(now);
+        board.setUpdatedAt(now);
+        board.setCreatedBy(users.get(0));
+        for (int i = 0; i < 8; i++) {
+            Label label = new Label();
+            label.setId((long) i + 1);
+            label.setName(WORDS[i]);
+            label.setColor("#00000" + i);
+            label.setBoard(board);
+            board.getLabels().add(label);
+        }
+
+        long taskId = 1;
+        for (int c = 0; c < columns; c++) {
+            BoardColumn column = new BoardColumn();
+            column.setId((long) c + 1);
+            column.setName("Column " + c);
+            column.setOrderIndex(c);
+            column.setBoard(board);
+            for (int t = 0; t < tasksPerColumn; t++) {
+                Task task = new Task();
+                task.setId(taskId++);
+                task.setTitle(sentence(random, 4));
+                task.setDescription(sentence(random, 30));
+                task.setPriority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)]);
+                task.setStatus(TaskStatus.values()[random.nextInt(TaskStatus.values().length)]);
+                task.setDueDate(now.plusDays(random.nextInt(30)));
+                task.setCreatedAt(now.minusDays(random.nextInt(90)));
+                task.setUpdatedAt(now);
+                task.setPosition(t);
+                task.setRankKey(TaskRank.spaced(t));
+                task.setColumn(column);
+                task.setCreatedBy(users.get(random.nextInt(users.size())));
+                task.setAssignee(users.get(random.nextInt(users.size())));
+                task.getLabels().add(board.getLabels().get(random.nextInt(4)));
+                task.getLabels().add(board.getLabels().get(4 + random.nextInt(4)));
+
+                Comment comment = new Comment();
+                comment.setId(task.getId());
+                comment.setContent(sentence(random, 12));
+                comment.setUser(task.getAssignee());
+                comment.setTask(task);
+                comment.setCreatedAt(now);
+                task.getComments().add(comment);
+
+                column.getTasks().add(task);
+            }
+            board.getColumns().add(column);
+        }
+        return board;
+    }
+
+    static String sentence(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
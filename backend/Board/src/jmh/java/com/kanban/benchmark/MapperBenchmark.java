@@ -0,0 +1,50 @@
+package com.kanban.benchmark;
+
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.interfaces.rest.BoardDTO;
+import com.kanban.shared.infrastructure.BoardMapper;
+import com.kanban.shared.infrastructure.TaskMapper;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.interfaces.rest.TaskDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.List;
+
+
+
+
+/**
+ * Entity to DTO mapping of whole boards, as done for every board read and rebroadcast
+ */
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"100", "1000"})
+    private int tasksPerColumn;
+
+    private Board board;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        board = BoardFixtures.board(5, tasksPerColumn);
+        tasks = board.getColumns().stream().flatMap(column -> column.getTasks().stream()).toList();
+    }
+
+    @Benchmark
+    public BoardDTO boardToDto() {
+        return BoardMapper.toDTO(board);
+    }
+
+    @Benchmark
+    public void tasksToDto(Blackhole blackhole) {
+        for (Task task : tasks) {
+            TaskDTO dto = TaskMapper.toDTO(task);
+            blackhole.consume(dto);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.kanban.benchmark;
+
+import com.kanban.board.application.SearchService;
+import com.kanban.shared.interfaces.response.PaginatedResponse;
+import com.kanban.task.infrastructure.TaskSearchIndex;
+import com.kanban.task.interfaces.rest.TaskDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.Random;
+
+
+
+
+/**
+ * Task search: the in-memory index on its own, and {@link SearchService} end to end
+ * with text plus filters (index then database) and with filters only (database)
+ */
+public class SearchBenchmark {
+
+    /**
+     * A standalone index over fixture text, without Spring
+     */
+    @State(Scope.Benchmark)
+    public static class IndexState {
+        static final int DOCUMENTS = 20_000;
+
+        TaskSearchIndex index;
+
+        @Setup
+        public void setUp() {
+            index = new TaskSearchIndex();
+            Random random = new Random(42);
+            for (long id = 1; id <= DOCUMENTS; id++) {
+                index.index(id, BoardFixtures.sentence(random, 4), BoardFixtures.sentence(random, 30));
+            }
+        }
+    }
+
+    @Benchmark
+    public TaskSearchIndex.Hits indexTwoTerms(IndexState state) {
+        return state.index.search("cache timeout", 0, 20);
+    }
+
+    @Benchmark
+    public TaskSearchIndex.Hits indexPrefix(IndexState state) {
+        return state.index.search("deploy rel", 0, 20);
+    }
+
+    @Benchmark
+    public PaginatedResponse<TaskDTO> serviceTextAndFilters(ApplicationState app) {
+        return app.bean(SearchService.class)
+                .searchTasks("cache", "HIGH", "TODO", null, null, null, null, 0, 20);
+    }
+
+    @Benchmark
+    public PaginatedResponse<TaskDTO> serviceFiltersOnly(ApplicationState app) {
+        return app.bean(SearchService.class)
+                .searchTasks(null, "HIGH", "TODO", null, null, null, null, 0, 20);
+    }
+}
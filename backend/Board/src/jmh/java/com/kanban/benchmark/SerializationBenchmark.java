@@ -0,0 +1,58 @@
+package com.kanban.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.interfaces.websocket.BoardPatchEvent;
+import com.kanban.board.interfaces.websocket.WebSocketResponse;
+import com.kanban.shared.infrastructure.BoardMapper;
+import com.kanban.shared.infrastructure.TaskMapper;
+import com.kanban.task.domain.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+
+
+
+/**
+ * JSON encoding of the WebSocket payloads: a full board response versus a single patch event
+ */
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int tasksPerColumn;
+
+    // Configured like the application's mapper (Java time module, ISO dates)
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private WebSocketResponse boardResponse;
+    private BoardPatchEvent patchEvent;
+
+    @Setup
+    public void setUp() {
+        Board board = BoardFixtures.board(5, tasksPerColumn);
+        boardResponse = new WebSocketResponse("BOARD_UPDATED", "SUCCESS", "Board updated", BoardMapper.toDTO(board));
+
+        Task task = board.getColumns().get(0).getTasks().get(0);
+        patchEvent = new BoardPatchEvent(BoardPatchEvent.TASK_CREATED, task.getId());
+        patchEvent.setBoardId(board.getId());
+        patchEvent.setToColumnId(task.getColumn().getId());
+        patchEvent.setToPosition(0);
+        patchEvent.setTask(TaskMapper.toPreviewDTO(task));
+    }
+
+    @Benchmark
+    public byte[] boardResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(boardResponse);
+    }
+
+    @Benchmark
+    public byte[] patchEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(patchEvent);
+    }
+}
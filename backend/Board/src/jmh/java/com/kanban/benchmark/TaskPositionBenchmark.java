@@ -0,0 +1,57 @@
+package com.kanban.benchmark;
+
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.domain.repository.ColumnRepository;
+import com.kanban.task.application.TaskPositionService;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.Random;
+
+
+
+
+/**
+ * Task moves through {@link TaskPositionService} against H2, each in its own transaction
+ */
+@State(Scope.Benchmark)
+public class TaskPositionBenchmark {
+
+    private final Random random = new Random(42);
+
+    private TaskPositionService taskPositionService;
+    private TaskRepository taskRepository;
+    private ColumnRepository columnRepository;
+
+    @Setup
+    public void setUp(ApplicationState app) {
+        taskPositionService = app.bean(TaskPositionService.class);
+        taskRepository = app.bean(TaskRepository.class);
+        columnRepository = app.bean(ColumnRepository.class);
+    }
+
+    @Benchmark
+    public Integer moveWithinColumn(ApplicationState app) {
+        Long taskId = app.taskIds.get(random.nextInt(app.taskIds.size()));
+        int index = random.nextInt(ApplicationState.TASKS_PER_COLUMN);
+        return app.transactionTemplate.execute(status -> {
+            Task task = taskRepository.findById(taskId).orElseThrow();
+            return taskPositionService.moveTaskToPosition(task, index).getPosition();
+        });
+    }
+
+    @Benchmark
+    public Integer moveAcrossColumns(ApplicationState app) {
+        Long taskId = app.taskIds.get(random.nextInt(app.taskIds.size()));
+        int index = random.nextInt(ApplicationState.TASKS_PER_COLUMN);
+        return app.transactionTemplate.execute(status -> {
+            Task task = taskRepository.findById(taskId).orElseThrow();
+            Long target = app.columnIds.get(app.columnIds.get(0).equals(task.getColumn().getId()) ? 1 : 0);
+            BoardColumn column = columnRepository.findById(target).orElseThrow();
+            return taskPositionService.moveTaskToColumn(task, column, index).getPosition();
+        });
+    }
+}
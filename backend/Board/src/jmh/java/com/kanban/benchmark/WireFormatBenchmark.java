@@ -0,0 +1,60 @@
+package com.kanban.benchmark;
+
+import com.kanban.board.interfaces.rest.BoardDTO;
+import com.kanban.shared.infrastructure.BoardMapper;
+import com.kanban.shared.infrastructure.WireCodec;
+import com.kanban.shared.infrastructure.WireFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+
+
+
+/**
+ * Encoding and decoding a full board in each wire format, and transcoding the cached JSON
+ * of a board into the format. The encoded sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    @Param({"100", "1000"})
+    private int tasksPerColumn;
+
+    @Param({"JSON", "CBOR"})
+    private WireFormat format;
+
+    // Configured like the application's codec (Java time module, ISO dates)
+    private final WireCodec wireCodec = new WireCodec(Jackson2ObjectMapperBuilder.json().build(), Jackson2ObjectMapperBuilder.json());
+
+    private BoardDTO board;
+    private byte[] json;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        board = BoardMapper.toDTO(BoardFixtures.board(5, tasksPerColumn));
+        json = wireCodec.encode(board, WireFormat.JSON);
+        encoded = wireCodec.encode(board, format);
+        System.out.printf("%n%s board of %d tasks: %d bytes (%.0f%% of JSON)%n",
+                format, 5 * tasksPerColumn, encoded.length, 100.0 * encoded.length / json.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return wireCodec.encode(board, format);
+    }
+
+    @Benchmark
+    public BoardDTO decode() {
+        return wireCodec.decode(encoded, format, BoardDTO.class);
+    }
+
+    @Benchmark
+    public byte[] transcode() {
+        return wireCodec.transcode(json, format);
+    }
+}
@@ -1,7 +1,6 @@
 package com.kanban.board.application;
 
 import com.kanban.board.domain.model.Board;
-import com.kanban.task.domain.model.Task;
 import com.kanban.task.domain.model.TaskStatus;
 import com.kanban.task.domain.model.TaskPriority;
 import com.kanban.user.domain.model.User;
@@ -9,12 +8,11 @@ import com.kanban.task.domain.repository.TaskRepository;
 import com.kanban.board.domain.repository.BoardRepository;
 import com.kanban.user.domain.repository.UserRepository;
 import com.kanban.shared.infrastructure.CommentRepository;
+import com.kanban.task.infrastructure.TaskAnalyticsStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 
 
@@ -34,6 +32,9 @@ public class AnalyticsService {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private TaskAnalyticsStore taskAnalyticsStore;
+
     /**
      * Get board analytics
      */
@@ -44,43 +45,19 @@ public class AnalyticsService {
         BoardAnalytics analytics = new BoardAnalytics();
         analytics.setBoardId(boardId);
         analytics.setBoardName(board.getName());
-        
-        // Get all tasks for this board
-        List<Task> boardTasks = taskRepository.findAll().stream()
-                .filter(task -> task.getColumn() != null && 
-                               task.getColumn().getBoard() != null && 
-                               task.getColumn().getBoard().getId().equals(boardId))
-                .collect(Collectors.toList());
-        
-        analytics.setTotalTasks(boardTasks.size());
+
+        // Task counts come from the incrementally maintained aggregates
+        TaskAnalyticsStore.Totals totals = taskAnalyticsStore.boardTotals(boardId, LocalDateTime.now());
+
+        analytics.setTotalTasks((int) totals.getTotal());
         analytics.setTotalColumns(board.getColumns().size());
         analytics.setTotalUsers(board.getUsers() != null ? board.getUsers().size() : 0);
         analytics.setCreatedAt(board.getCreatedAt());
         analytics.setLastUpdated(board.getUpdatedAt());
-
-        // Calculate task distribution by status
-        Map<TaskStatus, Long> statusDistribution = boardTasks.stream()
-                .collect(Collectors.groupingBy(Task::getStatus, Collectors.counting()));
-        analytics.setStatusDistribution(statusDistribution);
-
-        // Calculate task distribution by priority
-        Map<TaskPriority, Long> priorityDistribution = boardTasks.stream()
-                .collect(Collectors.groupingBy(Task::getPriority, Collectors.counting()));
-        analytics.setPriorityDistribution(priorityDistribution);
-
-        // Calculate overdue tasks
-        long overdueTasks = boardTasks.stream()
-                .filter(task -> task.getDueDate() != null && task.getDueDate().isBefore(LocalDateTime.now()))
-                .count();
-        analytics.setOverdueTasks(overdueTasks);
-
-        // Calculate tasks due soon (next 7 days)
-        long tasksDueSoon = boardTasks.stream()
-                .filter(task -> task.getDueDate() != null && 
-                               task.getDueDate().isAfter(LocalDateTime.now()) && 
-                               task.getDueDate().isBefore(LocalDateTime.now().plusDays(7)))
-                .count();
-        analytics.setTasksDueSoon(tasksDueSoon);
+        analytics.setStatusDistribution(totals.getStatusDistribution());
+        analytics.setPriorityDistribution(totals.getPriorityDistribution());
+        analytics.setOverdueTasks(totals.getOverdue());
+        analytics.setTasksDueSoon(totals.getDueSoon());
 
         return analytics;
     }
@@ -97,45 +74,21 @@ public class AnalyticsService {
         analytics.setUsername(user.getUsername());
         analytics.setDisplayName(user.getDisplayName());
 
-        // Get assigned tasks
-        List<Task> assignedTasks = taskRepository.findAll().stream()
-                .filter(task -> task.getAssignee() != null && task.getAssignee().getId().equals(userId))
-                .collect(Collectors.toList());
-        analytics.setAssignedTasks(assignedTasks.size());
-
-        // Get created tasks
-        List<Task> createdTasks = taskRepository.findAll().stream()
-                .filter(task -> task.getCreatedBy() != null && task.getCreatedBy().getId().equals(userId))
-                .collect(Collectors.toList());
-        analytics.setCreatedTasks(createdTasks.size());
-
-        // Get completed tasks
-        long completedTasks = assignedTasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.DONE)
-                .count();
-        analytics.setCompletedTasks((int) completedTasks);
-
-        // Get overdue tasks
-        long overdueTasks = assignedTasks.stream()
-                .filter(task -> task.getDueDate() != null && task.getDueDate().isBefore(LocalDateTime.now()))
-                .count();
-        analytics.setOverdueTasks((int) overdueTasks);
+        // Assigned task counts come from the incrementally maintained aggregates
+        TaskAnalyticsStore.Totals assigned = taskAnalyticsStore.assigneeTotals(userId, LocalDateTime.now());
+        analytics.setAssignedTasks((int) assigned.getTotal());
+        analytics.setCreatedTasks((int) taskAnalyticsStore.createdCount(userId));
+        analytics.setCompletedTasks((int) assigned.getCompleted());
+        analytics.setOverdueTasks((int) assigned.getOverdue());
 
         // Calculate completion rate
-        if (assignedTasks.size() > 0) {
-            double completionRate = (double) completedTasks / assignedTasks.size() * 100;
+        if (assigned.getTotal() > 0) {
+            double completionRate = (double) assigned.getCompleted() / assigned.getTotal() * 100;
             analytics.setCompletionRate(completionRate);
         }
 
-        // Get task distribution by status
-        Map<TaskStatus, Long> statusDistribution = assignedTasks.stream()
-                .collect(Collectors.groupingBy(Task::getStatus, Collectors.counting()));
-        analytics.setStatusDistribution(statusDistribution);
-
-        // Get task distribution by priority
-        Map<TaskPriority, Long> priorityDistribution = assignedTasks.stream()
-                .collect(Collectors.groupingBy(Task::getPriority, Collectors.counting()));
-        analytics.setPriorityDistribution(priorityDistribution);
+        analytics.setStatusDistribution(assigned.getStatusDistribution());
+        analytics.setPriorityDistribution(assigned.getPriorityDistribution());
 
         return analytics;
     }
@@ -149,47 +102,20 @@ public class AnalyticsService {
         // Get total counts
         analytics.setTotalUsers(userRepository.count());
         analytics.setTotalBoards(boardRepository.count());
-        analytics.setTotalTasks((int) taskRepository.count());
         analytics.setTotalComments(commentRepository.count());
 
         // Get active users (users with activity in last 30 days)
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        long activeUsers = userRepository.findAll().stream()
-                .filter(user -> user.getLastLoginAt() != null && user.getLastLoginAt().isAfter(thirtyDaysAgo))
-                .count();
-        analytics.setActiveUsers(activeUsers);
-
-        // Get task statistics
-        List<Task> allTasks = taskRepository.findAll();
-        analytics.setTotalTasks((int) taskRepository.count());
-        
-        long completedTasks = allTasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.DONE)
-                .count();
-        analytics.setCompletedTasks((int) completedTasks);
-
-        long overdueTasks = allTasks.stream()
-                .filter(task -> task.getDueDate() != null && task.getDueDate().isBefore(LocalDateTime.now()))
-                .count();
-        analytics.setOverdueTasks((int) overdueTasks);
-
-        // Calculate average completion time
-        double avgCompletionTime = allTasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.DONE && task.getCreatedAt() != null)
-                .mapToLong(task -> ChronoUnit.DAYS.between(task.getCreatedAt(), LocalDateTime.now()))
-                .average()
-                .orElse(0.0);
-        analytics.setAverageCompletionTime(avgCompletionTime);
-
-        // Get task distribution by status
-        Map<TaskStatus, Long> statusDistribution = allTasks.stream()
-                .collect(Collectors.groupingBy(Task::getStatus, Collectors.counting()));
-        analytics.setStatusDistribution(statusDistribution);
-
-        // Get task distribution by priority
-        Map<TaskPriority, Long> priorityDistribution = allTasks.stream()
-                .collect(Collectors.groupingBy(Task::getPriority, Collectors.counting()));
-        analytics.setPriorityDistribution(priorityDistribution);
+        analytics.setActiveUsers(userRepository.countByLastLoginAtAfter(LocalDateTime.now().minusDays(30)));
+
+        // Task statistics come from the incrementally maintained aggregates
+        TaskAnalyticsStore.Totals totals = taskAnalyticsStore.systemTotals(LocalDateTime.now());
+        analytics.setTotalTasks((int) totals.getTotal());
+        analytics.setCompletedTasks((int) totals.getCompleted());
+        analytics.setOverdueTasks((int) totals.getOverdue());
+        // Fractional days; before the aggregates each task's age was truncated to whole days first
+        analytics.setAverageCompletionTime(totals.getAverageDaysSinceCreatedOfCompleted());
+        analytics.setStatusDistribution(totals.getStatusDistribution());
+        analytics.setPriorityDistribution(totals.getPriorityDistribution());
 
         return analytics;
     }
@@ -203,40 +129,28 @@ public class AnalyticsService {
         metrics.setFromDate(fromDate);
         metrics.setToDate(toDate);
 
-        boardRepository.findById(boardId)
-                .orElseThrow(() -> new RuntimeException("Board not found"));
+        if (!boardRepository.existsById(boardId)) {
+            throw new RuntimeException("Board not found");
+        }
 
-        // Get tasks created in date range
-        List<Task> tasksInRange = taskRepository.findAll().stream()
-                .filter(task -> task.getColumn() != null && 
-                               task.getColumn().getBoard() != null && 
-                               task.getColumn().getBoard().getId().equals(boardId) &&
-                               task.getCreatedAt() != null && 
-                               task.getCreatedAt().isAfter(fromDate) && 
-                               task.getCreatedAt().isBefore(toDate))
-                .collect(Collectors.toList());
-
-        metrics.setTasksCreated(tasksInRange.size());
-
-        // Get tasks completed in date range
-        long tasksCompleted = tasksInRange.stream()
-                .filter(task -> task.getStatus() == TaskStatus.DONE)
-                .count();
+        // Arbitrary date ranges are answered by a single aggregate query
+        TaskRepository.TaskRangeCounts counts = taskRepository.countCreatedBetween(boardId, fromDate, toDate,
+                LocalDateTime.now());
+        long tasksCreated = counts.getCreated();
+        long tasksCompleted = counts.getCompleted();
+        metrics.setTasksCreated((int) tasksCreated);
         metrics.setTasksCompleted((int) tasksCompleted);
 
         // Calculate completion rate
-        if (tasksInRange.size() > 0) {
-            double completionRate = (double) tasksCompleted / tasksInRange.size() * 100;
+        if (tasksCreated > 0) {
+            double completionRate = (double) tasksCompleted / tasksCreated * 100;
             metrics.setCompletionRate(completionRate);
         }
 
-        // Calculate average task duration
-        double avgTaskDuration = tasksInRange.stream()
-                .filter(task -> task.getStatus() == TaskStatus.DONE && task.getCreatedAt() != null)
-                .mapToLong(task -> ChronoUnit.DAYS.between(task.getCreatedAt(), LocalDateTime.now()))
-                .average()
-                .orElse(0.0);
-        metrics.setAverageTaskDuration(avgTaskDuration);
+        // Calculate average task duration (fractional days since creation of completed tasks)
+        if (counts.getAverageCompletedAgeSeconds() != null) {
+            metrics.setAverageTaskDuration(counts.getAverageCompletedAgeSeconds().doubleValue() / (24 * 60 * 60));
+        }
 
         return metrics;
     }
@@ -0,0 +1,196 @@
+package com.kanban.board.application;
+
+import com.kanban.board.interfaces.websocket.BoardPatchEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Collects the patch events of a board for a short window and hands them over as one batch.
+ * The window starts with the first event, so no event waits longer than window-ms, and a batch
+ * reaching max-events goes out right away. Consecutive moves or updates of the same task are
+ * merged into one event. A window of 0 hands every event over as it comes. A board's batch is
+ * dropped once delivered, so only boards with events in flight hold one.
+ */
+@Slf4j
+@Component
+public class BoardBroadcastCoalescer {
+
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final long windowMillis;
+    private final int maxEvents;
+
+    private final Counter received;
+    private final Counter merged;
+    private final Counter sent;
+    private final Counter saved;
+    private final Timer delay;
+
+    public BoardBroadcastCoalescer(MeterRegistry meterRegistry,
+                                   @Value("${app.board.broadcast.window-ms:30}") long windowMillis,
+                                   @Value("${app.board.broadcast.max-events:100}") int maxEvents) {
+        this.windowMillis = windowMillis;
+        this.maxEvents = maxEvents;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.received = meterRegistry.counter("board.broadcast.events");
+        this.merged = meterRegistry.counter("board.broadcast.events.merged");
+        this.sent = meterRegistry.counter("board.broadcast.messages");
+        this.saved = meterRegistry.counter("board.broadcast.messages.saved");
+        this.delay = meterRegistry.timer("board.broadcast.delay");
+    }
+
+    /**
+     * Add an event to the board's current batch; the sink gets the batch once the window closes
+     */
+    public void add(Long boardId, BoardPatchEvent event, BiConsumer<Long, List<BoardPatchEvent>> sink) {
+        received.increment();
+        if (windowMillis <= 0) {
+            deliver(boardId, List.of(event), 1, System.nanoTime(), sink);
+            return;
+        }
+        while (true) {
+            Pending batch = pending.computeIfAbsent(boardId, id -> new Pending());
+            synchronized (batch) {
+                if (batch.removed) {
+                    // Delivered and dropped after it was looked up; the next lookup creates a new one
+                    continue;
+                }
+                if (batch.events.isEmpty()) {
+                    batch.startedAt = System.nanoTime();
+                    batch.sink = sink;
+                    long generation = ++batch.generation;
+                    schedule(() -> flush(boardId, batch, generation));
+                }
+                batch.received++;
+                if (merge(batch.events, event)) {
+                    merged.increment();
+                } else {
+                    batch.events.add(event);
+                }
+                if (batch.events.size() >= maxEvents) {
+                    batch.generation++;
+                    batch.deliver(boardId);
+                }
+                return;
+            }
+        }
+    }
+
+    private void flush(Long boardId, Pending batch, long generation) {
+        synchronized (batch) {
+            // A batch that already went out for being full has a newer generation
+            if (batch.generation == generation) {
+                batch.deliver(boardId);
+            }
+        }
+    }
+
+    private void schedule(Runnable flush) {
+        try {
+            scheduler.schedule(flush, windowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flush.run();
+        }
+    }
+
+    private void deliver(Long boardId, List<BoardPatchEvent> events, int receivedCount, long startedAt,
+                         BiConsumer<Long, List<BoardPatchEvent>> sink) {
+        try {
+            sink.accept(boardId, events);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast {} events of board {}: {}", events.size(), boardId, e.getMessage());
+            return;
+        }
+        sent.increment();
+        saved.increment(receivedCount - 1);
+        delay.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Fold the next event into the last one when both move, or both update, the same task.
+     * Only the last event is considered, so the order of changes to different tasks is kept.
+     */
+    static boolean merge(List<BoardPatchEvent> events, BoardPatchEvent next) {
+        if (events.isEmpty() || next.getTaskId() == null) {
+            return false;
+        }
+        BoardPatchEvent last = events.get(events.size() - 1);
+        if (!next.getTaskId().equals(last.getTaskId()) || !next.getKind().equals(last.getKind())) {
+            return false;
+        }
+        if (BoardPatchEvent.TASK_MOVED.equals(next.getKind())) {
+            // Moves are absolute, so the last destination is all that matters
+            last.setToColumnId(next.getToColumnId());
+            last.setToPosition(next.getToPosition());
+        } else if (BoardPatchEvent.TASK_UPDATED.equals(next.getKind())) {
+            Map<String, Object> changes = new LinkedHashMap<>(last.getChanges());
+            changes.putAll(next.getChanges());
+            last.setChanges(changes);
+        } else {
+            return false;
+        }
+        last.setTimestamp(next.getTimestamp());
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        pending.forEach((boardId, batch) -> {
+            synchronized (batch) {
+                batch.deliver(boardId);
+            }
+        });
+    }
+
+    int pendingBoards() {
+        return pending.size();
+    }
+
+    private class Pending {
+        private final List<BoardPatchEvent> events = new ArrayList<>();
+        private BiConsumer<Long, List<BoardPatchEvent>> sink;
+        private long startedAt;
+        private long generation;
+        private int received;
+        private boolean removed;
+
+        // Called holding the lock, so batches of a board go out in order
+        private void deliver(Long boardId) {
+            if (events.isEmpty()) {
+                return;
+            }
+            List<BoardPatchEvent> batch = List.copyOf(events);
+            int receivedCount = received;
+            events.clear();
+            received = 0;
+            try {
+                BoardBroadcastCoalescer.this.deliver(boardId, batch, receivedCount, startedAt, sink);
+            } finally {
+                // Still under the lock, so an add that finds this batch afterwards sees it removed
+                removed = true;
+                sink = null;
+                pending.remove(boardId, this);
+            }
+        }
+    }
+}
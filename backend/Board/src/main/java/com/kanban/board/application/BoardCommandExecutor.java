@@ -0,0 +1,207 @@
+package com.kanban.board.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+
+
+
+/**
+ * Runs board mutations one at a time per board, in submission order, on a shared pool of
+ * workers, so different boards still proceed in parallel. Each board has a mailbox; a worker
+ * takes whatever has queued up (at most max-batch commands) and runs it in one transaction,
+ * flushing after each command so a failure is tied to the command that caused it. When one
+ * fails, the transaction is rolled back, the failed command is reported to its failure
+ * callback (outside any transaction) and the others run again without it. Commands run with
+ * the security context of the thread that submitted them. Mailboxes of idle boards are removed.
+ */
+@Slf4j
+@Component
+public class BoardCommandExecutor {
+
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+    private final TransactionTemplate transaction;
+    private final int maxBatch;
+
+    private final DistributionSummary batchSizes;
+    private final Counter retried;
+
+    public BoardCommandExecutor(PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.board.commands.threads:4}") int threads,
+                                @Value("${app.board.commands.max-batch:50}") int maxBatch) {
+        AtomicInteger count = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "board-commands-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.maxBatch = maxBatch;
+        this.batchSizes = meterRegistry.summary("board.commands.batch.size");
+        this.retried = meterRegistry.counter("board.commands.retried");
+    }
+
+    /**
+     * Queue a mutation of a board; it runs after every command submitted for the board before it
+     */
+    public void submit(Long boardId, Runnable command) {
+        submit(boardId, command, e -> { });
+    }
+
+    /**
+     * Queue a mutation of a board, with a callback told of its failure once it has been rolled back
+     */
+    public void submit(Long boardId, Runnable command, Consumer<RuntimeException> onFailure) {
+        Command queued = new Command(new DelegatingSecurityContextRunnable(command, SecurityContextHolder.getContext()),
+                onFailure);
+        // Queued under the map's lock, so an idle mailbox is never removed with a command in it
+        Mailbox mailbox = mailboxes.compute(boardId, (id, existing) -> {
+            Mailbox target = existing != null ? existing : new Mailbox(id);
+            target.commands.add(queued);
+            return target;
+        });
+        schedule(mailbox);
+    }
+
+    int mailboxCount() {
+        return mailboxes.size();
+    }
+
+    private void schedule(Mailbox mailbox) {
+        if (!mailbox.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            workers.execute(() -> drain(mailbox));
+        } catch (RejectedExecutionException e) {
+            // Shutting down: finish the board's commands on the caller
+            drain(mailbox);
+        }
+    }
+
+    private void drain(Mailbox mailbox) {
+        List<Command> batch = new ArrayList<>();
+        Command command;
+        while (batch.size() < maxBatch && (command = mailbox.commands.poll()) != null) {
+            batch.add(command);
+        }
+        try {
+            run(batch);
+        } finally {
+            mailbox.scheduled.set(false);
+            // Commands that arrived meanwhile go back to the pool, letting other boards take turns
+            if (!mailbox.commands.isEmpty()) {
+                schedule(mailbox);
+            } else {
+                mailboxes.computeIfPresent(mailbox.boardId, (id, current) ->
+                        current == mailbox && current.commands.isEmpty() && !current.scheduled.get() ? null : current);
+            }
+        }
+    }
+
+    private void run(List<Command> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizes.record(batch.size());
+        List<Command> pending = new ArrayList<>(batch);
+        while (!pending.isEmpty()) {
+            int[] running = {-1};
+            try {
+                transaction.executeWithoutResult(status -> {
+                    for (int i = 0; i < pending.size(); i++) {
+                        running[0] = i;
+                        pending.get(i).action.run();
+                        status.flush();
+                    }
+                    running[0] = -1;
+                });
+                return;
+            } catch (RuntimeException e) {
+                if (running[0] < 0) {
+                    // The commit failed rather than a command, so it cannot be pinned on one
+                    log.debug("Commit of {} board commands failed, running them one by one: {}", pending.size(), e.getMessage());
+                    retried.increment(pending.size());
+                    pending.forEach(this::runAlone);
+                    return;
+                }
+                failed(pending.remove(running[0]), e);
+                retried.increment(running[0]);
+            }
+        }
+    }
+
+    private void runAlone(Command command) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                command.action.run();
+                status.flush();
+            });
+        } catch (RuntimeException e) {
+            failed(command, e);
+        }
+    }
+
+    private void failed(Command command, RuntimeException e) {
+        log.warn("Board command failed: {}", e.getMessage());
+        try {
+            command.onFailure.accept(e);
+        } catch (RuntimeException callbackFailure) {
+            log.warn("Board command failure callback failed: {}", callbackFailure.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Command {
+        private final Runnable action;
+        private final Consumer<RuntimeException> onFailure;
+
+        private Command(Runnable action, Consumer<RuntimeException> onFailure) {
+            this.action = action;
+            this.onFailure = onFailure;
+        }
+    }
+
+    private static class Mailbox {
+        private final Long boardId;
+        private final Queue<Command> commands = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(Long boardId) {
+            this.boardId = boardId;
+        }
+    }
+}
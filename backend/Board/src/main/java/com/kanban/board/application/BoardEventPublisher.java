@@ -0,0 +1,228 @@
+package com.kanban.board.application;
+
+import com.kanban.board.domain.repository.BoardRepository;
+import com.kanban.board.interfaces.websocket.BoardPatchBatch;
+import com.kanban.board.interfaces.websocket.BoardPatchEvent;
+import com.kanban.board.interfaces.websocket.WebSocketResponse;
+import com.kanban.shared.infrastructure.TaskMapper;
+import com.kanban.task.domain.model.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+
+
+/**
+ * Publishes typed board patch events with per-board sequence numbers.
+ * Events are sent after the surrounding transaction commits, coalesced per board by
+ * BoardBroadcastCoalescer; patches are absolute (move to column/position, upsert by id,
+ * delete by id) so re-applying one is harmless. With the broker relay, every node publishes
+ * for the same boards, so the sequences are kept in the board rows instead of in memory; sends
+ * of different nodes may then arrive out of sequence order, which clients treat as a gap and
+ * resolve by reloading the snapshot.
+ */
+@Service
+public class BoardEventPublisher {
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private BoardBroadcastCoalescer coalescer;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    private final Map<Long, AtomicLong> sequences = new ConcurrentHashMap<>();
+
+    // Sequences start from the startup time so they keep increasing across restarts and clients notice the gap
+    private final long initialSequence = System.currentTimeMillis() * 1000;
+
+    /**
+     * Sequence of the last event published for a board
+     */
+    public long currentSequence(Long boardId) {
+        if (sharedSequences()) {
+            return boardRepository.findEventSequence(boardId).orElse(0L);
+        }
+        AtomicLong sequence = sequences.get(boardId);
+        return sequence != null ? sequence.get() : initialSequence;
+    }
+
+    public void taskCreated(Long boardId, Task task) {
+        BoardPatchEvent event = new BoardPatchEvent(BoardPatchEvent.TASK_CREATED, task.getId());
+        event.setToColumnId(task.getColumn() != null ? task.getColumn().getId() : null);
+        event.setToPosition(task.getPosition());
+        event.setTask(TaskMapper.toPreviewDTO(task));
+        publish(boardId, event);
+    }
+
+    public void taskMoved(Long boardId, Long taskId, Long fromColumnId, Integer fromPosition,
+                          Long toColumnId, Integer toPosition) {
+        if (Objects.equals(fromColumnId, toColumnId) && Objects.equals(fromPosition, toPosition)) {
+            return;
+        }
+        BoardPatchEvent event = new BoardPatchEvent(BoardPatchEvent.TASK_MOVED, taskId);
+        event.setFromColumnId(fromColumnId);
+        event.setFromPosition(fromPosition);
+        event.setToColumnId(toColumnId);
+        event.setToPosition(toPosition);
+        publish(boardId, event);
+    }
+
+    /**
+     * Publish the fields that differ from a snapshot taken with {@link #fieldsOf(Task)}
+     */
+    public void taskUpdated(Long boardId, Map<String, Object> before, Task after) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        fieldsOf(after).forEach((field, value) -> {
+            if (!Objects.equals(before.get(field), value)) {
+                changes.put(field, value);
+            }
+        });
+        if (changes.isEmpty()) {
+            return;
+        }
+        BoardPatchEvent event = new BoardPatchEvent(BoardPatchEvent.TASK_UPDATED, after.getId());
+        event.setChanges(changes);
+        publish(boardId, event);
+    }
+
+    public void taskDeleted(Long boardId, Long taskId, Long columnId, Integer position) {
+        BoardPatchEvent event = new BoardPatchEvent(BoardPatchEvent.TASK_DELETED, taskId);
+        event.setFromColumnId(columnId);
+        event.setFromPosition(position);
+        publish(boardId, event);
+    }
+
+    /**
+     * One event for all tasks of a board touched by a bulk operation; updates carry the changed fields
+     */
+    public void tasksChanged(Long boardId, String kind, List<Long> taskIds, Map<String, Object> changes) {
+        BoardPatchEvent event = new BoardPatchEvent(kind, null);
+        event.setTaskIds(taskIds);
+        event.setChanges(changes);
+        publish(boardId, event);
+    }
+
+    /**
+     * Bulk move onto this board: the tasks were appended to the column in the given order
+     */
+    public void tasksMoved(Long boardId, List<Task> tasks, Long toColumnId) {
+        BoardPatchEvent event = new BoardPatchEvent(BoardPatchEvent.TASKS_MOVED, null);
+        event.setTaskIds(tasks.stream().map(Task::getId).toList());
+        event.setTasks(tasks.stream().map(TaskMapper::toPreviewDTO).toList());
+        event.setToColumnId(toColumnId);
+        publish(boardId, event);
+    }
+
+    /**
+     * The board's own fields, columns or labels changed; advances the sequence, so encodings cached
+     * on any node are rebuilt, and tells clients to reload the snapshot
+     */
+    public void boardChanged(Long boardId) {
+        publish(boardId, new BoardPatchEvent(BoardPatchEvent.BOARD_CHANGED, null));
+    }
+
+    /**
+     * Tell a board's subscribers that a command failed. Like patch events it is sent only once the
+     * surrounding transaction is over, but also when that transaction rolls back, as failures often do.
+     */
+    public void rejected(Long boardId, WebSocketResponse response) {
+        String destination = "/topic/board/" + boardId;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    messagingTemplate.convertAndSend(destination, response);
+                }
+            });
+        } else {
+            messagingTemplate.convertAndSend(destination, response);
+        }
+    }
+
+    /**
+     * The task fields tracked by update patches
+     */
+    public static Map<String, Object> fieldsOf(Task task) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("title", task.getTitle());
+        fields.put("description", task.getDescription());
+        fields.put("priority", task.getPriority() != null ? task.getPriority().name() : null);
+        fields.put("status", task.getStatus() != null ? task.getStatus().name() : null);
+        fields.put("dueDate", task.getDueDate());
+        fields.put("assigneeId", task.getAssignee() != null ? task.getAssignee().getId() : null);
+        return fields;
+    }
+
+    private void publish(Long boardId, BoardPatchEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    coalescer.add(boardId, event, BoardEventPublisher.this::send);
+                }
+            });
+        } else {
+            coalescer.add(boardId, event, this::send);
+        }
+    }
+
+    /**
+     * Number a batch of events and send it as one message, or as a plain event when it holds just one
+     */
+    private void send(Long boardId, List<BoardPatchEvent> events) {
+        if (sharedSequences()) {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            // May run in an afterCommit callback, where joining the finished transaction would never commit
+            transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            // Numbered in a short transaction of its own and sent once it committed, so broker latency
+            // never holds the board row lock
+            Long last = transaction.execute(status -> {
+                boardRepository.advanceEventSequence(boardId, events.size());
+                return boardRepository.findEventSequence(boardId).orElse(0L);
+            });
+            deliver(boardId, events, last != null ? last : 0L);
+            return;
+        }
+        AtomicLong sequence = sequences.computeIfAbsent(boardId, id -> new AtomicLong(initialSequence));
+        // Numbering and sending under one lock keeps delivery order equal to sequence order
+        synchronized (sequence) {
+            deliver(boardId, events, sequence.addAndGet(events.size()));
+        }
+    }
+
+    private void deliver(Long boardId, List<BoardPatchEvent> events, long last) {
+        long next = last - events.size();
+        for (BoardPatchEvent event : events) {
+            event.setBoardId(boardId);
+            event.setSequence(++next);
+        }
+        Object message = events.size() == 1 ? events.get(0) : new BoardPatchBatch(boardId, events);
+        messagingTemplate.convertAndSend("/topic/board/" + boardId, message);
+    }
+
+    private boolean sharedSequences() {
+        return "relay".equals(brokerMode);
+    }
+}
@@ -1,17 +1,29 @@
 package com.kanban.board.application;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
 import org.springframework.stereotype.Service;
 import com.kanban.board.domain.model.Board;
 import com.kanban.board.domain.model.BoardRoleType;
 import com.kanban.user.domain.model.User;
 import com.kanban.board.domain.model.UserBoardRole;
 import com.kanban.board.domain.repository.UserBoardRoleRepository;
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
 public class BoardRoleService {
+
+    static final String PERMISSIONS_CACHE = "permissions";
+
     @Autowired
     private UserBoardRoleRepository userBoardRoleRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
     
     public void assignRoleToUser(User user, Board board, BoardRoleType role) {
         UserBoardRole userBoardRole = new UserBoardRole();
@@ -22,8 +34,47 @@ public class BoardRoleService {
     }
 
     public BoardRoleType getUserRoleForBoard(User user, Long boardId) {
-        return userBoardRoleRepository.findByUserAndBoardId(user, boardId)
-                .map(UserBoardRole::getRole)
-                .orElse(null);
+        return user != null ? getUserRoleForBoard(user.getId(), boardId) : null;
+    }
+
+    /**
+     * Role of a user on a board, or null; answered from the user's cached board roles
+     */
+    public BoardRoleType getUserRoleForBoard(Long userId, Long boardId) {
+        if (userId == null || boardId == null) {
+            return null;
+        }
+        return getBoardRoles(userId).get(boardId);
+    }
+
+    /**
+     * All board roles of a user, loaded with one query and cached in "permissions" until
+     * a role of the user changes (see CacheInvalidationListener)
+     */
+    public Map<Long, BoardRoleType> getBoardRoles(Long userId) {
+        Cache cache = cacheManager != null ? cacheManager.getCache(PERMISSIONS_CACHE) : null;
+        if (cache == null) {
+            return loadBoardRoles(userId);
+        }
+        return cache.get(userId, () -> loadBoardRoles(userId));
+    }
+
+    /**
+     * Warm the permission cache when a user logs in, so their first board requests do not query roles
+     */
+    @EventListener
+    public void onLogin(AuthenticationSuccessEvent event) {
+        if (event.getAuthentication().getPrincipal() instanceof User user && user.getId() != null) {
+            getBoardRoles(user.getId());
+        }
+    }
+
+    private Map<Long, BoardRoleType> loadBoardRoles(Long userId) {
+        Map<Long, BoardRoleType> roles = new HashMap<>();
+        for (UserBoardRoleRepository.BoardRoleView row : userBoardRoleRepository.findBoardRolesByUserId(userId)) {
+            // A user holding several roles on a board gets the strongest one (ADMIN first)
+            roles.merge(row.getBoardId(), row.getRole(), (a, b) -> a.compareTo(b) <= 0 ? a : b);
+        }
+        return Map.copyOf(roles);
     }
 }
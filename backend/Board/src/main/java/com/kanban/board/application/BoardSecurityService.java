@@ -1,9 +1,8 @@
 package com.kanban.board.application;
 
 import com.kanban.board.domain.model.BoardRoleType;
+import com.kanban.shared.infrastructure.config.AuthenticatedUser;
 import com.kanban.user.domain.model.User;
-import com.kanban.board.domain.repository.UserBoardRoleRepository;
-import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -14,15 +13,11 @@ import org.springframework.stereotype.Service;
 
 @Service
 public class BoardSecurityService {
-    @Autowired
-    private UserBoardRoleRepository userBoardRoleRepository;
-
     @Autowired
     private BoardRoleService boardRoleService;
 
     public boolean hasBoardPermission(Authentication authentication, Long boardId, BoardRoleType requiredRole) {
-        User user = (User) authentication.getPrincipal();
-        BoardRoleType userRole = boardRoleService.getUserRoleForBoard(user, boardId);
+        BoardRoleType userRole = boardRoleService.getUserRoleForBoard(userIdOf(authentication), boardId);
         
         return switch (requiredRole) {
             case ADMIN -> userRole == BoardRoleType.ADMIN;
@@ -32,11 +27,16 @@ public class BoardSecurityService {
     }
 
     public boolean hasBoardAccess(Authentication authentication, Long boardId) {
-        User user = (User) authentication.getPrincipal();
-        return userBoardRoleRepository.existsByUserAndBoardIdAndRoleIn(
-                user,
-                boardId,
-                List.of(BoardRoleType.ADMIN, BoardRoleType.WRITER, BoardRoleType.READER)
-        );
+        // Every role grants access
+        return boardRoleService.getUserRoleForBoard(userIdOf(authentication), boardId) != null;
+    }
+
+    // Token requests carry an AuthenticatedUser, other authentications may carry the User entity
+    private static Long userIdOf(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+        return principal instanceof User user ? user.getId() : null;
     }
 }
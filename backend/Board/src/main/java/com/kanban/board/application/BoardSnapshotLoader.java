@@ -0,0 +1,103 @@
+package com.kanban.board.application;
+
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.domain.repository.BoardRepository;
+import com.kanban.board.domain.repository.ColumnRepository;
+import com.kanban.board.interfaces.rest.BoardDTO;
+import com.kanban.board.interfaces.rest.ColumnDTO;
+import com.kanban.shared.infrastructure.BoardMapper;
+import com.kanban.shared.infrastructure.ColumnMapper;
+import com.kanban.shared.infrastructure.LabelMapper;
+import com.kanban.shared.infrastructure.LabelRepository;
+import com.kanban.shared.interfaces.rest.LabelDTO;
+import com.kanban.task.domain.repository.TaskRepository;
+import com.kanban.task.interfaces.rest.TaskDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+
+
+
+/**
+ * Assembles full board DTOs from four queries per chunk of boards (boards with creators,
+ * columns, task previews and labels) instead of walking the entity graph, where every
+ * column, task and user triggers loads of its own.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BoardSnapshotLoader {
+
+    // Boards per round of queries, well below the bind parameter limits of common databases
+    static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    public Optional<BoardDTO> load(Long boardId) {
+        return loadAll(List.of(boardId)).stream().findFirst();
+    }
+
+    /**
+     * Boards in the given order; unknown ids are skipped
+     */
+    public List<BoardDTO> loadAll(Collection<Long> boardIds) {
+        List<Long> ids = boardIds.stream().distinct().toList();
+        Map<Long, BoardDTO> boards = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            loadChunk(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())))
+                    .forEach(board -> boards.put(board.getId(), board));
+        }
+        return ids.stream().map(boards::get).filter(Objects::nonNull).toList();
+    }
+
+    private List<BoardDTO> loadChunk(List<Long> ids) {
+        List<Board> boards = boardRepository.findWithCreatorByIdIn(ids);
+        if (boards.isEmpty()) {
+            return List.of();
+        }
+
+        // Previews arrive grouped by column and already in display order
+        Map<Long, List<TaskDTO>> tasksByColumn = new HashMap<>();
+        for (TaskRepository.TaskPreview task : taskRepository.findPreviewsByBoardIdIn(ids)) {
+            tasksByColumn.computeIfAbsent(task.getColumnId(), key -> new ArrayList<>())
+                    .add(new TaskDTO(task.getId(), task.getTitle(), task.getPosition()));
+        }
+
+        // Columns and labels reference boards already in the persistence context, so no further loads
+        Map<Long, List<ColumnDTO>> columnsByBoard = new LinkedHashMap<>();
+        for (BoardColumn column : columnRepository.findByBoardIdIn(ids)) {
+            List<TaskDTO> tasks = tasksByColumn.getOrDefault(column.getId(), new ArrayList<>());
+            columnsByBoard.computeIfAbsent(column.getBoard().getId(), key -> new ArrayList<>())
+                    .add(ColumnMapper.toDTO(column, tasks));
+        }
+        Map<Long, List<LabelDTO>> labelsByBoard = new HashMap<>();
+        labelRepository.findByBoardIdIn(ids).forEach(label -> labelsByBoard
+                .computeIfAbsent(label.getBoard().getId(), key -> new ArrayList<>())
+                .add(LabelMapper.toDTO(label)));
+
+        return boards.stream()
+                .map(board -> BoardMapper.toDTO(board,
+                        columnsByBoard.getOrDefault(board.getId(), new ArrayList<>()),
+                        labelsByBoard.getOrDefault(board.getId(), new ArrayList<>())))
+                .toList();
+    }
+}
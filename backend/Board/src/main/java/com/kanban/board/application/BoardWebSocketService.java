@@ -13,10 +13,11 @@ import com.kanban.task.domain.model.TaskStatus;
 import com.kanban.board.domain.repository.BoardRepository;
 import com.kanban.board.domain.repository.ColumnRepository;
 import com.kanban.task.domain.repository.TaskRepository;
+import com.kanban.task.application.TaskPositionService;
 import com.kanban.board.interfaces.websocket.*;
 import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,6 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class BoardWebSocketService {
 
@@ -37,11 +39,14 @@ public class BoardWebSocketService {
     private ColumnRepository columnRepository;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private TaskPositionService taskPositionService;
+
+    @Autowired
+    private BoardEventPublisher boardEventPublisher;
 
     @Transactional
     public BoardDTO handleBoardUpdate(Long boardId, BoardDTO updatedBoardDTO) {
-        System.out.println("Handling board update for board: " + boardId);
+        log.debug("Handling board update for board {}", boardId);
         Board existingBoard = boardRepository.findById(boardId)
                 .orElseThrow(() -> new RuntimeException("Board not found with id: " + boardId));
 
@@ -51,228 +56,124 @@ public class BoardWebSocketService {
         return BoardMapper.toDTO(savedBoard);
     }
 
+    /**
+     * Failures are thrown, not answered: the command executor rolls the command back and then
+     * reports it through {@link #rejected}, so no error frame leaves for work that is later redone
+     */
     @Transactional
     public WebSocketResponse handleTaskMove(TaskMoveMessage message) {
-        try {
-            System.out.println("Handling task move: " + message.getTaskId());
-            
-            Task task = taskRepository.findById(message.getTaskId())
-                    .orElseThrow(() -> new RuntimeException("Task not found with id: " + message.getTaskId()));
-            
-            BoardColumn newColumn = columnRepository.findById(message.getCurrentColumnId())
-                    .orElseThrow(() -> new RuntimeException("Column not found with id: " + message.getCurrentColumnId()));
-            
-            // Update task column and position
-            task.setColumn(newColumn);
-            
-            // Set the new position based on the current index from the drag and drop operation
-            if (message.getCurrentIndex() != null) {
-                task.setPosition(message.getCurrentIndex());
-            }
-            
-            taskRepository.save(task);
-            taskRepository.flush(); // Force flush to ensure changes are persisted
-            
-            // Get updated board state with columns
-            Board board = boardRepository.findWithColumnsAndTasksById(message.getBoardId())
-                    .orElseThrow(() -> new RuntimeException("Board not found with id: " + message.getBoardId()));
-            
-            // Manually load tasks for each column with position ordering
-            board.getColumns().forEach(col -> {
-                List<Task> tasks = taskRepository.findByColumnIdOrderByPositionAsc(col.getId());
-                // Clear and add tasks to avoid orphan deletion issues
-                col.getTasks().clear();
-                col.getTasks().addAll(tasks);
-            });
-            
-            BoardDTO boardDTO = BoardMapper.toDTO(board);
-            
-            // Send response to all clients
-            WebSocketResponse response = new WebSocketResponse(
-                "TASK_MOVE_RESPONSE", 
-                "SUCCESS", 
-                "Task moved successfully", 
-                boardDTO
-            );
-            
-            System.out.println("Sending WebSocket response: " + response);
-            messagingTemplate.convertAndSend("/topic/board/" + message.getBoardId(), response);
-            
-            return response;
-        } catch (Exception e) {
-            System.err.println("Error handling task move: " + e.getMessage());
-            WebSocketResponse errorResponse = new WebSocketResponse(
-                "TASK_MOVE_RESPONSE", 
-                "ERROR", 
-                "Failed to move task: " + e.getMessage()
-            );
-            
-            messagingTemplate.convertAndSend("/topic/board/" + message.getBoardId(), errorResponse);
-            return errorResponse;
+        log.debug("Handling task move: {}", message.getTaskId());
+
+        Task task = taskRepository.findById(message.getTaskId())
+                .orElseThrow(() -> new RuntimeException("Task not found with id: " + message.getTaskId()));
+        requireOnBoard(message.getBoardId(), task.getColumn());
+
+        BoardColumn newColumn = columnRepository.findById(message.getCurrentColumnId())
+                .orElseThrow(() -> new RuntimeException("Column not found with id: " + message.getCurrentColumnId()));
+        requireOnBoard(message.getBoardId(), newColumn);
+
+        Long fromColumnId = task.getColumn().getId();
+        Integer fromPosition = taskPositionService.currentIndex(task);
+
+        // Only the task's rank key is rewritten; a named neighbour is found without walking the column
+        if (message.getAfterTaskId() != null) {
+            taskPositionService.moveTaskAfter(task, newColumn, message.getAfterTaskId());
+        } else {
+            Integer targetPosition = message.getCurrentIndex() != null ? message.getCurrentIndex() : fromPosition;
+            taskPositionService.moveTaskToColumn(task, newColumn, targetPosition);
         }
+
+        boardEventPublisher.taskMoved(message.getBoardId(), task.getId(), fromColumnId, fromPosition,
+                newColumn.getId(), task.getPosition());
+
+        return new WebSocketResponse("TASK_MOVE_RESPONSE", "SUCCESS", "Task moved successfully");
     }
 
     @Transactional
     public WebSocketResponse handleTaskCreate(TaskCreateMessage message) {
-        try {
-            System.out.println("Handling task create in column: " + message.getColumnId());
-            
-            BoardColumn column = columnRepository.findById(message.getColumnId())
-                    .orElseThrow(() -> new RuntimeException("Column not found with id: " + message.getColumnId()));
-            
-            Task task = TaskMapper.toEntity(message.getTask());
-            task.setColumn(column);
-            
-            // Set position to the end of the column if not specified
-            if (task.getPosition() == null) {
-                Integer maxPosition = taskRepository.findMaxPositionByColumnId(column.getId());
-                task.setPosition(maxPosition != null ? maxPosition + 1 : 0);
-            }
-            
-            Task savedTask = taskRepository.save(task);
-            taskRepository.flush(); // Force flush to ensure changes are persisted
-            
-            // Get updated board state with columns
-            Board board = boardRepository.findWithColumnsAndTasksById(message.getBoardId())
-                    .orElseThrow(() -> new RuntimeException("Board not found with id: " + message.getBoardId()));
-            
-            // Manually load tasks for each column with position ordering
-            board.getColumns().forEach(col -> {
-                List<Task> tasks = taskRepository.findByColumnIdOrderByPositionAsc(col.getId());
-                // Clear and add tasks to avoid orphan deletion issues
-                col.getTasks().clear();
-                col.getTasks().addAll(tasks);
-            });
-            
-            BoardDTO boardDTO = BoardMapper.toDTO(board);
-            
-            WebSocketResponse response = new WebSocketResponse(
-                "TASK_CREATE_RESPONSE", 
-                "SUCCESS", 
-                "Task created successfully", 
-                boardDTO
-            );
-            
-            messagingTemplate.convertAndSend("/topic/board/" + message.getBoardId(), response);
-            
-            return response;
-        } catch (Exception e) {
-            System.err.println("Error handling task create: " + e.getMessage());
-            WebSocketResponse errorResponse = new WebSocketResponse(
-                "TASK_CREATE_RESPONSE", 
-                "ERROR", 
-                "Failed to create task: " + e.getMessage()
-            );
-            
-            messagingTemplate.convertAndSend("/topic/board/" + message.getBoardId(), errorResponse);
-            return errorResponse;
-        }
+        log.debug("Handling task create in column {}", message.getColumnId());
+
+        BoardColumn column = columnRepository.findById(message.getColumnId())
+                .orElseThrow(() -> new RuntimeException("Column not found with id: " + message.getColumnId()));
+        requireOnBoard(message.getBoardId(), column);
+
+        Task task = TaskMapper.toEntity(message.getTask());
+
+        // Insert at the requested position, or at the end of the column if not specified
+        Task savedTask = taskPositionService.moveTaskToColumn(task, column, message.getTask().getPosition());
+        boardEventPublisher.taskCreated(message.getBoardId(), savedTask);
+
+        return new WebSocketResponse("TASK_CREATE_RESPONSE", "SUCCESS", "Task created successfully");
     }
 
     @Transactional
     public WebSocketResponse handleTaskUpdate(TaskUpdateMessage message) {
-        try {
-            System.out.println("Handling task update: " + message.getTask().getId());
-            
-            Task existingTask = taskRepository.findById(message.getTask().getId())
-                    .orElseThrow(() -> new RuntimeException("Task not found with id: " + message.getTask().getId()));
-            
-            // Update task fields
-            existingTask.setTitle(message.getTask().getTitle());
-            existingTask.setDescription(message.getTask().getDescription());
-            existingTask.setDueDate(message.getTask().getDueDate());
-            
-            if (message.getTask().getPriority() != null) {
-                try {
-                    existingTask.setPriority(TaskPriority.valueOf(message.getTask().getPriority()));
-                } catch (IllegalArgumentException e) {
-                    // Keep existing priority if invalid value
-                }
+        log.debug("Handling task update: {}", message.getTask().getId());
+
+        Task existingTask = taskRepository.findById(message.getTask().getId())
+                .orElseThrow(() -> new RuntimeException("Task not found with id: " + message.getTask().getId()));
+        requireOnBoard(message.getBoardId(), existingTask.getColumn());
+        Map<String, Object> before = BoardEventPublisher.fieldsOf(existingTask);
+
+        // Update task fields
+        existingTask.setTitle(message.getTask().getTitle());
+        existingTask.setDescription(message.getTask().getDescription());
+        existingTask.setDueDate(message.getTask().getDueDate());
+
+        if (message.getTask().getPriority() != null) {
+            try {
+                existingTask.setPriority(TaskPriority.valueOf(message.getTask().getPriority()));
+            } catch (IllegalArgumentException e) {
+                // Keep existing priority if invalid value
             }
-            
-            if (message.getTask().getStatus() != null) {
-                try {
-                    existingTask.setStatus(TaskStatus.valueOf(message.getTask().getStatus()));
-                } catch (IllegalArgumentException e) {
-                    // Keep existing status if invalid value
-                }
+        }
+
+        if (message.getTask().getStatus() != null) {
+            try {
+                existingTask.setStatus(TaskStatus.valueOf(message.getTask().getStatus()));
+            } catch (IllegalArgumentException e) {
+                // Keep existing status if invalid value
             }
-            
-            taskRepository.save(existingTask);
-            taskRepository.flush(); // Force flush to ensure changes are persisted
-            
-            // Get updated board state with columns and tasks
-            Board board = boardRepository.findWithColumnsAndTasksById(message.getBoardId())
-                    .orElseThrow(() -> new RuntimeException("Board not found with id: " + message.getBoardId()));
-            
-            BoardDTO boardDTO = BoardMapper.toDTO(board);
-            
-            WebSocketResponse response = new WebSocketResponse(
-                "TASK_UPDATE_RESPONSE", 
-                "SUCCESS", 
-                "Task updated successfully", 
-                boardDTO
-            );
-            
-            messagingTemplate.convertAndSend("/topic/board/" + message.getBoardId(), response);
-            
-            return response;
-        } catch (Exception e) {
-            System.err.println("Error handling task update: " + e.getMessage());
-            WebSocketResponse errorResponse = new WebSocketResponse(
-                "TASK_UPDATE_RESPONSE", 
-                "ERROR", 
-                "Failed to update task: " + e.getMessage()
-            );
-            
-            messagingTemplate.convertAndSend("/topic/board/" + message.getBoardId(), errorResponse);
-            return errorResponse;
         }
+
+        Task savedTask = taskRepository.save(existingTask);
+        boardEventPublisher.taskUpdated(message.getBoardId(), before, savedTask);
+
+        return new WebSocketResponse("TASK_UPDATE_RESPONSE", "SUCCESS", "Task updated successfully");
     }
 
     @Transactional
     public WebSocketResponse handleTaskDelete(TaskDeleteMessage message) {
-        try {
-            System.out.println("Handling task delete: " + message.getTaskId());
-            
-            Task task = taskRepository.findById(message.getTaskId())
-                    .orElseThrow(() -> new RuntimeException("Task not found with id: " + message.getTaskId()));
-            
-            Long boardId = task.getColumn().getBoard().getId();
-            taskRepository.delete(task);
-            taskRepository.flush(); // Force flush to ensure changes are persisted
-            
-            // Get updated board state with columns
-            Board board = boardRepository.findWithColumnsAndTasksById(boardId)
-                    .orElseThrow(() -> new RuntimeException("Board not found with id: " + boardId));
-            
-            // Manually load tasks for each column to avoid multiple bag fetch issue
-            board.getColumns().forEach(col -> {
-                col.getTasks().size(); // Force lazy loading of tasks
-            });
-            
-            BoardDTO boardDTO = BoardMapper.toDTO(board);
-            
-            WebSocketResponse response = new WebSocketResponse(
-                "TASK_DELETE_RESPONSE", 
-                "SUCCESS", 
-                "Task deleted successfully", 
-                boardDTO
-            );
-            
-            messagingTemplate.convertAndSend("/topic/board/" + boardId, response);
-            
-            return response;
-        } catch (Exception e) {
-            System.err.println("Error handling task delete: " + e.getMessage());
-            WebSocketResponse errorResponse = new WebSocketResponse(
-                "TASK_DELETE_RESPONSE", 
-                "ERROR", 
-                "Failed to delete task: " + e.getMessage()
-            );
-            
-            messagingTemplate.convertAndSend("/topic/board/" + message.getBoardId(), errorResponse);
-            return errorResponse;
+        log.debug("Handling task delete: {}", message.getTaskId());
+
+        Task task = taskRepository.findById(message.getTaskId())
+                .orElseThrow(() -> new RuntimeException("Task not found with id: " + message.getTaskId()));
+        requireOnBoard(message.getBoardId(), task.getColumn());
+
+        Long columnId = task.getColumn().getId();
+        Integer position = taskPositionService.currentIndex(task);
+        taskRepository.delete(task);
+        boardEventPublisher.taskDeleted(message.getBoardId(), message.getTaskId(), columnId, position);
+
+        return new WebSocketResponse("TASK_DELETE_RESPONSE", "SUCCESS", "Task deleted successfully");
+    }
+
+    /**
+     * Tell the board's clients a command failed, e.g. "TASK_MOVE_RESPONSE", "move task"
+     */
+    public void rejected(Long boardId, String responseType, String action, RuntimeException e) {
+        log.warn("Error handling {} on board {}: {}", action, boardId, e.getMessage());
+        boardEventPublisher.rejected(boardId, new WebSocketResponse(
+                responseType,
+                "ERROR",
+                "Failed to " + action + ": " + e.getMessage()
+        ));
+    }
+
+    // Commands are serialised per board, so one may only touch the board it was routed by
+    private void requireOnBoard(Long boardId, BoardColumn column) {
+        if (column == null || column.getBoard() == null || !column.getBoard().getId().equals(boardId)) {
+            throw new IllegalArgumentException("Not on board " + boardId);
         }
     }
 
@@ -0,0 +1,168 @@
+package com.kanban.board.application;
+
+import com.kanban.board.interfaces.rest.BoardDTO;
+import com.kanban.shared.infrastructure.CacheVersions;
+import com.kanban.shared.infrastructure.WireCodec;
+import com.kanban.shared.infrastructure.WireFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+
+
+
+/**
+ * Full boards encoded as JSON once per board version and kept in the byte-weighted
+ * "boardFrames" cache, which is evicted together with "boards" on every write to the board.
+ * The same bytes answer every snapshot request and every full-board WebSocket send until
+ * the board changes, so serialization follows the number of changes, not of readers.
+ * Other wire formats are transcoded from the JSON on first request and kept alongside it.
+ * An encoding older than the board's patch sequence is rebuilt, which also catches changes
+ * made on other nodes, whose evictions never reach this one.
+ */
+@Component
+public class EncodedBoardCache {
+
+    public static final String CACHE = "boardFrames";
+
+    private final PerformanceService performanceService;
+    private final BoardEventPublisher boardEventPublisher;
+    private final CacheManager cacheManager;
+    private final CacheVersions cacheVersions;
+    private final WireCodec wireCodec;
+
+    private final Counter encoded;
+    private final Counter reused;
+
+    public EncodedBoardCache(PerformanceService performanceService,
+                             BoardEventPublisher boardEventPublisher,
+                             CacheManager cacheManager,
+                             CacheVersions cacheVersions,
+                             WireCodec wireCodec,
+                             MeterRegistry meterRegistry) {
+        this.performanceService = performanceService;
+        this.boardEventPublisher = boardEventPublisher;
+        this.cacheManager = cacheManager;
+        this.cacheVersions = cacheVersions;
+        this.wireCodec = wireCodec;
+        this.encoded = meterRegistry.counter("board.frames.encoded");
+        this.reused = meterRegistry.counter("board.frames.reused");
+    }
+
+    /**
+     * The encoded board, or empty if it does not exist
+     */
+    public Optional<EncodedBoard> get(Long boardId) {
+        // Read before loading, so a change published meanwhile leaves the encoding outdated, not the reverse
+        long sequence = boardEventPublisher.currentSequence(boardId);
+        Cache cache = cacheManager.getCache(CACHE);
+        EncodedBoard board = cache.get(boardId, EncodedBoard.class);
+        if (board != null && board.sequence() >= sequence) {
+            reused.increment();
+            return Optional.of(board);
+        }
+        if (board != null) {
+            // Patched since it was encoded, so the cached DTO may be just as old
+            performanceService.evictBoardCache(boardId);
+        }
+        long version = cacheVersions.version(CACHE, boardId);
+        BoardDTO dto = performanceService.getCachedBoard(boardId);
+        if (dto == null) {
+            return Optional.empty();
+        }
+        board = encode(dto, sequence);
+        cacheVersions.putIfCurrent(cache, boardId, board, version);
+        return Optional.of(board);
+    }
+
+    /**
+     * The board in the given format, transcoded from its JSON once per board version
+     */
+    public byte[] encoding(Long boardId, EncodedBoard board, WireFormat format) {
+        if (format == WireFormat.JSON) {
+            return board.json();
+        }
+        byte[] bytes = board.encodings.get(format);
+        if (bytes != null) {
+            reused.increment();
+            return bytes;
+        }
+        bytes = wireCodec.transcode(board.json(), format);
+        encoded.increment();
+        board.encodings.put(format, bytes);
+        // Put back to have the entry weighed again, unless the board changed meanwhile
+        Cache cache = cacheManager.getCache(CACHE);
+        if (cache instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().asMap().replace(boardId, board, board);
+        }
+        return bytes;
+    }
+
+    /**
+     * A snapshot body ({@code sequence} and {@code board}) around the already encoded board
+     */
+    public byte[] snapshot(long sequence, Long boardId, EncodedBoard board, WireFormat format) {
+        return wireCodec.snapshot(sequence, encoding(boardId, board, format), format);
+    }
+
+    /**
+     * A STOMP message carrying the encoded board, sent without another conversion
+     */
+    public Message<byte[]> message(EncodedBoard board) {
+        return MessageBuilder.withPayload(board.json())
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .build();
+    }
+
+    private EncodedBoard encode(BoardDTO board, long sequence) {
+        byte[] json = wireCodec.encode(board, WireFormat.JSON);
+        encoded.increment();
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        return new EncodedBoard(json, Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(json.length), sequence);
+    }
+
+    /**
+     * One version of a board: its JSON, a version tag for ETags, the patch sequence it
+     * reflects at least, and its other encodings
+     */
+    public static final class EncodedBoard {
+        private final byte[] json;
+        private final String version;
+        private final long sequence;
+        private final Map<WireFormat, byte[]> encodings = new ConcurrentHashMap<>();
+
+        public EncodedBoard(byte[] json, String version, long sequence) {
+            this.json = json;
+            this.version = version;
+            this.sequence = sequence;
+        }
+
+        public byte[] json() {
+            return json;
+        }
+
+        public String version() {
+            return version;
+        }
+
+        public long sequence() {
+            return sequence;
+        }
+
+        public int weight() {
+            return json.length + encodings.values().stream().mapToInt(bytes -> bytes.length).sum();
+        }
+    }
+}
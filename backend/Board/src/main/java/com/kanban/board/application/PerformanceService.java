@@ -4,6 +4,7 @@ import com.kanban.board.interfaces.rest.BoardDTO;
 import com.kanban.task.interfaces.rest.TaskDTO;
 import com.kanban.user.interfaces.rest.UserDTO;
 import com.kanban.shared.infrastructure.BoardMapper;
+import com.kanban.shared.infrastructure.CacheVersions;
 import com.kanban.shared.infrastructure.TaskMapper;
 import com.kanban.shared.infrastructure.UserMapper;
 import com.kanban.board.domain.model.Board;
@@ -11,17 +12,34 @@ import com.kanban.task.domain.model.Task;
 import com.kanban.board.domain.repository.BoardRepository;
 import com.kanban.task.domain.repository.TaskRepository;
 import com.kanban.user.domain.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 
@@ -38,16 +56,74 @@ public class PerformanceService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private BoardSnapshotLoader boardSnapshotLoader;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheVersions cacheVersions;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.cache.preload.recent-days:7}")
+    private int preloadRecentDays;
+
+    @Value("${app.cache.preload.max-tasks:5000}")
+    private int preloadMaxTasks;
+
+    @Value("${app.cache.preload.batch-size:200}")
+    private int preloadBatchSize;
+
     private final Executor executor = Executors.newFixedThreadPool(4);
 
     /**
-     * Cache board data for better performance
+     * Cache board data for better performance; a board changed while it was loading is not cached
      */
-    @Cacheable(value = "boards", key = "#boardId")
     public BoardDTO getCachedBoard(Long boardId) {
-        return boardRepository.findById(boardId)
-                .map(BoardMapper::toDTO)
-                .orElse(null);
+        Cache cache = cacheManager.getCache("boards");
+        Cache.ValueWrapper cached = cache.get(boardId);
+        if (cached != null) {
+            return (BoardDTO) cached.get();
+        }
+        long version = cacheVersions.version("boards", boardId);
+        BoardDTO board = boardSnapshotLoader.load(boardId).orElse(null);
+        cacheVersions.putIfCurrent(cache, boardId, board, version);
+        return board;
+    }
+
+    /**
+     * Cached boards in the given order; boards missing from the cache are loaded in one query
+     */
+    public List<BoardDTO> getCachedBoards(List<Long> boardIds) {
+        Cache cache = cacheManager.getCache("boards");
+        Map<Long, BoardDTO> boards = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long boardId : boardIds) {
+            BoardDTO board = cache.get(boardId, BoardDTO.class);
+            if (board != null) {
+                boards.put(boardId, board);
+            } else {
+                missing.add(boardId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (BoardDTO board : loadBoards(cache, missing)) {
+                boards.put(board.getId(), board);
+            }
+        }
+        return boardIds.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -61,19 +137,26 @@ public class PerformanceService {
     }
 
     /**
-     * Cache task data for better performance
+     * Cache task data for better performance; a task changed while it was loading is not cached
      */
-    @Cacheable(value = "tasks", key = "#taskId")
     public TaskDTO getCachedTask(Long taskId) {
-        return taskRepository.findById(taskId)
+        Cache cache = cacheManager.getCache("tasks");
+        Cache.ValueWrapper cached = cache.get(taskId);
+        if (cached != null) {
+            return (TaskDTO) cached.get();
+        }
+        long version = cacheVersions.version("tasks", taskId);
+        TaskDTO task = taskRepository.findById(taskId)
                 .map(TaskMapper::toDTO)
                 .orElse(null);
+        cacheVersions.putIfCurrent(cache, taskId, task, version);
+        return task;
     }
 
     /**
      * Evict board cache when board is updated
      */
-    @CacheEvict(value = "boards", key = "#boardId")
+    @CacheEvict(value = {"boards", "boardFrames"}, key = "#boardId")
     public void evictBoardCache(Long boardId) {
         // Cache eviction is handled by annotation
     }
@@ -144,29 +227,119 @@ public class PerformanceService {
     }
 
     /**
-     * Preload frequently accessed data
+     * Preload frequently accessed data. Works through boards and recent tasks in batches,
+     * so memory use does not depend on the table sizes; durations and item counts are
+     * recorded as {@code cache.preload.duration} and {@code cache.preload.items}.
      */
     @Scheduled(fixedRate = 300000) // Every 5 minutes
     public void preloadFrequentData() {
-        // Preload active boards
-        List<Board> activeBoards = boardRepository.findByArchivedFalse();
-        activeBoards.forEach(board -> getCachedBoard(board.getId()));
-
-        // Preload recent tasks
-        List<Task> recentTasks = taskRepository.findAll().stream()
-                .filter(task -> task.getCreatedAt() != null && 
-                               task.getCreatedAt().isAfter(LocalDateTime.now().minusDays(7)))
-                .collect(Collectors.toList());
-        recentTasks.forEach(task -> getCachedTask(task.getId()));
+        preloadActiveBoards();
+        preloadRecentTasks();
+    }
+
+    private void preloadActiveBoards() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Cache cache = cacheManager.getCache("boards");
+        TransactionTemplate transaction = readOnlyTransaction();
+        long lastId = 0L;
+        int loaded = 0;
+        int skipped = 0;
+        List<Long> boardIds;
+        do {
+            boardIds = boardRepository.findActiveIdsAfter(lastId, PageRequest.of(0, preloadBatchSize));
+            List<Long> missing = boardIds.stream()
+                    .filter(boardId -> cache.get(boardId) == null)
+                    .collect(Collectors.toList());
+            if (!missing.isEmpty()) {
+                // One transaction per page, so lazy collections load and the session never outgrows a page
+                loaded += transaction.execute(status -> loadBoards(cache, missing).size());
+            }
+            skipped += boardIds.size() - missing.size();
+            if (!boardIds.isEmpty()) {
+                lastId = boardIds.get(boardIds.size() - 1);
+            }
+        } while (boardIds.size() == preloadBatchSize);
+        recordPreload(sample, "boards", loaded, skipped);
+    }
+
+    private void preloadRecentTasks() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Cache cache = cacheManager.getCache("tasks");
+        LocalDateTime since = LocalDateTime.now().minusDays(preloadRecentDays);
+        int[] counts = readOnlyTransaction().execute(status -> {
+            int loaded = 0;
+            int seen = 0;
+            List<Task> batch = new ArrayList<>(preloadBatchSize);
+            Map<Long, Long> versions = new HashMap<>();
+            try (Stream<Task> tasks = taskRepository.streamCreatedAfter(since).limit(preloadMaxTasks)) {
+                Iterator<Task> iterator = tasks.iterator();
+                while (iterator.hasNext()) {
+                    Task task = iterator.next();
+                    if (cache.get(task.getId()) == null) {
+                        versions.put(task.getId(), cacheVersions.version(cache.getName(), task.getId()));
+                        batch.add(task);
+                    }
+                    if (++seen % preloadBatchSize == 0) {
+                        loaded += cacheTasks(cache, batch, versions);
+                    }
+                }
+                loaded += cacheTasks(cache, batch, versions);
+            }
+            return new int[] {loaded, seen - loaded};
+        });
+        recordPreload(sample, "tasks", counts[0], counts[1]);
+    }
+
+    /**
+     * Cache a batch of streamed tasks and detach everything loaded so far. The stream may run
+     * long, so a task changed after it was streamed is left to the next read.
+     */
+    private int cacheTasks(Cache cache, List<Task> batch, Map<Long, Long> versions) {
+        // Mapping the batch together lets the task collections load in batches
+        batch.forEach(task -> cacheVersions.putIfCurrent(cache, task.getId(), TaskMapper.toDTO(task),
+                versions.get(task.getId())));
+        int cached = batch.size();
+        batch.clear();
+        versions.clear();
+        entityManager.clear();
+        return cached;
+    }
+
+    private List<BoardDTO> loadBoards(Cache cache, List<Long> boardIds) {
+        Map<Long, Long> versions = new HashMap<>();
+        boardIds.forEach(boardId -> versions.put(boardId, cacheVersions.version(cache.getName(), boardId)));
+        List<BoardDTO> boards = new ArrayList<>();
+        for (BoardDTO boardDTO : boardSnapshotLoader.loadAll(boardIds)) {
+            cacheVersions.putIfCurrent(cache, boardDTO.getId(), boardDTO, versions.get(boardDTO.getId()));
+            boards.add(boardDTO);
+        }
+        return boards;
+    }
+
+    private void recordPreload(Timer.Sample sample, String cacheName, int loaded, int skipped) {
+        sample.stop(meterRegistry.timer("cache.preload.duration", "cache", cacheName));
+        meterRegistry.counter("cache.preload.items", "cache", cacheName, "result", "loaded").increment(loaded);
+        meterRegistry.counter("cache.preload.items", "cache", cacheName, "result", "skipped").increment(skipped);
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction;
     }
 
     /**
-     * Clean up old cache entries
+     * Clean up old cache entries. Caffeine expires entries lazily while the cache is in use,
+     * so this drops expired entries of idle caches and runs pending maintenance.
      */
     @Scheduled(fixedRate = 600000) // Every 10 minutes
     public void cleanupCache() {
-        // This would typically be handled by the caching framework
-        // For now, just a placeholder for cache cleanup logic
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                caffeineCache.getNativeCache().cleanUp();
+            }
+        }
     }
 
     /**
@@ -181,11 +354,8 @@ public class PerformanceService {
         metrics.setTotalUsers(userRepository.count());
         
         // Get active data counts
-        metrics.setActiveBoards(boardRepository.findByArchivedFalse().size());
-        metrics.setRecentTasks(taskRepository.findAll().stream()
-                .filter(task -> task.getCreatedAt() != null && 
-                               task.getCreatedAt().isAfter(LocalDateTime.now().minusDays(7)))
-                .count());
+        metrics.setActiveBoards((int) boardRepository.countByArchivedFalse());
+        metrics.setRecentTasks(taskRepository.countByCreatedAtAfter(LocalDateTime.now().minusDays(7)));
         
         return metrics;
     }
@@ -12,17 +12,44 @@ import com.kanban.user.domain.model.User;
 import com.kanban.task.domain.model.TaskPriority;
 import com.kanban.task.domain.model.TaskStatus;
 import com.kanban.task.domain.repository.TaskRepository;
+import com.kanban.task.domain.repository.TaskSpecifications;
+import com.kanban.task.infrastructure.TaskSearchIndex;
 import com.kanban.board.domain.repository.BoardRepository;
 import com.kanban.user.domain.repository.UserRepository;
+import com.kanban.shared.interfaces.response.PaginatedResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Transactional(readOnly = true)
 public class SearchService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    // Ranked index hits checked against the other filters in the first id-only query; doubles per round
+    private static final int FILTER_CHUNK_SIZE = 200;
+
     @Autowired
     private TaskRepository taskRepository;
 
@@ -32,21 +59,37 @@ public class SearchService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
-     * Advanced task search with multiple criteria
+     * Advanced task search with multiple criteria. Text queries are answered from the
+     * in-memory index (ranked by relevance) once it is built. Until then every term is
+     * matched as a substring in the database and results come in id order
      */
-    public List<TaskDTO> searchTasks(String query, String priority, String status, 
+    public PaginatedResponse<TaskDTO> searchTasks(String query, String priority, String status, 
                                    Long assigneeId, Long boardId, LocalDateTime dueDateFrom, 
                                    LocalDateTime dueDateTo, int page, int size) {
-        
-        // This would need custom repository methods for complex search
-        // For now, returning filtered results from basic repository methods
-        List<Task> tasks = taskRepository.findAll();
-        
-        return tasks.stream()
-                .filter(task -> matchesSearchCriteria(task, query, priority, status, assigneeId, boardId, dueDateFrom, dueDateTo))
-                .map(TaskMapper::toDTO)
-                .collect(Collectors.toList());
+        List<Specification<Task>> criteria = Stream.of(priorityCriteria(priority), statusCriteria(status),
+                        TaskSpecifications.assignedTo(assigneeId), TaskSpecifications.onBoard(boardId),
+                        TaskSpecifications.dueOnOrAfter(dueDateFrom), TaskSpecifications.dueOnOrBefore(dueDateTo))
+                .filter(Objects::nonNull)
+                .toList();
+        Specification<Task> filters = Specification.allOf(criteria);
+        if (query == null || query.trim().isEmpty()) {
+            return findTasks(filters, page, size);
+        }
+        if (!taskSearchIndex.isReady()) {
+            List<String> terms = TaskSearchIndex.terms(query);
+            return findTasks(terms.isEmpty() ? TaskSpecifications.none()
+                    : filters.and(TaskSpecifications.containsAll(terms)), page, size);
+        }
+        return criteria.isEmpty()
+                ? searchIndex(query, page, size)
+                : searchIndexFiltered(query, filters, page, size);
     }
 
     /**
@@ -76,140 +119,148 @@ public class SearchService {
     /**
      * Get tasks by priority
      */
-    public List<TaskDTO> getTasksByPriority(TaskPriority priority, int page, int size) {
-        List<Task> tasks = taskRepository.findAll();
-        
-        return tasks.stream()
-                .filter(task -> task.getPriority() == priority)
-                .map(TaskMapper::toDTO)
-                .collect(Collectors.toList());
+    public PaginatedResponse<TaskDTO> getTasksByPriority(TaskPriority priority, int page, int size) {
+        return findTasks(TaskSpecifications.hasPriority(priority), page, size);
     }
 
     /**
      * Get tasks by status
      */
-    public List<TaskDTO> getTasksByStatus(TaskStatus status, int page, int size) {
-        List<Task> tasks = taskRepository.findAll();
-        
-        return tasks.stream()
-                .filter(task -> task.getStatus() == status)
-                .map(TaskMapper::toDTO)
-                .collect(Collectors.toList());
+    public PaginatedResponse<TaskDTO> getTasksByStatus(TaskStatus status, int page, int size) {
+        return findTasks(TaskSpecifications.hasStatus(status), page, size);
     }
 
     /**
      * Get overdue tasks
      */
-    public List<TaskDTO> getOverdueTasks(int page, int size) {
-        LocalDateTime now = LocalDateTime.now();
-        List<Task> tasks = taskRepository.findAll();
-        
-        return tasks.stream()
-                .filter(task -> task.getDueDate() != null && task.getDueDate().isBefore(now))
-                .map(TaskMapper::toDTO)
-                .collect(Collectors.toList());
+    public PaginatedResponse<TaskDTO> getOverdueTasks(int page, int size) {
+        return findTasks(TaskSpecifications.dueBefore(LocalDateTime.now()), page, size);
     }
 
     /**
      * Get tasks due soon (within next 7 days)
      */
-    public List<TaskDTO> getTasksDueSoon(int page, int size) {
+    public PaginatedResponse<TaskDTO> getTasksDueSoon(int page, int size) {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime weekFromNow = now.plusDays(7);
-        List<Task> tasks = taskRepository.findAll();
-        
-        return tasks.stream()
-                .filter(task -> task.getDueDate() != null && 
-                               task.getDueDate().isAfter(now) && 
-                               task.getDueDate().isBefore(weekFromNow))
-                .map(TaskMapper::toDTO)
-                .collect(Collectors.toList());
+        return findTasks(TaskSpecifications.dueBetween(now, now.plusDays(7)), page, size);
     }
 
     /**
      * Get user's assigned tasks
      */
-    public List<TaskDTO> getUserAssignedTasks(Long userId, int page, int size) {
-        List<Task> tasks = taskRepository.findAll();
-        
-        return tasks.stream()
-                .filter(task -> task.getAssignee() != null && task.getAssignee().getId().equals(userId))
-                .map(TaskMapper::toDTO)
-                .collect(Collectors.toList());
+    public PaginatedResponse<TaskDTO> getUserAssignedTasks(Long userId, int page, int size) {
+        return findTasks(TaskSpecifications.assignedTo(userId), page, size);
     }
 
     /**
      * Get user's created tasks
      */
-    public List<TaskDTO> getUserCreatedTasks(Long userId, int page, int size) {
-        List<Task> tasks = taskRepository.findAll();
-        
-        return tasks.stream()
-                .filter(task -> task.getCreatedBy() != null && task.getCreatedBy().getId().equals(userId))
+    public PaginatedResponse<TaskDTO> getUserCreatedTasks(Long userId, int page, int size) {
+        return findTasks(TaskSpecifications.createdBy(userId), page, size);
+    }
+
+    /**
+     * Run a task specification as a single paged query (offset pagination, stable id order)
+     */
+    private PaginatedResponse<TaskDTO> findTasks(Specification<Task> spec, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(Sort.Direction.ASC, "id"));
+        Page<Task> result = taskRepository.findAll(spec, pageable);
+        List<TaskDTO> content = result.getContent().stream()
                 .map(TaskMapper::toDTO)
                 .collect(Collectors.toList());
+        return PaginatedResponse.of(content, pageable.getPageNumber(), pageable.getPageSize(),
+                result.getTotalElements());
     }
 
-    // Helper methods for filtering
-    private boolean matchesSearchCriteria(Task task, String query, String priority, String status, 
-                                       Long assigneeId, Long boardId, LocalDateTime dueDateFrom, 
-                                       LocalDateTime dueDateTo) {
-        
-        // Query matching
-        if (query != null && !query.trim().isEmpty()) {
-            String searchQuery = query.toLowerCase();
-            boolean matchesQuery = (task.getTitle() != null && task.getTitle().toLowerCase().contains(searchQuery)) ||
-                                 (task.getDescription() != null && task.getDescription().toLowerCase().contains(searchQuery));
-            if (!matchesQuery) return false;
-        }
-        
-        // Priority matching
-        if (priority != null && !priority.trim().isEmpty()) {
-            try {
-                TaskPriority searchPriority = TaskPriority.valueOf(priority.toUpperCase());
-                if (task.getPriority() != searchPriority) return false;
-            } catch (IllegalArgumentException e) {
-                return false;
+    private PaginatedResponse<TaskDTO> searchIndex(String query, int page, int size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        TaskSearchIndex.Hits hits = taskSearchIndex.search(query, pageNumber * pageSize, pageSize);
+        return PaginatedResponse.of(loadInOrder(hits.getIds()), pageNumber, pageSize, hits.getTotal());
+    }
+
+    /**
+     * Walk the ranked hits in growing chunks, keeping those that satisfy the remaining filters
+     * (one id-only query per chunk), until the requested page is full. The total is exact once
+     * every hit was checked, otherwise extrapolated from the share of checked hits that passed.
+     */
+    private PaginatedResponse<TaskDTO> searchIndexFiltered(String query, Specification<Task> filters,
+                                                           int page, int size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long wanted = (long) pageNumber * pageSize + pageSize;
+        List<Long> matching = new ArrayList<>();
+        int checked = 0;
+        int chunk = FILTER_CHUNK_SIZE;
+        TaskSearchIndex.Hits hits;
+        boolean exhausted;
+        do {
+            hits = taskSearchIndex.search(query, checked, chunk);
+            if (!hits.getIds().isEmpty()) {
+                Set<Long> allowed = findIds(filters.and(TaskSpecifications.idIn(hits.getIds())));
+                hits.getIds().stream().filter(allowed::contains).forEach(matching::add);
             }
+            checked += hits.getIds().size();
+            exhausted = hits.getIds().size() < chunk;
+            chunk = (int) Math.min((long) chunk * 2, Integer.MAX_VALUE - checked);
+        } while (!exhausted && matching.size() < wanted);
+
+        long total = exhausted
+                ? matching.size()
+                : Math.max(matching.size(), Math.round((double) hits.getTotal() * matching.size() / checked));
+        int from = (int) Math.min((long) pageNumber * pageSize, matching.size());
+        int to = Math.min(from + pageSize, matching.size());
+        return PaginatedResponse.of(loadInOrder(matching.subList(from, to)), pageNumber, pageSize, total);
+    }
+
+    private Set<Long> findIds(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Task> root = cq.from(Task.class);
+        cq.select(root.get("id"));
+        if (spec != null) {
+            cq.where(spec.toPredicate(root, cq, cb));
         }
-        
-        // Status matching
-        if (status != null && !status.trim().isEmpty()) {
-            try {
-                TaskStatus searchStatus = TaskStatus.valueOf(status.toUpperCase());
-                if (task.getStatus() != searchStatus) return false;
-            } catch (IllegalArgumentException e) {
-                return false;
-            }
+        return new HashSet<>(entityManager.createQuery(cq).getResultList());
+    }
+
+    private List<TaskDTO> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
         }
-        
-        // Assignee matching
-        if (assigneeId != null) {
-            if (task.getAssignee() == null || !task.getAssignee().getId().equals(assigneeId)) {
-                return false;
-            }
+        Map<Long, Task> byId = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(task -> task != null)
+                .map(TaskMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    private Specification<Task> priorityCriteria(String priority) {
+        if (priority == null || priority.trim().isEmpty()) {
+            return null;
         }
-        
-        // Board matching
-        if (boardId != null) {
-            if (task.getColumn() == null || task.getColumn().getBoard() == null || 
-                !task.getColumn().getBoard().getId().equals(boardId)) {
-                return false;
-            }
+        try {
+            return TaskSpecifications.hasPriority(TaskPriority.valueOf(priority.trim().toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            return TaskSpecifications.none();
         }
-        
-        // Due date range matching
-        if (dueDateFrom != null && task.getDueDate() != null && task.getDueDate().isBefore(dueDateFrom)) {
-            return false;
+    }
+
+    private Specification<Task> statusCriteria(String status) {
+        if (status == null || status.trim().isEmpty()) {
+            return null;
         }
-        
-        if (dueDateTo != null && task.getDueDate() != null && task.getDueDate().isAfter(dueDateTo)) {
-            return false;
+        try {
+            return TaskSpecifications.hasStatus(TaskStatus.valueOf(status.trim().toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            return TaskSpecifications.none();
         }
-        
-        return true;
     }
 
+    // Helper methods for filtering
     private boolean matchesBoardSearchCriteria(Board board, String query, Long creatorId, Boolean archived) {
         // Query matching
         if (query != null && !query.trim().isEmpty()) {
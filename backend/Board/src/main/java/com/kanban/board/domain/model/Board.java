@@ -1,11 +1,14 @@
 package com.kanban.board.domain.model;
 
+import com.kanban.board.infrastructure.BoardChangeListener;
+import com.kanban.shared.infrastructure.CacheInvalidationListener;
 import com.kanban.user.domain.model.User;
 import com.kanban.shared.domain.model.Label;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -27,6 +30,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners({CacheInvalidationListener.class, BoardChangeListener.class})
 public class Board {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -53,6 +57,11 @@ public class Board {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Last patch event sequence when nodes share sequences; only BoardRepository.advanceEventSequence writes it
+    @Column(name = "event_sequence", insertable = false, updatable = false)
+    @JsonIgnore
+    private Long eventSequence;
+
     @ManyToOne
     @JoinColumn(name = "created_by")
     private User createdBy;
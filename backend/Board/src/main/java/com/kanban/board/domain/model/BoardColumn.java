@@ -1,5 +1,7 @@
 package com.kanban.board.domain.model;
 
+import com.kanban.board.infrastructure.BoardChangeListener;
+import com.kanban.shared.infrastructure.CacheInvalidationListener;
 import com.kanban.task.domain.model.Task;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -8,6 +10,7 @@ import org.hibernate.annotations.BatchSize;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -25,6 +28,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners({CacheInvalidationListener.class, BoardChangeListener.class})
 public class BoardColumn {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
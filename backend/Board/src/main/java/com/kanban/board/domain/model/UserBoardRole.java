@@ -1,11 +1,14 @@
 package com.kanban.board.domain.model;
 
+import com.kanban.shared.infrastructure.CacheInvalidationListener;
 import com.kanban.user.domain.model.User;
 import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
 @Data
+@EntityListeners(CacheInvalidationListener.class)
+@Table(indexes = @Index(name = "idx_user_board_role_user", columnList = "user_id, board_id"))
 public class UserBoardRole {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
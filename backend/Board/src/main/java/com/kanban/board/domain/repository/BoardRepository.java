@@ -3,11 +3,15 @@ package com.kanban.board.domain.repository;
 import com.kanban.board.domain.model.Board;
 import com.kanban.board.domain.model.BoardColumn;
 import com.kanban.task.domain.model.Task;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +21,12 @@ import java.util.Optional;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
+    String SUMMARY_SELECT = "SELECT b.id AS id, b.name AS name, b.description AS description, "
+            + "b.archived AS archived, b.createdAt AS createdAt, b.updatedAt AS updatedAt, "
+            + "(SELECT COUNT(c) FROM BoardColumn c WHERE c.board = b) AS columnCount, "
+            + "(SELECT COUNT(t) FROM Task t WHERE t.column.board = b) AS taskCount "
+            + "FROM Board b ";
+
     @EntityGraph(attributePaths = "columns")
     Optional<Board> findWithColumnsById(Long id);
 
@@ -25,6 +35,57 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 
     @Query("SELECT c.tasks FROM BoardColumn c WHERE c IN :columns")
     List<Task> findTasksByColumns(@Param("columns") List<BoardColumn> columns);
+
+    /**
+     * Boards with their creator and the creator's roles in one query, for board snapshots
+     */
+    @Query("SELECT DISTINCT b FROM Board b LEFT JOIN FETCH b.createdBy u LEFT JOIN FETCH u.roles WHERE b.id IN :ids")
+    List<Board> findWithCreatorByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Summaries of all boards, counted in one statement
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY b.id")
+    List<BoardSummary> findAllSummaries();
+
+    /**
+     * Summaries of archived or active boards
+     */
+    @Query(SUMMARY_SELECT + "WHERE b.archived = :archived ORDER BY b.id")
+    List<BoardSummary> findSummariesByArchived(@Param("archived") boolean archived);
+
+    /**
+     * Summaries of the given boards
+     */
+    @Query(SUMMARY_SELECT + "WHERE b.id IN :ids ORDER BY b.id")
+    List<BoardSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Ids of all boards, used to serve board lists from the board cache
+     */
+    @Query("SELECT b.id FROM Board b ORDER BY b.id")
+    List<Long> findAllIds();
+    
+    /**
+     * Keyset-paged ids of non-archived boards, used to warm the board cache
+     */
+    @Query("SELECT b.id FROM Board b WHERE b.archived = false AND b.id > :afterId ORDER BY b.id")
+    List<Long> findActiveIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * Reserve the next count patch event sequences of a board; the row lock orders concurrent callers
+     */
+    @Modifying
+    @Query(value = "UPDATE board SET event_sequence = COALESCE(event_sequence, 0) + :count WHERE id = :id", nativeQuery = true)
+    int advanceEventSequence(@Param("id") Long id, @Param("count") int count);
+
+    @Query("SELECT b.eventSequence FROM Board b WHERE b.id = :id")
+    Optional<Long> findEventSequence(@Param("id") Long id);
+
+    /**
+     * Count non-archived boards
+     */
+    long countByArchivedFalse();
     
     /**
      * Find board by invitation code
@@ -61,4 +122,25 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
      * Check if board exists by invitation code
      */
     boolean existsByInvitationCode(String invitationCode);
+
+    /**
+     * Board fields shown in lists, with column and task counts instead of the collections
+     */
+    interface BoardSummary {
+        Long getId();
+
+        String getName();
+
+        String getDescription();
+
+        Boolean getArchived();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+
+        Long getColumnCount();
+
+        Long getTaskCount();
+    }
 }
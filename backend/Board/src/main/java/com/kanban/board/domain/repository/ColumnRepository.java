@@ -1,9 +1,50 @@
 package com.kanban.board.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.kanban.board.domain.model.BoardColumn;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 
 
 
-public interface ColumnRepository extends JpaRepository<BoardColumn, Long> {}
+public interface ColumnRepository extends JpaRepository<BoardColumn, Long> {
+    /**
+     * Columns of the given boards in display order, without their tasks
+     */
+    @Query("SELECT c FROM BoardColumn c WHERE c.board.id IN :boardIds ORDER BY c.orderIndex ASC, c.id ASC")
+    List<BoardColumn> findByBoardIdIn(@Param("boardIds") Collection<Long> boardIds);
+
+    /**
+     * Summaries of all columns, or of one column when an id is given, with task counts
+     */
+    @Query("SELECT c.id AS id, c.name AS name, c.orderIndex AS orderIndex, c.color AS color, "
+            + "c.taskLimit AS taskLimit, c.createdAt AS createdAt, c.updatedAt AS updatedAt, "
+            + "(SELECT COUNT(t) FROM Task t WHERE t.column = c) AS taskCount "
+            + "FROM BoardColumn c WHERE :id IS NULL OR c.id = :id ORDER BY c.id")
+    List<ColumnSummary> findSummaries(@Param("id") Long id);
+
+    /**
+     * Column fields shown in lists, with a task count instead of the tasks
+     */
+    interface ColumnSummary {
+        Long getId();
+
+        String getName();
+
+        Integer getOrderIndex();
+
+        String getColor();
+
+        Integer getTaskLimit();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+
+        Long getTaskCount();
+    }
+}
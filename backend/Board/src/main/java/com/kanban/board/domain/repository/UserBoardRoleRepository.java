@@ -4,6 +4,8 @@ import com.kanban.board.domain.model.UserBoardRole;
 import com.kanban.board.domain.model.BoardRoleType;
 import com.kanban.user.domain.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -17,4 +19,14 @@ public interface UserBoardRoleRepository extends JpaRepository<UserBoardRole, Lo
     boolean existsByUserAndBoardIdAndRoleIn(User user, Long boardId, List<BoardRoleType> roles);
 
     Optional<UserBoardRole> findByUserAndBoardId(User user, Long boardId);
+
+    // Every board role of a user in one query, for the permission cache
+    @Query("SELECT r.board.id AS boardId, r.role AS role FROM UserBoardRole r WHERE r.user.id = :userId")
+    List<BoardRoleView> findBoardRolesByUserId(@Param("userId") Long userId);
+
+    interface BoardRoleView {
+        Long getBoardId();
+
+        BoardRoleType getRole();
+    }
 }
@@ -0,0 +1,53 @@
+package com.kanban.board.infrastructure;
+
+import com.kanban.board.application.EncodedBoardCache;
+import com.kanban.board.interfaces.rest.BoardDTO;
+import com.kanban.board.interfaces.rest.ColumnDTO;
+import com.kanban.shared.infrastructure.config.CacheCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+
+
+/**
+ * The board module's caches: board DTOs weighed by the tasks they carry, encoded boards by their bytes
+ */
+@Configuration
+public class BoardCacheConfig {
+
+    @Bean
+    public CacheCustomizer boardsCache() {
+        return new CacheCustomizer() {
+            @Override
+            public String cacheName() {
+                return "boards";
+            }
+
+            @Override
+            public int weigh(Object key, Object value) {
+                int weight = 1;
+                if (value instanceof BoardDTO board && board.getColumns() != null) {
+                    for (ColumnDTO column : board.getColumns()) {
+                        weight += 1 + (column.getTasks() != null ? column.getTasks().size() : 0);
+                    }
+                }
+                return weight;
+            }
+        };
+    }
+
+    @Bean
+    public CacheCustomizer encodedBoardsCache() {
+        return new CacheCustomizer() {
+            @Override
+            public String cacheName() {
+                return EncodedBoardCache.CACHE;
+            }
+
+            @Override
+            public int weigh(Object key, Object value) {
+                return value instanceof EncodedBoardCache.EncodedBoard board ? board.weight() : 1;
+            }
+        };
+    }
+}
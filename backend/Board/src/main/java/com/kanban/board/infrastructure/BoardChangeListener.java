@@ -0,0 +1,84 @@
+package com.kanban.board.infrastructure;
+
+import com.kanban.board.application.BoardEventPublisher;
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.shared.domain.model.Label;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.HashSet;
+import java.util.Set;
+
+
+
+
+/**
+ * JPA entity listener that publishes a BOARD_CHANGED patch when a board, one of its columns or
+ * one of its labels changes. Task patches cover the rest of a board; without this the board's
+ * sequence would not move and other nodes would keep serving the encodings from before the change.
+ * A board is announced once per transaction however many of its rows changed.
+ */
+@Component
+public class BoardChangeListener {
+
+    // Key of the boards already announced in the current transaction
+    private static final Object ANNOUNCED = new Object();
+
+    private final ObjectProvider<BoardEventPublisher> boardEventPublisher;
+
+    public BoardChangeListener(ObjectProvider<BoardEventPublisher> boardEventPublisher) {
+        this.boardEventPublisher = boardEventPublisher;
+    }
+
+    @PostPersist
+    @PostRemove
+    public void onAddedOrRemoved(Object entity) {
+        // A new board has no subscribers or encodings yet, and a removed one has no sequence left to advance
+        if (!(entity instanceof Board)) {
+            onChanged(entity);
+        }
+    }
+
+    @PostUpdate
+    public void onChanged(Object entity) {
+        if (entity instanceof Board board) {
+            changed(board.getId());
+        } else if (entity instanceof BoardColumn column) {
+            changed(column.getBoard() != null ? column.getBoard().getId() : null);
+        } else if (entity instanceof Label label) {
+            changed(label.getBoard() != null ? label.getBoard().getId() : null);
+        }
+    }
+
+    private void changed(Long boardId) {
+        BoardEventPublisher publisher = boardEventPublisher.getIfAvailable();
+        if (boardId == null || publisher == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publisher.boardChanged(boardId);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> announced = (Set<Long>) TransactionSynchronizationManager.getResource(ANNOUNCED);
+        if (announced == null) {
+            announced = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(ANNOUNCED, announced);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ANNOUNCED);
+                }
+            });
+        }
+        if (announced.add(boardId)) {
+            // Sent after commit like every patch
+            publisher.boardChanged(boardId);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.kanban.board.interfaces.rest;
 
 import com.kanban.shared.domain.exception.ResourceNotFoundException;
 import com.kanban.shared.infrastructure.BoardMapper;
+import com.kanban.shared.infrastructure.WireFormat;
+import com.kanban.shared.interfaces.rest.DtoView;
 import com.kanban.board.domain.model.Board;
 import com.kanban.board.domain.model.BoardRoleType;
 import com.kanban.board.domain.model.BoardColumn;
@@ -11,18 +13,24 @@ import com.kanban.board.domain.repository.BoardRepository;
 import com.kanban.user.domain.repository.UserRepository;
 import com.kanban.board.application.BoardRoleService;
 import com.kanban.board.application.BoardWebSocketService;
+import com.kanban.board.application.BoardCommandExecutor;
+import com.kanban.board.application.EncodedBoardCache;
+import com.kanban.board.application.PerformanceService;
 import com.kanban.board.interfaces.websocket.TaskMoveMessage;
 import com.kanban.board.interfaces.websocket.TaskCreateMessage;
 import com.kanban.board.interfaces.websocket.TaskUpdateMessage;
 import com.kanban.board.interfaces.websocket.TaskDeleteMessage;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -48,58 +56,129 @@ public class BoardController {
     @Autowired
     private BoardWebSocketService boardWebSocketService;
 
+    @Autowired
+    private BoardCommandExecutor boardCommandExecutor;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private BoardRoleService boardRoleService;
 
+    @Autowired
+    private PerformanceService performanceService;
+
+    @Autowired
+    private EncodedBoardCache encodedBoardCache;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
     private static final List<String> COLUMN_NAMES = Arrays.asList("Backlog", "To Do", "In Progress", "Review", "Done");
 
     @GetMapping
-    public List<BoardDTO> getAllBoards(@RequestParam(required = false) Long id) {
-        List<Board> boards = id != null ? boardRepository.findById(id).map(List::of)
-                .orElseThrow(() -> new RuntimeException("Board not found")) : boardRepository.findAll();
+    public List<BoardDTO> getAllBoards(@RequestParam(required = false) Long id,
+                                       @RequestParam(required = false) String view) {
+        if (DtoView.from(view) == DtoView.SUMMARY) {
+            // Counts come from SQL, so listing pages never load columns, tasks or labels
+            List<BoardRepository.BoardSummary> summaries = id != null
+                    ? boardRepository.findSummariesByIdIn(List.of(id))
+                    : boardRepository.findAllSummaries();
+            if (id != null && summaries.isEmpty()) {
+                throw new RuntimeException("Board not found");
+            }
+            return summaries.stream().map(BoardMapper::toSummaryDTO).collect(Collectors.toList());
+        }
+        // Served from the board cache, which is invalidated on every write to a board, column or task
+        List<Long> boardIds = id != null ? List.of(id) : boardRepository.findAllIds();
+        List<BoardDTO> boards = performanceService.getCachedBoards(boardIds);
+        if (id != null && boards.isEmpty()) {
+            throw new RuntimeException("Board not found");
+        }
+        return boards;
+    }
 
-        return boards.stream()
-                .map(BoardMapper::toDTO)
-                .collect(Collectors.toList());
+    /**
+     * Full board state plus the patch sequence it reflects, for clients that detected a gap in board events.
+     * A {@link BoardSnapshotDTO} in JSON, or CBOR if the client asks for it, written around the
+     * board's cached encoding instead of serializing it again
+     */
+    @GetMapping(value = "/{boardId}/snapshot", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<byte[]> getBoardSnapshot(@PathVariable Long boardId,
+                                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        WireFormat format = WireFormat.fromAccept(accept);
+        // The encoding reflects at least its sequence; later events may be in it too, and re-applying them is harmless
+        return encodedBoardCache.get(boardId)
+                .map(board -> ResponseEntity.ok()
+                        .contentType(format.getMediaType())
+                        .eTag(board.sequence() + "-" + board.version() + "-" + format.name().toLowerCase())
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(encodedBoardCache.snapshot(board.sequence(), boardId, board, format)))
+                .orElseThrow(() -> new ResourceNotFoundException("Board not found"));
     }
 
     @MessageMapping("/board/{boardId}/update")
-    @SendTo("/topic/board/{boardId}")
-    public BoardDTO updateBoard(
+    public void updateBoard(
             @DestinationVariable Long boardId,
             Message<BoardDTO> message) {
-        return boardWebSocketService.handleBoardUpdate(boardId, message.getPayload());
+        boardWebSocketService.handleBoardUpdate(boardId, message.getPayload());
+        // Committed by now, so the encoding is of the saved board and is reused by the next snapshot
+        encodedBoardCache.get(boardId).ifPresent(board ->
+                messagingTemplate.send("/topic/board/" + boardId, encodedBoardCache.message(board)));
     }
 
+    // Task mutations of a board run one at a time and are committed in bursts
     @MessageMapping("/board/{boardId}/task-move")
     public void handleTaskMove(
             @DestinationVariable Long boardId,
             Message<TaskMoveMessage> message) {
-        boardWebSocketService.handleTaskMove(message.getPayload());
+        if (!boardId.equals(message.getPayload().getBoardId())) {
+            boardWebSocketService.rejected(boardId, "TASK_MOVE_RESPONSE", "move task",
+                    new IllegalArgumentException("Message is for board " + message.getPayload().getBoardId()));
+            return;
+        }
+        boardCommandExecutor.submit(boardId, () -> boardWebSocketService.handleTaskMove(message.getPayload()),
+                e -> boardWebSocketService.rejected(boardId, "TASK_MOVE_RESPONSE", "move task", e));
     }
 
     @MessageMapping("/board/{boardId}/task-create")
     public void handleTaskCreate(
             @DestinationVariable Long boardId,
             Message<TaskCreateMessage> message) {
-        boardWebSocketService.handleTaskCreate(message.getPayload());
+        if (!boardId.equals(message.getPayload().getBoardId())) {
+            boardWebSocketService.rejected(boardId, "TASK_CREATE_RESPONSE", "create task",
+                    new IllegalArgumentException("Message is for board " + message.getPayload().getBoardId()));
+            return;
+        }
+        boardCommandExecutor.submit(boardId, () -> boardWebSocketService.handleTaskCreate(message.getPayload()),
+                e -> boardWebSocketService.rejected(boardId, "TASK_CREATE_RESPONSE", "create task", e));
     }
 
     @MessageMapping("/board/{boardId}/task-update")
     public void handleTaskUpdate(
             @DestinationVariable Long boardId,
             Message<TaskUpdateMessage> message) {
-        boardWebSocketService.handleTaskUpdate(message.getPayload());
+        if (!boardId.equals(message.getPayload().getBoardId())) {
+            boardWebSocketService.rejected(boardId, "TASK_UPDATE_RESPONSE", "update task",
+                    new IllegalArgumentException("Message is for board " + message.getPayload().getBoardId()));
+            return;
+        }
+        boardCommandExecutor.submit(boardId, () -> boardWebSocketService.handleTaskUpdate(message.getPayload()),
+                e -> boardWebSocketService.rejected(boardId, "TASK_UPDATE_RESPONSE", "update task", e));
     }
 
     @MessageMapping("/board/{boardId}/task-delete")
     public void handleTaskDelete(
             @DestinationVariable Long boardId,
             Message<TaskDeleteMessage> message) {
-        boardWebSocketService.handleTaskDelete(message.getPayload());
+        if (!boardId.equals(message.getPayload().getBoardId())) {
+            boardWebSocketService.rejected(boardId, "TASK_DELETE_RESPONSE", "delete task",
+                    new IllegalArgumentException("Message is for board " + message.getPayload().getBoardId()));
+            return;
+        }
+        boardCommandExecutor.submit(boardId, () -> boardWebSocketService.handleTaskDelete(message.getPayload()),
+                e -> boardWebSocketService.rejected(boardId, "TASK_DELETE_RESPONSE", "delete task", e));
     }
 
     @PostMapping
@@ -256,7 +335,12 @@ public class BoardController {
     }
 
     @GetMapping("/archived")
-    public ResponseEntity<List<BoardDTO>> getArchivedBoards() {
+    public ResponseEntity<List<BoardDTO>> getArchivedBoards(@RequestParam(required = false) String view) {
+        if (DtoView.from(view) == DtoView.SUMMARY) {
+            return ResponseEntity.ok(boardRepository.findSummariesByArchived(true).stream()
+                    .map(BoardMapper::toSummaryDTO)
+                    .collect(Collectors.toList()));
+        }
         List<Board> archivedBoards = boardRepository.findByArchivedTrue();
         List<BoardDTO> boardDTOs = archivedBoards.stream()
                 .map(BoardMapper::toDTO)
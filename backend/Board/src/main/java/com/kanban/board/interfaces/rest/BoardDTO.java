@@ -42,6 +42,11 @@ public class BoardDTO {
     
     private List<LabelDTO> labels;
     
+    // Aggregates of the summary view, which leaves columns and labels out
+    private Long columnCount;
+    
+    private Long taskCount;
+    
     // Constructor for board creation
     public BoardDTO(String name, String description) {
         this.name = name;
@@ -0,0 +1,19 @@
+package com.kanban.board.interfaces.rest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+
+
+/**
+ * Full board state together with the last patch sequence it already reflects
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardSnapshotDTO {
+    private long sequence;
+    private BoardDTO board;
+}
@@ -8,6 +8,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.kanban.shared.infrastructure.ColumnMapper;
+import com.kanban.shared.interfaces.rest.DtoView;
 import com.kanban.board.domain.model.BoardColumn;
 import com.kanban.board.domain.repository.ColumnRepository;
 
@@ -23,7 +24,17 @@ public class ColumnController {
     private ColumnRepository columnRepository;
 
     @GetMapping
-    public List<ColumnDTO> getAllColumns(@RequestParam(required = false) Long id) {
+    public List<ColumnDTO> getAllColumns(@RequestParam(required = false) Long id,
+                                         @RequestParam(required = false) String view) {
+        if (DtoView.from(view) == DtoView.SUMMARY) {
+            List<ColumnDTO> columns = columnRepository.findSummaries(id).stream()
+                    .map(ColumnMapper::toSummaryDTO)
+                    .collect(Collectors.toList());
+            if (id != null && columns.isEmpty()) {
+                throw new ResourceNotFoundException("Column not found");
+            }
+            return columns;
+        }
         List<BoardColumn> columns;
         if (id != null) {
             columns = columnRepository.findById(id).map(List::of)
@@ -34,6 +34,9 @@ public class ColumnDTO {
     
     private List<TaskDTO> tasks;
     
+    // Aggregate of the summary view, which leaves tasks out
+    private Long taskCount;
+    
     // Constructor for column creation
     public ColumnDTO(String name, Integer orderIndex, String color, Integer taskLimit) {
         this.name = name;
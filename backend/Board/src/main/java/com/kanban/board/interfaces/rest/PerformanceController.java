@@ -2,8 +2,12 @@ package com.kanban.board.interfaces.rest;
 
 import com.kanban.user.interfaces.rest.UserDTO;
 import com.kanban.task.interfaces.rest.TaskDTO;
+import com.kanban.board.application.EncodedBoardCache;
+import com.kanban.shared.infrastructure.WireFormat;
 import com.kanban.board.application.PerformanceService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
@@ -19,13 +23,23 @@ public class PerformanceController {
     @Autowired
     private PerformanceService performanceService;
 
+    @Autowired
+    private EncodedBoardCache encodedBoardCache;
+
     /**
      * Get cached board data
      */
-    @GetMapping("/cache/board/{boardId}")
-    public ResponseEntity<BoardDTO> getCachedBoard(@PathVariable Long boardId) {
-        BoardDTO board = performanceService.getCachedBoard(boardId);
-        return board != null ? ResponseEntity.ok(board) : ResponseEntity.notFound().build();
+    @GetMapping(value = "/cache/board/{boardId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<byte[]> getCachedBoard(@PathVariable Long boardId,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        WireFormat format = WireFormat.fromAccept(accept);
+        return encodedBoardCache.get(boardId)
+                .map(board -> ResponseEntity.ok()
+                        .contentType(format.getMediaType())
+                        .eTag(board.version() + "-" + format.name().toLowerCase())
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(encodedBoardCache.encoding(boardId, board, format)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
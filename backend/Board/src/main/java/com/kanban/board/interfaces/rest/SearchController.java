@@ -5,6 +5,7 @@ import com.kanban.task.interfaces.rest.TaskDTO;
 import com.kanban.task.domain.model.TaskPriority;
 import com.kanban.task.domain.model.TaskStatus;
 import com.kanban.board.application.SearchService;
+import com.kanban.shared.interfaces.response.PaginatedResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -28,7 +29,7 @@ public class SearchController {
      * Advanced task search with multiple criteria
      */
     @GetMapping("/tasks")
-    public ResponseEntity<List<TaskDTO>> searchTasks(
+    public ResponseEntity<PaginatedResponse<TaskDTO>> searchTasks(
             @RequestParam(required = false) String query,
             @RequestParam(required = false) String priority,
             @RequestParam(required = false) String status,
@@ -39,7 +40,7 @@ public class SearchController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         
-        List<TaskDTO> results = searchService.searchTasks(query, priority, status, assigneeId, boardId, dueDateFrom, dueDateTo, page, size);
+        PaginatedResponse<TaskDTO> results = searchService.searchTasks(query, priority, status, assigneeId, boardId, dueDateFrom, dueDateTo, page, size);
         return ResponseEntity.ok(results);
     }
 
@@ -76,12 +77,12 @@ public class SearchController {
      * Get tasks by priority
      */
     @GetMapping("/tasks/priority/{priority}")
-    public ResponseEntity<List<TaskDTO>> getTasksByPriority(
+    public ResponseEntity<PaginatedResponse<TaskDTO>> getTasksByPriority(
             @PathVariable TaskPriority priority,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         
-        List<TaskDTO> results = searchService.getTasksByPriority(priority, page, size);
+        PaginatedResponse<TaskDTO> results = searchService.getTasksByPriority(priority, page, size);
         return ResponseEntity.ok(results);
     }
 
@@ -89,12 +90,12 @@ public class SearchController {
      * Get tasks by status
      */
     @GetMapping("/tasks/status/{status}")
-    public ResponseEntity<List<TaskDTO>> getTasksByStatus(
+    public ResponseEntity<PaginatedResponse<TaskDTO>> getTasksByStatus(
             @PathVariable TaskStatus status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         
-        List<TaskDTO> results = searchService.getTasksByStatus(status, page, size);
+        PaginatedResponse<TaskDTO> results = searchService.getTasksByStatus(status, page, size);
         return ResponseEntity.ok(results);
     }
 
@@ -102,11 +103,11 @@ public class SearchController {
      * Get overdue tasks
      */
     @GetMapping("/tasks/overdue")
-    public ResponseEntity<List<TaskDTO>> getOverdueTasks(
+    public ResponseEntity<PaginatedResponse<TaskDTO>> getOverdueTasks(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         
-        List<TaskDTO> results = searchService.getOverdueTasks(page, size);
+        PaginatedResponse<TaskDTO> results = searchService.getOverdueTasks(page, size);
         return ResponseEntity.ok(results);
     }
 
@@ -114,11 +115,11 @@ public class SearchController {
      * Get tasks due soon (within next 7 days)
      */
     @GetMapping("/tasks/due-soon")
-    public ResponseEntity<List<TaskDTO>> getTasksDueSoon(
+    public ResponseEntity<PaginatedResponse<TaskDTO>> getTasksDueSoon(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         
-        List<TaskDTO> results = searchService.getTasksDueSoon(page, size);
+        PaginatedResponse<TaskDTO> results = searchService.getTasksDueSoon(page, size);
         return ResponseEntity.ok(results);
     }
 
@@ -126,12 +127,12 @@ public class SearchController {
      * Get user's assigned tasks
      */
     @GetMapping("/tasks/assigned/{userId}")
-    public ResponseEntity<List<TaskDTO>> getUserAssignedTasks(
+    public ResponseEntity<PaginatedResponse<TaskDTO>> getUserAssignedTasks(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         
-        List<TaskDTO> results = searchService.getUserAssignedTasks(userId, page, size);
+        PaginatedResponse<TaskDTO> results = searchService.getUserAssignedTasks(userId, page, size);
         return ResponseEntity.ok(results);
     }
 
@@ -139,12 +140,12 @@ public class SearchController {
      * Get user's created tasks
      */
     @GetMapping("/tasks/created/{userId}")
-    public ResponseEntity<List<TaskDTO>> getUserCreatedTasks(
+    public ResponseEntity<PaginatedResponse<TaskDTO>> getUserCreatedTasks(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         
-        List<TaskDTO> results = searchService.getUserCreatedTasks(userId, page, size);
+        PaginatedResponse<TaskDTO> results = searchService.getUserCreatedTasks(userId, page, size);
         return ResponseEntity.ok(results);
     }
 
@@ -0,0 +1,24 @@
+package com.kanban.board.interfaces.websocket;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Board patch events collected within one broadcast window, sent as a single message.
+ * The events keep their own consecutive sequence numbers and are applied in order.
+ */
+@Data
+@NoArgsConstructor
+public class BoardPatchBatch {
+    public static final String TYPE = "BOARD_PATCH_BATCH";
+
+    private String type = TYPE;
+    private Long boardId;
+    private List<BoardPatchEvent> events;
+
+    public BoardPatchBatch(Long boardId, List<BoardPatchEvent> events) {
+        this.boardId = boardId;
+        this.events = events;
+    }
+}
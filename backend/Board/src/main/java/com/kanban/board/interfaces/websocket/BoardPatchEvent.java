@@ -0,0 +1,62 @@
+package com.kanban.board.interfaces.websocket;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kanban.task.interfaces.rest.TaskDTO;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Incremental board change pushed to /topic/board/{boardId}.
+ * Events carry a per-board sequence number; a client that sees a gap should
+ * reload the board from GET /boards/{boardId}/snapshot and drop events up to its sequence.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardPatchEvent {
+    public static final String TYPE = "BOARD_PATCH";
+
+    public static final String TASK_CREATED = "TASK_CREATED";
+    public static final String TASK_MOVED = "TASK_MOVED";
+    public static final String TASK_UPDATED = "TASK_UPDATED";
+    public static final String TASK_DELETED = "TASK_DELETED";
+
+    // Bulk operations: one event per board for all its affected tasks
+    public static final String TASKS_UPDATED = "TASKS_UPDATED";
+    public static final String TASKS_MOVED = "TASKS_MOVED";
+    public static final String TASKS_DELETED = "TASKS_DELETED";
+
+    // The board itself, a column or a label changed: reload the snapshot
+    public static final String BOARD_CHANGED = "BOARD_CHANGED";
+
+    private String type = TYPE;
+    private String kind;
+    private Long boardId;
+    private long sequence;
+    private Long taskId;
+    private List<Long> taskIds;
+
+    // Placement before and after the change (moves, creates and deletes)
+    private Long fromColumnId;
+    private Integer fromPosition;
+    private Long toColumnId;
+    private Integer toPosition;
+
+    // Preview of a created or renamed task, as it appears in BoardDTO columns
+    private TaskDTO task;
+
+    // Previews of the tasks a bulk move appended to this board
+    private List<TaskDTO> tasks;
+
+    // Changed fields and their new values (updates)
+    private Map<String, Object> changes;
+
+    private Long timestamp = System.currentTimeMillis();
+
+    public BoardPatchEvent(String kind, Long taskId) {
+        this.kind = kind;
+        this.taskId = taskId;
+    }
+}
@@ -6,6 +6,8 @@ public class TaskMoveMessage extends WebSocketMessage {
     private Long currentColumnId;
     private Integer previousIndex;
     private Integer currentIndex;
+    // Task the moved one lands right after; when null the task is placed at currentIndex
+    private Long afterTaskId;
 
     public TaskMoveMessage() {
         super("TASK_MOVE", null, null);
@@ -60,4 +62,12 @@ public class TaskMoveMessage extends WebSocketMessage {
     public void setCurrentIndex(Integer currentIndex) {
         this.currentIndex = currentIndex;
     }
+
+    public Long getAfterTaskId() {
+        return afterTaskId;
+    }
+
+    public void setAfterTaskId(Long afterTaskId) {
+        this.afterTaskId = afterTaskId;
+    }
 } 
\ No newline at end of file
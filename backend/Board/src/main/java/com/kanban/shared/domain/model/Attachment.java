@@ -1,16 +1,20 @@
 package com.kanban.shared.domain.model;
 
+import com.kanban.shared.infrastructure.CacheInvalidationListener;
 import com.kanban.user.domain.model.User;
 import com.kanban.task.domain.model.Task;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -20,6 +24,9 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(CacheInvalidationListener.class)
+// Stored files are shared by content, so unreferenced ones are found by file_url
+@Table(indexes = @Index(name = "idx_attachment_file_url", columnList = "file_url"))
 public class Attachment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,10 +1,12 @@
 package com.kanban.shared.domain.model;
 
+import com.kanban.shared.infrastructure.CacheInvalidationListener;
 import com.kanban.user.domain.model.User;
 import com.kanban.task.domain.model.Task;
 import java.time.LocalDateTime;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -20,6 +22,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(CacheInvalidationListener.class)
 public class Comment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,5 +1,7 @@
 package com.kanban.shared.domain.model;
 
+import com.kanban.board.infrastructure.BoardChangeListener;
+import com.kanban.shared.infrastructure.CacheInvalidationListener;
 import com.kanban.board.domain.model.Board;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -11,6 +13,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners({CacheInvalidationListener.class, BoardChangeListener.class})
 public class Label {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -13,6 +13,14 @@ import java.time.LocalDateTime;
 
 
 @Entity
+@Table(indexes = {
+    // Unread counts and the unread inbox
+    @Index(name = "idx_notification_recipient_read", columnList = "recipient_id, read, created_at"),
+    // The full inbox, newest first
+    @Index(name = "idx_notification_recipient_created", columnList = "recipient_id, created_at"),
+    // Retention deletes by type and age
+    @Index(name = "idx_notification_type_created", columnList = "type, created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
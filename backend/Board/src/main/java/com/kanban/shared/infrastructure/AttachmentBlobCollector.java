@@ -0,0 +1,98 @@
+package com.kanban.shared.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+
+
+
+/**
+ * Deletes stored attachment files that no attachment references any more.
+ * Files younger than the grace period are left alone, since an upload stores its file
+ * before the attachment pointing at it is committed.
+ */
+@Slf4j
+@Component
+public class AttachmentBlobCollector {
+
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private AttachmentBlobStore blobStore;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Value("${app.attachment.gc.grace-period:1h}")
+    private Duration gracePeriod;
+
+    @Scheduled(fixedDelayString = "${app.attachment.gc.interval-ms:3600000}",
+            initialDelayString = "${app.attachment.gc.initial-delay-ms:300000}")
+    public void collectUnreferenced() {
+        try {
+            int deleted = collect(Instant.now().minus(gracePeriod));
+            if (deleted > 0) {
+                log.info("Deleted {} unreferenced attachment files", deleted);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to collect unreferenced attachment files: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Delete unreferenced files last modified before the cutoff, along with abandoned
+     * temporary uploads; returns how many stored files were deleted
+     */
+    public int collect(Instant cutoff) throws IOException {
+        Path root = blobStore.getRoot();
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        Set<String> candidates = new HashSet<>();
+        int deleted = 0;
+        try (Stream<Path> files = Files.find(root, 3, (path, attributes) -> attributes.isRegularFile()
+                && attributes.lastModifiedTime().toInstant().isBefore(cutoff))) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (file.getParent().getFileName().toString().equals("tmp")) {
+                    Files.deleteIfExists(file);
+                } else if (blobStore.isKey(name) && file.equals(blobStore.pathOf(name))) {
+                    candidates.add(name);
+                    if (candidates.size() == CHUNK_SIZE) {
+                        deleted += deleteUnreferenced(candidates, cutoff);
+                        candidates.clear();
+                    }
+                }
+            }
+        }
+        return deleted + deleteUnreferenced(candidates, cutoff);
+    }
+
+    private int deleteUnreferenced(Set<String> candidates, Instant cutoff) throws IOException {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        Set<String> referenced = attachmentRepository.findReferencedFileUrls(candidates);
+        int deleted = 0;
+        for (String key : candidates) {
+            // A re-upload of the same content touches the file, so it may be about to be referenced;
+            // the store re-checks that under the key's lock so an upload can't slip in before the delete
+            if (!referenced.contains(key) && blobStore.deleteIfUntouchedSince(key, cutoff)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,135 @@
+package com.kanban.shared.infrastructure;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+
+
+
+/**
+ * Content-addressed storage for attachment files. A file is stored once under the SHA-256
+ * of its content, in a two-level directory layout (ab/cd/abcd...), and attachments reference
+ * it by that hash in Attachment.fileUrl. Files no attachment references any more are removed
+ * by AttachmentBlobCollector. Attachments uploaded before this store keep their UUID file names.
+ */
+@Component
+public class AttachmentBlobStore {
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}");
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path root;
+    // Striped by key, so storing a file and collecting it never interleave
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public AttachmentBlobStore(@Value("${app.attachment.upload-dir:uploads/attachments}") String uploadDir) {
+        this.root = Paths.get(uploadDir);
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Store content and return its key; when the same content is already stored the copy
+     * just read is discarded instead of written again
+     */
+    public String store(InputStream content) throws IOException {
+        Path tmpDir = Files.createDirectories(root.resolve("tmp"));
+        Path tmp = Files.createTempFile(tmpDir, "upload", null);
+        try {
+            MessageDigest digest = sha256();
+            // Hashed while it is written, so the upload is read once
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(tmp)) {
+                in.transferTo(out);
+            }
+            String key = HexFormat.of().formatHex(digest.digest());
+            Path target = pathOf(key);
+            synchronized (lockOf(key)) {
+                if (Files.exists(target)) {
+                    // Fresh mtime keeps the collector's grace period from removing it before it is referenced
+                    Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+                    return key;
+                }
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Stored concurrently by another upload of the same content
+                }
+            }
+            return key;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * File behind an Attachment.fileUrl, for content-addressed keys and older UUID file names alike
+     */
+    public Path resolve(String fileUrl) {
+        return isKey(fileUrl) ? pathOf(fileUrl) : root.resolve(fileUrl);
+    }
+
+    public boolean isKey(String fileUrl) {
+        return fileUrl != null && KEY.matcher(fileUrl).matches();
+    }
+
+    /**
+     * Directory holding the stored files
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Delete a stored file unless it was stored or touched at or after the cutoff; a concurrent
+     * store of the same content either finds the file gone and writes it again, or touches it first
+     */
+    boolean deleteIfUntouchedSince(String key, Instant cutoff) throws IOException {
+        Path file = pathOf(key);
+        synchronized (lockOf(key)) {
+            try {
+                if (!Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    return false;
+                }
+            } catch (NoSuchFileException e) {
+                return false;
+            }
+            return Files.deleteIfExists(file);
+        }
+    }
+
+    Path pathOf(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private Object lockOf(String key) {
+        return locks[Math.floorMod(key.hashCode(), locks.length)];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
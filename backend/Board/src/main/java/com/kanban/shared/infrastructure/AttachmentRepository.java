@@ -5,7 +5,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 
 
@@ -44,4 +46,10 @@ public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
      */
     @Query("SELECT a FROM Attachment a WHERE a.task.id = :taskId ORDER BY a.createdAt DESC")
     List<Attachment> findAttachmentsByTaskId(@Param("taskId") Long taskId);
+    
+    /**
+     * Which of the given stored files are still referenced by an attachment
+     */
+    @Query("SELECT DISTINCT a.fileUrl FROM Attachment a WHERE a.fileUrl IN :fileUrls")
+    Set<String> findReferencedFileUrls(@Param("fileUrls") Collection<String> fileUrls);
 } 
@@ -5,6 +5,7 @@ import com.kanban.board.interfaces.rest.ColumnDTO;
 import com.kanban.shared.interfaces.rest.LabelDTO;
 import com.kanban.board.domain.model.Board;
 import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.domain.repository.BoardRepository;
 import com.kanban.shared.domain.model.Label;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -32,6 +33,17 @@ public class BoardMapper {
                     .collect(Collectors.toList());
         }
         
+        return toDTO(board, columnDTOs, labelDTOs);
+    }
+
+    /**
+     * Board DTO from columns and labels mapped elsewhere, so the board's collections are not loaded
+     */
+    public static BoardDTO toDTO(Board board, List<ColumnDTO> columnDTOs, List<LabelDTO> labelDTOs) {
+        if (board == null) {
+            return null;
+        }
+        
         return new BoardDTO(
             board.getId(),
             board.getName(),
@@ -47,6 +59,19 @@ public class BoardMapper {
         );
     }
 
+    public static BoardDTO toSummaryDTO(BoardRepository.BoardSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        BoardDTO dto = new BoardDTO(summary.getId(), summary.getName(), Boolean.TRUE.equals(summary.getArchived()));
+        dto.setDescription(summary.getDescription());
+        dto.setCreatedAt(summary.getCreatedAt());
+        dto.setUpdatedAt(summary.getUpdatedAt());
+        dto.setColumnCount(summary.getColumnCount());
+        dto.setTaskCount(summary.getTaskCount());
+        return dto;
+    }
+
     public static BoardDTO toPreviewDTO(Board board) {
         if (board == null) {
             return null;
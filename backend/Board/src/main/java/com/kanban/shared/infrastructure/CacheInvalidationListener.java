@@ -0,0 +1,199 @@
+package com.kanban.shared.infrastructure;
+
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.domain.model.UserBoardRole;
+import com.kanban.shared.domain.model.Attachment;
+import com.kanban.shared.domain.model.Comment;
+import com.kanban.shared.domain.model.Label;
+import com.kanban.shared.infrastructure.config.VerifiedTokenCache;
+import com.kanban.task.domain.model.Task;
+import com.kanban.user.domain.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+
+
+
+/**
+ * JPA entity listener that evicts the cached DTOs an entity change affects, including the
+ * parent board of a changed column or task and the task of a changed comment or attachment.
+ * Entries are evicted when the change is flushed and again after commit. A reader that loaded
+ * the pre-commit state can still put it back after both evictions; readers that must not do
+ * that put through {@link CacheVersions}, other puts are only bounded by the cache's TTL.
+ * Committed evictions are also published through {@link ClusterInvalidations} for other nodes.
+ */
+@Component
+public class CacheInvalidationListener implements SmartInitializingSingleton {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final ObjectProvider<VerifiedTokenCache> tokenCache;
+    // Hibernate creates its own instance of this listener, so shared state lives in a singleton
+    private final ObjectProvider<CacheVersions> cacheVersions;
+    private final ObjectProvider<ClusterInvalidations> clusterInvalidations;
+
+    public CacheInvalidationListener(ObjectProvider<CacheManager> cacheManager,
+                                     ObjectProvider<VerifiedTokenCache> tokenCache,
+                                     ObjectProvider<CacheVersions> cacheVersions,
+                                     ObjectProvider<ClusterInvalidations> clusterInvalidations) {
+        this.cacheManager = cacheManager;
+        this.tokenCache = tokenCache;
+        this.cacheVersions = cacheVersions;
+        this.clusterInvalidations = clusterInvalidations;
+    }
+
+    /**
+     * Apply the evictions other nodes publish; only the Spring singleton registers, not Hibernate's instance
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        clusterInvalidations.ifAvailable(cluster -> {
+            cluster.on(ClusterInvalidations.CACHE_EVICT, argument -> {
+                int separator = argument.lastIndexOf(':');
+                Long key = Long.valueOf(argument.substring(separator + 1));
+                String cacheName = argument.substring(0, separator);
+                withCache(cacheName, cache -> evictLocally(cacheName, key, cache));
+            });
+            cluster.on(ClusterInvalidations.CACHE_CLEAR, cacheName -> withCache(cacheName, this::clearLocally));
+            cluster.on(ClusterInvalidations.TOKENS, username ->
+                    tokenCache.ifAvailable(cache -> cache.invalidateUser(username)));
+        });
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        if (entity instanceof Task task) {
+            evict("tasks", task.getId());
+            evictBoard(boardIdOf(task.getColumn()));
+        } else if (entity instanceof BoardColumn column) {
+            evict("columns", column.getId());
+            evictBoard(boardIdOf(column));
+        } else if (entity instanceof Board board) {
+            evictBoard(board.getId());
+        } else if (entity instanceof Comment comment) {
+            evict("comments", comment.getId());
+            evict("tasks", comment.getTask() != null ? comment.getTask().getId() : null);
+        } else if (entity instanceof Attachment attachment) {
+            evict("attachments", attachment.getId());
+            evict("tasks", attachment.getTask() != null ? attachment.getTask().getId() : null);
+        } else if (entity instanceof Label label) {
+            evict("labels", label.getId());
+            evictBoard(label.getBoard() != null ? label.getBoard().getId() : null);
+            // Any task may carry the label
+            clear("tasks");
+        } else if (entity instanceof UserBoardRole role) {
+            evict("permissions", role.getUser() != null ? role.getUser().getId() : null);
+        } else if (entity instanceof User user) {
+            // Boards and tasks embed user summaries too; those refresh with the cache TTL
+            evict("users", user.getId());
+            evict("permissions", user.getId());
+            // Cached tokens carry the user's authorities and enabled state
+            invalidateTokens(user.getUsername());
+        }
+    }
+
+    /**
+     * Evict the tasks and boards touched by a set-based statement, which bypasses entity callbacks
+     */
+    public void onBulkChanged(Collection<Long> taskIds, Collection<Long> boardIds) {
+        taskIds.forEach(id -> evict("tasks", id));
+        boardIds.forEach(this::evictBoard);
+    }
+
+    /**
+     * Drop a user's cached tokens here now and on every node once committed; also for changes
+     * entity callbacks do not see, such as the role collection
+     */
+    public void invalidateTokens(String username) {
+        VerifiedTokenCache cache = tokenCache.getIfAvailable();
+        if (cache == null || username == null) {
+            return;
+        }
+        cache.invalidateUser(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateUser(username);
+                    publish(ClusterInvalidations.TOKENS, username);
+                }
+            });
+        } else {
+            publish(ClusterInvalidations.TOKENS, username);
+        }
+    }
+
+    private static Long boardIdOf(BoardColumn column) {
+        return column != null && column.getBoard() != null ? column.getBoard().getId() : null;
+    }
+
+    // Encoded boards are derived from the cached DTO and go with it
+    private void evictBoard(Long boardId) {
+        evict("boards", boardId);
+        evict("boardFrames", boardId);
+    }
+
+    private void evict(String cacheName, Long key) {
+        if (key == null) {
+            return;
+        }
+        run(cacheName, cache -> evictLocally(cacheName, key, cache),
+                ClusterInvalidations.CACHE_EVICT, cacheName + ":" + key);
+    }
+
+    private void clear(String cacheName) {
+        run(cacheName, this::clearLocally, ClusterInvalidations.CACHE_CLEAR, cacheName);
+    }
+
+    private void evictLocally(String cacheName, Long key, Cache cache) {
+        cacheVersions.ifAvailable(versions -> versions.evicting(cacheName, key));
+        cache.evict(key);
+    }
+
+    private void clearLocally(Cache cache) {
+        cacheVersions.ifAvailable(CacheVersions::clearing);
+        cache.clear();
+    }
+
+    private void run(String cacheName, Consumer<Cache> action, String kind, String argument) {
+        withCache(cacheName, cache -> {
+            action.accept(cache);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.accept(cache);
+                        publish(kind, argument);
+                    }
+                });
+            } else {
+                publish(kind, argument);
+            }
+        });
+    }
+
+    private void withCache(String cacheName, Consumer<Cache> action) {
+        CacheManager manager = cacheManager.getIfAvailable();
+        Cache cache = manager != null ? manager.getCache(cacheName) : null;
+        if (cache != null) {
+            action.accept(cache);
+        }
+    }
+
+    // Other nodes hold their own caches, evicted once the change is committed
+    private void publish(String kind, String argument) {
+        clusterInvalidations.ifAvailable(cluster -> cluster.publish(kind, argument));
+    }
+}
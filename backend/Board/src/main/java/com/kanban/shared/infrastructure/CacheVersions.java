@@ -0,0 +1,63 @@
+package com.kanban.shared.infrastructure;
+
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+
+
+/**
+ * Counts the evictions made by {@link CacheInvalidationListener}, so a reader can tell whether
+ * the entry it is about to put was evicted while it was loading. Readers take a {@link #version}
+ * before loading and put with {@link #putIfCurrent}, which drops the entry in that case; without
+ * it a read that raced a transaction could put the pre-commit state back after its evictions.
+ */
+@Component
+public class CacheVersions {
+
+    // Eviction counts per stripe of keys; a shared stripe only costs a skipped put
+    private static final int STRIPES = 4096;
+
+    private final AtomicLongArray evictions = new AtomicLongArray(STRIPES);
+    private final AtomicLong clears = new AtomicLong();
+
+    /**
+     * Version of a cache entry, to be taken before loading the value that will be put
+     */
+    public long version(String cacheName, Object key) {
+        // Both counts only grow, so the sum changes whenever either does
+        return evictions.get(stripe(cacheName, key)) + clears.get();
+    }
+
+    /**
+     * Put a loaded value unless the entry was evicted since {@code version} was taken
+     */
+    public void putIfCurrent(Cache cache, Object key, Object value, long version) {
+        cache.put(key, value);
+        // Checked after the put: an eviction counted later also removes the entry itself
+        if (version(cache.getName(), key) != version) {
+            cache.evict(key);
+        }
+    }
+
+    /**
+     * Count an eviction; call before evicting
+     */
+    void evicting(String cacheName, Object key) {
+        evictions.incrementAndGet(stripe(cacheName, key));
+    }
+
+    /**
+     * Count a clear; call before clearing
+     */
+    void clearing() {
+        clears.incrementAndGet();
+    }
+
+    private static int stripe(String cacheName, Object key) {
+        int hash = cacheName.hashCode() * 31 + key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,155 @@
+package com.kanban.shared.infrastructure;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+
+
+
+/**
+ * Keeps node-local state in step across nodes that share one database behind the broker relay
+ * ({@code app.websocket.broker.mode=relay}). Caches, the token cache, the search index, the
+ * analytics aggregates and unread counts are maintained by in-JVM entity listeners, so each
+ * of those changes is also published on {@link #TOPIC} once committed, and every other node
+ * hands it to the handlers registered for its kind. Handlers run one at a time, in arrival order,
+ * on a background thread. With the simple broker there is one node and nothing is published.
+ */
+@Slf4j
+@Component
+public class ClusterInvalidations implements SmartInitializingSingleton {
+
+    public static final String TOPIC = "/topic/cluster-invalidations";
+
+    // Kinds of invalidation, each with its own argument
+    public static final String CACHE_EVICT = "cache-evict";     // cache name and key, as name:key
+    public static final String CACHE_CLEAR = "cache-clear";     // cache name
+    public static final String TOKENS = "tokens";               // username
+    public static final String TASKS = "tasks";                 // comma-separated task ids
+    public static final String UNREAD = "unread";               // user id, or ALL
+
+    public static final String ALL = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> handlers = new ConcurrentHashMap<>();
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+    private final ObjectProvider<StompBrokerRelayMessageHandler> relay;
+    private final boolean enabled;
+
+    private final ExecutorService applier = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cluster-invalidations");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ClusterInvalidations(ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+                                ObjectProvider<StompBrokerRelayMessageHandler> relay,
+                                @Value("${app.websocket.broker.mode:simple}") String brokerMode) {
+        this.messagingTemplate = messagingTemplate;
+        this.relay = relay;
+        this.enabled = "relay".equals(brokerMode);
+    }
+
+    /**
+     * Subscribe the relay's system connection to the topic before the relay connects
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        relay.ifAvailable(handler -> {
+            Map<String, MessageHandler> subscriptions = new HashMap<>(handler.getSystemSubscriptions());
+            subscriptions.put(TOPIC, this::received);
+            handler.setSystemSubscriptions(subscriptions);
+        });
+    }
+
+    /**
+     * Whether changes have to reach other nodes
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Apply invalidations of a kind published by other nodes
+     */
+    public void on(String kind, Consumer<String> handler) {
+        handlers.computeIfAbsent(kind, k -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /**
+     * Tell the other nodes about a committed change; callers publish after their transaction commits
+     */
+    public void publish(String kind, String argument) {
+        if (!enabled || argument == null) {
+            return;
+        }
+        SimpMessagingTemplate template = messagingTemplate.getIfAvailable();
+        if (template == null) {
+            return;
+        }
+        try {
+            template.convertAndSend(TOPIC, nodeId + "\n" + kind + "\n" + argument);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish {} invalidation: {}", kind, e.getMessage());
+        }
+    }
+
+    /**
+     * Argument of a {@link #TASKS} invalidation
+     */
+    public static String idsOf(Collection<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    public static List<Long> idsIn(String argument) {
+        return Arrays.stream(argument.split(",")).map(Long::valueOf).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        applier.shutdownNow();
+    }
+
+    void received(Message<?> message) {
+        Object payload = message.getPayload();
+        String text = payload instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : payload.toString();
+        String[] parts = text.split("\n", 3);
+        if (parts.length < 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        List<Consumer<String>> kindHandlers = handlers.getOrDefault(parts[1], List.of());
+        // Off the relay's I/O thread, since handlers may read the database
+        applier.execute(() -> {
+            for (Consumer<String> handler : kindHandlers) {
+                try {
+                    handler.accept(parts[2]);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to apply {} invalidation {}: {}", parts[1], parts[2], e.getMessage());
+                }
+            }
+        });
+    }
+}
@@ -1,16 +1,24 @@
 package com.kanban.shared.infrastructure;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import com.kanban.board.interfaces.rest.ColumnDTO;
 import com.kanban.task.interfaces.rest.TaskDTO;
 import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.domain.repository.ColumnRepository;
 import com.kanban.task.domain.model.Task;
 
 
 
 
 public class ColumnMapper {
+    // Display order of tasks within a column; positions are only a fallback for tasks without a rank key
+    private static final Comparator<Task> TASK_ORDER = Comparator
+            .comparing(Task::getRankKey, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+            .thenComparing(Task::getPosition, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+            .thenComparing(Task::getId, Comparator.nullsLast(Comparator.<Long>naturalOrder()));
+
     public static ColumnDTO toDTO(BoardColumn column) {
         if (column == null) {
             return null;
@@ -19,9 +27,27 @@ public class ColumnMapper {
         List<TaskDTO> taskDTOs = null;
         if (column.getTasks() != null) {
             taskDTOs = column.getTasks().stream()
+                    .sorted(TASK_ORDER)
                     .map(TaskMapper::toPreviewDTO)
                     .collect(Collectors.toList());
         }
+        return toDTO(column, taskDTOs);
+    }
+
+    /**
+     * Column DTO with task previews that are already in display order
+     */
+    public static ColumnDTO toDTO(BoardColumn column, List<TaskDTO> taskDTOs) {
+        if (column == null) {
+            return null;
+        }
+        
+        if (taskDTOs != null) {
+            // Stored positions of untouched neighbours are stale, the index in rank order is authoritative
+            for (int i = 0; i < taskDTOs.size(); i++) {
+                taskDTOs.get(i).setPosition(i);
+            }
+        }
         
         return new ColumnDTO(
             column.getId(),
@@ -35,6 +61,19 @@ public class ColumnMapper {
         );
     }
 
+    public static ColumnDTO toSummaryDTO(ColumnRepository.ColumnSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        ColumnDTO dto = new ColumnDTO(summary.getId(), summary.getName(), summary.getOrderIndex());
+        dto.setColor(summary.getColor());
+        dto.setTaskLimit(summary.getTaskLimit());
+        dto.setCreatedAt(summary.getCreatedAt());
+        dto.setUpdatedAt(summary.getUpdatedAt());
+        dto.setTaskCount(summary.getTaskCount());
+        return dto;
+    }
+
     public static ColumnDTO toPreviewDTO(BoardColumn column) {
         if (column == null) {
             return null;
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 
@@ -34,6 +35,12 @@ public interface LabelRepository extends JpaRepository<Label, Long> {
     @Query("SELECT l FROM Label l WHERE l.board.id = :boardId ORDER BY l.createdAt DESC")
     List<Label> findLabelsByBoardId(@Param("boardId") Long boardId);
     
+    /**
+     * Labels of several boards at once
+     */
+    @Query("SELECT l FROM Label l WHERE l.board.id IN :boardIds ORDER BY l.id ASC")
+    List<Label> findByBoardIdIn(@Param("boardIds") Collection<Long> boardIds);
+    
     /**
      * Count labels by board ID
      */
@@ -0,0 +1,269 @@
+package com.kanban.shared.infrastructure;
+
+import com.kanban.shared.domain.model.Notification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+
+
+
+/**
+ * Bounded in-process buffer between code that raises notifications and the database.
+ * A background writer drains it in batches, inserts each batch with one JDBC batch and then
+ * pushes every notification to its recipient and bumps their unread count. A batch the database
+ * rejects is written row by row, so only the rows that fail on their own are lost and counted.
+ * When the buffer stays full the caller writes its own notification instead, so nothing is
+ * dropped for lack of room; on shutdown the remainder is written before the datasource closes.
+ */
+@Slf4j
+@Component
+public class NotificationQueue implements SmartLifecycle {
+
+    /**
+     * User destination a client subscribes to, as {@code /user/queue/notifications}, for its notifications
+     */
+    public static final String DESTINATION = "/queue/notifications";
+
+    static final String INSERT_SQL = "INSERT INTO notification "
+            + "(title, message, type, read, data, recipient_id, sender_id, task_id, board_id, created_at) "
+            + "VALUES (:title, :message, :type, false, :data, :recipientId, :senderId, :taskId, :boardId, :createdAt)";
+
+    // How long the writer waits for the first notification of a batch before checking for shutdown
+    private static final long POLL_MILLIS = 100;
+
+    private final BlockingQueue<Notification> buffer;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UnreadNotificationCounter unreadCounter;
+
+    private final Counter callerWrites;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public NotificationQueue(NamedParameterJdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             SimpMessagingTemplate messagingTemplate,
+                             UnreadNotificationCounter unreadCounter,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.notifications.queue.capacity:10000}") int capacity,
+                             @Value("${app.notifications.queue.batch-size:100}") int batchSize,
+                             @Value("${app.notifications.queue.offer-timeout:50ms}") Duration offerTimeout) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.messagingTemplate = messagingTemplate;
+        this.unreadCounter = unreadCounter;
+
+        Gauge.builder("notifications.queue.size", buffer, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("notifications.queue.remaining", buffer, BlockingQueue::remainingCapacity).register(meterRegistry);
+        this.callerWrites = meterRegistry.counter("notifications.queue.caller.writes");
+        this.written = meterRegistry.counter("notifications.written", "result", "persisted");
+        this.failed = meterRegistry.counter("notifications.written", "result", "failed");
+        this.batchTimer = meterRegistry.timer("notifications.queue.batch.duration");
+        this.batchSizes = meterRegistry.summary("notifications.queue.batch.size");
+    }
+
+    /**
+     * Queue a notification once the surrounding transaction commits, or right away without one
+     */
+    public void enqueue(Notification notification) {
+        if (notification.getCreatedAt() == null) {
+            notification.setCreatedAt(LocalDateTime.now());
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(notification);
+                }
+            });
+        } else {
+            offer(notification);
+        }
+    }
+
+    /**
+     * Write everything queued so far on the calling thread
+     */
+    public void flush() {
+        List<Notification> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    public int size() {
+        return buffer.size();
+    }
+
+    private void offer(Notification notification) {
+        if (running) {
+            try {
+                if (buffer.offer(notification, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    if (!running) {
+                        // Stopped while offering; the writer may already be gone
+                        flush();
+                    }
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // Backpressure: the writer is behind, so the caller pays for its own insert
+            callerWrites.increment();
+        }
+        write(List.of(notification));
+    }
+
+    private void drain() {
+        List<Notification> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Notification first = buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Notification> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizes.record(batch.size());
+        List<Notification> persisted;
+        try {
+            batchTimer.record(() -> insert(batch));
+            persisted = batch;
+        } catch (RuntimeException e) {
+            // One bad row fails the whole batch; write the rows one by one so only that row is lost
+            log.warn("Failed to write a batch of {} notifications, writing them one by one: {}",
+                    batch.size(), e.getMessage());
+            persisted = insertEach(batch);
+        }
+        written.increment(persisted.size());
+        for (Notification notification : persisted) {
+            Long recipientId = notification.getRecipient().getId();
+            unreadCounter.increment(recipientId);
+            try {
+                messagingTemplate.convertAndSendToUser(String.valueOf(recipientId), DESTINATION,
+                        NotificationMapper.toDTO(notification));
+            } catch (RuntimeException e) {
+                log.warn("Failed to push notification {}: {}", notification.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private List<Notification> insertEach(List<Notification> batch) {
+        List<Notification> persisted = new ArrayList<>(batch.size());
+        for (Notification notification : batch) {
+            try {
+                insert(List.of(notification));
+                persisted.add(notification);
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.error("Failed to write notification '{}' for user {}: {}", notification.getTitle(),
+                        notification.getRecipient().getId(), e.getMessage());
+            }
+        }
+        return persisted;
+    }
+
+    private void insert(List<Notification> batch) {
+        SqlParameterSource[] rows = batch.stream().map(NotificationQueue::parametersOf)
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder keys = new GeneratedKeyHolder();
+        transaction.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows, keys, new String[] {"id"}));
+        List<Map<String, Object>> ids = keys.getKeyList();
+        for (int i = 0; i < batch.size() && i < ids.size(); i++) {
+            Object id = ids.get(i).values().iterator().next();
+            batch.get(i).setId(((Number) id).longValue());
+        }
+    }
+
+    private static SqlParameterSource parametersOf(Notification notification) {
+        return new MapSqlParameterSource()
+                .addValue("title", notification.getTitle())
+                .addValue("message", notification.getMessage())
+                .addValue("type", notification.getType())
+                .addValue("data", notification.getData())
+                .addValue("recipientId", notification.getRecipient().getId())
+                .addValue("senderId", notification.getSender() != null ? notification.getSender().getId() : null)
+                .addValue("taskId", notification.getTask() != null ? notification.getTask().getId() : null)
+                .addValue("boardId", notification.getBoard() != null ? notification.getBoard().getId() : null)
+                .addValue("createdAt", notification.getCreatedAt());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drain, "notification-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Notifications queued while the writer finished its last batch are written here
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
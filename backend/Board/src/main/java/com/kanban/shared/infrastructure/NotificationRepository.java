@@ -4,9 +4,13 @@ import com.kanban.shared.domain.model.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 
@@ -60,9 +64,55 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     Page<Notification> findByRecipientIdAndReadFalseOrderByCreatedAtDesc(Long recipientId, Pageable pageable);
     
+    /**
+     * Types that have notifications, used to apply per-type retention
+     */
+    @Query("SELECT DISTINCT n.type FROM Notification n")
+    List<String> findDistinctTypes();
+    
+    /**
+     * Ids of notifications of a type created before the cutoff, oldest first along the type and age index;
+     * paged so deletes run in chunks
+     */
+    @Query("SELECT n.id FROM Notification n WHERE n.type = :type AND n.createdAt < :cutoff ORDER BY n.createdAt")
+    List<Long> findIdsOfTypeCreatedBefore(@Param("type") String type, @Param("cutoff") LocalDateTime cutoff,
+                                          Pageable pageable);
+
+    /**
+     * Ids of notifications of any type created before the cutoff, in no particular order, since every
+     * chunk is deleted before the next is read; paged so deletes run in chunks
+     */
+    @Query("SELECT n.id FROM Notification n WHERE n.createdAt < :cutoff")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    
+    /**
+     * Delete notifications by id
+     */
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Mark a notification as read; returns 1 only for the call that found it unread
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Notification n SET n.read = true, n.readAt = CURRENT_TIMESTAMP WHERE n.id = :id AND n.read = false")
+    int markAsReadIfUnread(@Param("id") Long id);
+    
+    /**
+     * Delete a notification if it is still unread; returns 1 only for the call that deleted it unread
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Notification n WHERE n.id = :id AND n.read = false")
+    int deleteIfUnread(@Param("id") Long id);
+    
     /**
      * Mark notifications as read by recipient ID
      */
+    @Modifying
+    @Transactional
     @Query("UPDATE Notification n SET n.read = true, n.readAt = CURRENT_TIMESTAMP WHERE n.recipient.id = :recipientId AND n.read = false")
-    void markAllAsReadByRecipientId(@Param("recipientId") Long recipientId);
+    int markAllAsReadByRecipientId(@Param("recipientId") Long recipientId);
 } 
@@ -0,0 +1,97 @@
+package com.kanban.shared.infrastructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+
+
+/**
+ * Deletes notifications older than their type's retention. Each type keeps
+ * app.notifications.retention.days.TYPE days, or default-days when not configured.
+ * Rows go in chunks of max-rows-per-transaction, each chunk in its own transaction,
+ * so a large backlog never holds locks on the table for long.
+ */
+@Slf4j
+@Component
+public class NotificationRetention {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private UnreadNotificationCounter unreadCounter;
+
+    @Value("${app.notifications.retention.default-days:90}")
+    private int defaultDays;
+
+    @Value("${app.notifications.retention.max-rows-per-transaction:1000}")
+    private int maxRowsPerTransaction;
+
+    @Scheduled(fixedDelayString = "${app.notifications.retention.interval-ms:3600000}",
+            initialDelayString = "${app.notifications.retention.initial-delay-ms:60000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        for (String type : notificationRepository.findDistinctTypes()) {
+            try {
+                int deleted = deleteCreatedBefore(type, now.minusDays(retentionDays(type)));
+                if (deleted > 0) {
+                    log.info("Deleted {} expired {} notifications", deleted, type);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete expired {} notifications: {}", type, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Days notifications of a type are kept
+     */
+    public int retentionDays(String type) {
+        return environment.getProperty("app.notifications.retention.days." + type, Integer.class, defaultDays);
+    }
+
+    /**
+     * Delete notifications of a type, or of every type when null, created before the cutoff;
+     * returns how many were deleted
+     */
+    public int deleteCreatedBefore(String type, LocalDateTime cutoff) {
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                PageRequest chunk = PageRequest.of(0, maxRowsPerTransaction);
+                List<Long> ids = type != null
+                        ? notificationRepository.findIdsOfTypeCreatedBefore(type, cutoff, chunk)
+                        : notificationRepository.findIdsCreatedBefore(cutoff, chunk);
+                return ids.isEmpty() ? 0 : notificationRepository.deleteByIdIn(ids);
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            total += deleted;
+            // Deleted rows may have been unread; counts are reloaded on next access
+            unreadCounter.invalidateAll();
+            meterRegistry.counter("notifications.retention.deleted", "type", type != null ? type : "ALL")
+                    .increment(deleted);
+        }
+        return total;
+    }
+}
@@ -9,12 +9,25 @@ import java.time.LocalDateTime;
 
 
 
+/**
+ * Raises notifications; they are written and pushed to recipients in the background by
+ * {@link NotificationQueue} once the caller's transaction commits
+ */
 @Service
 public class NotificationService {
 
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private NotificationQueue notificationQueue;
+
+    @Autowired
+    private NotificationRetention notificationRetention;
+
+    @Autowired
+    private UnreadNotificationCounter unreadCounter;
+
     /**
      * Create a notification for task assignment
      */
@@ -30,7 +43,7 @@ public class NotificationService {
         notification.setData("{\"taskId\": " + taskId + "}");
         notification.setCreatedAt(LocalDateTime.now());
         
-        notificationRepository.save(notification);
+        notificationQueue.enqueue(notification);
     }
 
     /**
@@ -45,7 +58,7 @@ public class NotificationService {
         notification.setData("{\"taskId\": " + taskId + "}");
         notification.setCreatedAt(LocalDateTime.now());
         
-        notificationRepository.save(notification);
+        notificationQueue.enqueue(notification);
     }
 
     /**
@@ -62,7 +75,7 @@ public class NotificationService {
             notification.setData("{\"taskId\": " + taskId + "}");
             notification.setCreatedAt(LocalDateTime.now());
             
-            notificationRepository.save(notification);
+            notificationQueue.enqueue(notification);
         }
     }
 
@@ -79,7 +92,7 @@ public class NotificationService {
         notification.setData("{\"boardId\": " + boardId + "}");
         notification.setCreatedAt(LocalDateTime.now());
         
-        notificationRepository.save(notification);
+        notificationQueue.enqueue(notification);
     }
 
     /**
@@ -87,21 +100,21 @@ public class NotificationService {
      */
     public void markAllAsRead(Long userId) {
         notificationRepository.markAllAsReadByRecipientId(userId);
+        unreadCounter.reset(userId);
     }
 
     /**
      * Get unread notification count for a user
      */
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByRecipientIdAndReadFalse(userId);
+        return unreadCounter.get(userId);
     }
 
     /**
-     * Delete old notifications (cleanup)
+     * Delete notifications of any type older than the given number of days, in chunks;
+     * scheduled per-type retention is done by NotificationRetention
      */
-    public void deleteOldNotifications(int daysOld) {
-        LocalDateTime.now().minusDays(daysOld);
-        // Implementation would depend on your repository method
-        // notificationRepository.deleteByCreatedAtBefore(cutoffDate);
+    public int deleteOldNotifications(int daysOld) {
+        return notificationRetention.deleteCreatedBefore(null, LocalDateTime.now().minusDays(daysOld));
     }
 } 
@@ -52,7 +52,8 @@ public class TaskMapper {
             task.getDueDate(),
             task.getCreatedAt(),
             task.getUpdatedAt(),
-            task.getPosition(),
+            // The stored position goes stale as neighbours move; listings fill in the index in rank order
+            null,
             commentDTOs,
             attachmentDTOs,
             labelDTOs,
@@ -0,0 +1,157 @@
+package com.kanban.shared.infrastructure;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+
+
+/**
+ * In-memory unread notification count per user, seeded from the database on first access
+ * and kept current as notifications are created and read. Every change is pushed to the
+ * user's unread destination so clients don't have to poll the count endpoint.
+ * Changes made inside a transaction are applied once it commits, and other nodes reload theirs.
+ */
+@Slf4j
+@Component
+public class UnreadNotificationCounter {
+
+    /**
+     * User destination a client subscribes to, as {@code /user/queue/notifications/unread}, for its unread count
+     */
+    public static final String DESTINATION = NotificationQueue.DESTINATION + "/unread";
+
+    private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+    // Bumped by every change of a user without a count; a seed that raced one is not kept
+    private final AtomicLong unseededChanges = new AtomicLong();
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private ClusterInvalidations clusterInvalidations;
+
+    /**
+     * Counts changed on other nodes are reloaded; a count this node holds is pushed again,
+     * since its user may be watching it here
+     */
+    @PostConstruct
+    public void followOtherNodes() {
+        clusterInvalidations.on(ClusterInvalidations.UNREAD, user -> {
+            unseededChanges.incrementAndGet();
+            if (ClusterInvalidations.ALL.equals(user)) {
+                counts.clear();
+            } else if (counts.remove(Long.valueOf(user)) != null) {
+                Long userId = Long.valueOf(user);
+                push(userId, get(userId));
+            }
+        });
+    }
+
+    /**
+     * Unread notifications of a user
+     */
+    public long get(Long userId) {
+        LongAdder count = counts.get(userId);
+        if (count != null) {
+            return Math.max(count.sum(), 0);
+        }
+        long changesBefore = unseededChanges.get();
+        long unread = notificationRepository.countByRecipientIdAndReadFalse(userId);
+        // A change committed while counting may or may not be in the count, so the next call reloads
+        LongAdder seeded = counts.compute(userId, (id, current) ->
+                current != null || unseededChanges.get() != changesBefore ? current : seed(unread));
+        return Math.max(seeded != null ? seeded.sum() : unread, 0);
+    }
+
+    public void increment(Long userId) {
+        add(userId, 1);
+    }
+
+    public void decrement(Long userId) {
+        add(userId, -1);
+    }
+
+    /**
+     * All notifications of a user were marked as read. Notifications may arrive between that
+     * commit and this call, so the count is reloaded rather than set to zero
+     */
+    public void reset(Long userId) {
+        afterCommit(() -> {
+            unseededChanges.incrementAndGet();
+            counts.remove(userId);
+            push(userId, get(userId));
+            clusterInvalidations.publish(ClusterInvalidations.UNREAD, String.valueOf(userId));
+        });
+    }
+
+    /**
+     * Forget every count so they are reloaded on next access, e.g. after bulk deletes
+     */
+    public void invalidateAll() {
+        afterCommit(() -> {
+            unseededChanges.incrementAndGet();
+            counts.clear();
+            clusterInvalidations.publish(ClusterInvalidations.UNREAD, ClusterInvalidations.ALL);
+        });
+    }
+
+    private void add(Long userId, long delta) {
+        afterCommit(() -> {
+            // Same bin lock as seeding in get, so a change either lands on the seeded count or voids the seed
+            LongAdder count = counts.compute(userId, (id, current) -> {
+                if (current == null) {
+                    // Users nobody asked about yet are seeded from the database, which already has this change
+                    unseededChanges.incrementAndGet();
+                    return null;
+                }
+                current.add(delta);
+                return current;
+            });
+            if (count != null) {
+                push(userId, Math.max(count.sum(), 0));
+            }
+            clusterInvalidations.publish(ClusterInvalidations.UNREAD, String.valueOf(userId));
+        });
+    }
+
+    private static LongAdder seed(long unread) {
+        LongAdder count = new LongAdder();
+        count.add(unread);
+        return count;
+    }
+
+    private void push(Long userId, long count) {
+        try {
+            messagingTemplate.convertAndSendToUser(String.valueOf(userId), DESTINATION, count);
+        } catch (RuntimeException e) {
+            log.warn("Failed to push unread count to user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.kanban.shared.infrastructure;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+
+
+
+/**
+ * Encodes payloads in each {@link WireFormat} with the application's Jackson settings, and
+ * re-encodes JSON that is already serialized token by token, without building objects again.
+ */
+@Component
+public class WireCodec {
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+
+    public WireCodec(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.jsonMapper = objectMapper;
+        // Same modules and features as the JSON mapper. String references (CBOR tag 256) write
+        // each repeated field name and value once, which is where most of the saving comes from
+        this.cborMapper = objectMapperBuilder
+                .factory(CBORFactory.builder().enable(CBORGenerator.Feature.STRINGREF).build())
+                .build();
+    }
+
+    public byte[] encode(Object value, WireFormat format) {
+        try {
+            return mapperOf(format).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode " + value.getClass().getSimpleName() + " as " + format, e);
+        }
+    }
+
+    public <T> T decode(byte[] bytes, WireFormat format, Class<T> type) {
+        try {
+            return mapperOf(format).readValue(bytes, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode " + type.getSimpleName() + " from " + format, e);
+        }
+    }
+
+    /**
+     * The given JSON document in another format
+     */
+    public byte[] transcode(byte[] json, WireFormat format) {
+        if (format == WireFormat.JSON) {
+            return json;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = jsonMapper.getFactory().createParser(json);
+             JsonGenerator generator = mapperOf(format).getFactory().createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to transcode JSON to " + format, e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * A snapshot document ({@code sequence} and {@code board}) around a board already encoded
+     * in the same format, so the board itself is not serialized again
+     */
+    public byte[] snapshot(long sequence, byte[] board, WireFormat format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(board.length + 32);
+        if (format == WireFormat.JSON) {
+            out.writeBytes(("{\"sequence\":" + sequence + ",\"board\":").getBytes(StandardCharsets.UTF_8));
+            out.writeBytes(board);
+            out.write('}');
+            return out.toByteArray();
+        }
+        try (JsonGenerator generator = mapperOf(format).getFactory().createGenerator(out)) {
+            // A map of known size needs no end marker, so the board's bytes can simply follow
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartObject(null, 2);
+            generator.writeNumberField("sequence", sequence);
+            generator.writeFieldName("board");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode snapshot as " + format, e);
+        }
+        out.writeBytes(board);
+        return out.toByteArray();
+    }
+
+    private ObjectMapper mapperOf(WireFormat format) {
+        return format == WireFormat.CBOR ? cborMapper : jsonMapper;
+    }
+}
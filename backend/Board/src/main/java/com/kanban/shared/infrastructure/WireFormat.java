@@ -0,0 +1,65 @@
+package com.kanban.shared.infrastructure;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import java.util.List;
+
+
+
+
+/**
+ * Encodings the API can answer in. JSON is the default; CBOR carries the same structure
+ * in fewer bytes and is picked by REST clients through {@code Accept} and by STOMP clients
+ * with the {@code wire-format} header of their CONNECT frame.
+ */
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * The format an {@code Accept} header prefers, JSON when it names neither
+     */
+    public static WireFormat fromAccept(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(mediaTypes);
+        } catch (IllegalArgumentException e) {
+            // Malformed, or too many media types to sort
+            return JSON;
+        }
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            // Wildcards match JSON first, so only an explicit CBOR ranks CBOR first
+            if (JSON.mediaType.isCompatibleWith(mediaType)) {
+                return JSON;
+            }
+            if (CBOR.mediaType.isCompatibleWith(mediaType)) {
+                return CBOR;
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * The format named by a STOMP {@code wire-format} header, JSON for missing or unknown names
+     */
+    public static WireFormat fromName(String name) {
+        return name != null && CBOR.name().equalsIgnoreCase(name.trim()) ? CBOR : JSON;
+    }
+}
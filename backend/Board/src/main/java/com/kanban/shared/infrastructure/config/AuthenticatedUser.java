@@ -0,0 +1,57 @@
+package com.kanban.shared.infrastructure.config;
+
+import com.kanban.user.domain.model.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import java.util.Collection;
+import java.util.List;
+
+
+
+
+/**
+ * Lightweight principal of a request authenticated by a bearer token: the user id, username
+ * and authorities resolved when the token was first verified, without the JPA entity.
+ */
+public final class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthenticatedUser(Long id, String username, Collection<? extends GrantedAuthority> authorities) {
+        this.id = id;
+        this.username = username;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    public static AuthenticatedUser of(UserDetails userDetails) {
+        Long id = userDetails instanceof User user ? user.getId() : null;
+        return new AuthenticatedUser(id, userDetails.getUsername(), userDetails.getAuthorities());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    // Token authenticated, there is no password to check
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{id=" + id + ", username='" + username + "'}";
+    }
+}
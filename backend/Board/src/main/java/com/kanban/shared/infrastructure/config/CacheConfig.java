@@ -1,25 +1,65 @@
 package com.kanban.shared.infrastructure.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 
 
+/**
+ * Bounded Caffeine caches (W-TinyLFU eviction) configured per cache with
+ * {@code app.cache.spec.<name>}, falling back to {@code app.cache.default-spec}.
+ * Modules add their own caches, and weigh their entries, through {@link CacheCustomizer} beans.
+ * Statistics are always recorded; the actuator binds them to the meter registry as
+ * {@code cache.gets}, {@code cache.puts}, {@code cache.evictions} and {@code cache.size}.
+ */
 @Configuration
 @EnableCaching
 @EnableScheduling
 public class CacheConfig {
 
+    private static final List<String> CACHE_NAMES = List.of(
+        "tasks", "users", "columns", "comments", "labels", "attachments", "notifications", "permissions"
+    );
+
+    private static final String FALLBACK_SPEC = "maximumSize=1000,expireAfterWrite=10m";
+
     @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        cacheManager.setCacheNames(java.util.Arrays.asList(
-            "boards", "tasks", "users", "columns", "comments", "labels", "attachments", "notifications"
-        ));
+    public CacheManager cacheManager(Environment environment, ObjectProvider<CacheCustomizer> customizers) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Static mode: only the caches below and the contributed ones exist
+        cacheManager.setCacheNames(Collections.emptyList());
+        Map<String, CacheCustomizer> caches = new LinkedHashMap<>();
+        CACHE_NAMES.forEach(name -> caches.put(name, () -> name));
+        customizers.orderedStream().forEach(customizer -> caches.put(customizer.cacheName(), customizer));
+        String defaultSpec = environment.getProperty("app.cache.default-spec", FALLBACK_SPEC);
+        caches.forEach((name, customizer) -> {
+            String spec = environment.getProperty("app.cache.spec." + name, defaultSpec);
+            cacheManager.registerCustomCache(name, builder(spec, customizer).build());
+        });
         return cacheManager;
     }
-} 
+
+    public static Caffeine<Object, Object> builder(String spec, CacheCustomizer customizer) {
+        Caffeine<Object, Object> builder = Caffeine.from(CaffeineSpec.parse(spec)).recordStats();
+        if (spec.contains("maximumWeight")) {
+            builder.weigher(customizer::weigh);
+        }
+        return builder;
+    }
+
+    static Caffeine<Object, Object> builder(String name, String spec) {
+        return builder(spec, () -> name);
+    }
+}
@@ -0,0 +1,19 @@
+package com.kanban.shared.infrastructure.config;
+
+
+
+/**
+ * Contributed as a bean by the module that owns a cache: registers the cache with the cache
+ * manager and weighs its entries when {@code app.cache.spec.<name>} bounds it by maximumWeight
+ */
+public interface CacheCustomizer {
+
+    String cacheName();
+
+    /**
+     * Weight of one entry; every entry counts as one unless the owner knows better
+     */
+    default int weigh(Object key, Object value) {
+        return 1;
+    }
+}
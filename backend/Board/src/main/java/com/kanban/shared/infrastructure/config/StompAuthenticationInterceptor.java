@@ -0,0 +1,140 @@
+package com.kanban.shared.infrastructure.config;
+
+import com.kanban.shared.infrastructure.ClusterInvalidations;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+
+
+/**
+ * Authenticates STOMP sessions and guards what they may subscribe to. A CONNECT carrying
+ * {@code Authorization: Bearer <token>} makes the token's user the session's principal, named
+ * by user id so {@code /user/...} destinations reach it; an invalid token refuses the session.
+ * Sessions without a token stay anonymous and may only subscribe to shared topics:
+ * {@code /topic/user/{id}/**} is reserved for that user and broker queues are only reached
+ * through {@code /user/queue/...}; the topics relay nodes talk to each other over are off limits,
+ * and clients send to {@code /app/...} only.
+ * The principal is the security context while a message is handled.
+ */
+@Component
+public class StompAuthenticationInterceptor implements ExecutorChannelInterceptor {
+
+    public static final String AUTHORIZATION_HEADER = "Authorization";
+
+    // Topics relay nodes use among themselves to route /user destinations
+    public static final String USER_DESTINATION_BROADCAST = "/topic/unresolved-user-destination";
+    public static final String USER_REGISTRY_BROADCAST = "/topic/simp-user-registry";
+
+    static final String APPLICATION_PREFIX = "/app/";
+
+    private static final Pattern USER_TOPIC = Pattern.compile("^/topic/user/([^/]+)(/.*)?$");
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public StompAuthenticationInterceptor(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        switch (accessor.getCommand()) {
+            case CONNECT, STOMP -> authenticate(accessor);
+            case SUBSCRIBE -> authorizeSubscription(accessor.getUser(), accessor.getDestination());
+            case SEND -> authorizeSend(accessor.getDestination());
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    @Override
+    public Message<?> beforeHandle(@NonNull Message<?> message, @NonNull MessageChannel channel,
+                                   @NonNull MessageHandler handler) {
+        if (SimpMessageHeaderAccessor.getUser(message.getHeaders()) instanceof Authentication authentication) {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(context);
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(@NonNull Message<?> message, @NonNull MessageChannel channel,
+                                    @NonNull MessageHandler handler, Exception ex) {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticate(StompHeaderAccessor accessor) {
+        String authorization = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (authorization == null) {
+            return;
+        }
+        AuthenticatedUser principal = authorization.startsWith("Bearer ")
+                ? verifiedTokenCache.resolve(authorization.substring(7))
+                : null;
+        if (principal == null || principal.getId() == null) {
+            throw new BadCredentialsException("Invalid STOMP credentials");
+        }
+        accessor.setUser(new SessionAuthentication(principal));
+    }
+
+    static void authorizeSubscription(Principal user, String destination) {
+        if (destination == null) {
+            return;
+        }
+        if (destination.startsWith(USER_DESTINATION_BROADCAST) || destination.startsWith(USER_REGISTRY_BROADCAST)
+                || destination.startsWith(ClusterInvalidations.TOPIC)) {
+            throw new AccessDeniedException("Not allowed to subscribe to " + destination);
+        }
+        if (destination.startsWith("/queue/")) {
+            throw new AccessDeniedException("Queues are subscribed to through /user" + destination);
+        }
+        Matcher userTopic = USER_TOPIC.matcher(destination);
+        if (userTopic.matches() && (user == null || !user.getName().equals(userTopic.group(1)))) {
+            throw new AccessDeniedException("Not allowed to subscribe to " + destination);
+        }
+    }
+
+    // Clients talk to the application only; broker destinations are written by the server
+    static void authorizeSend(String destination) {
+        if (destination == null || !destination.startsWith(APPLICATION_PREFIX)) {
+            throw new AccessDeniedException("Not allowed to send to " + destination);
+        }
+    }
+
+    /**
+     * Principal of an authenticated session, named by user id
+     */
+    static final class SessionAuthentication extends UsernamePasswordAuthenticationToken {
+
+        SessionAuthentication(AuthenticatedUser principal) {
+            super(principal, null, principal.getAuthorities());
+        }
+
+        @Override
+        public String getName() {
+            return String.valueOf(((AuthenticatedUser) getPrincipal()).getId());
+        }
+    }
+}
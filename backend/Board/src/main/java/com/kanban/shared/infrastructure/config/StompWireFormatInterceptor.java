@@ -0,0 +1,118 @@
+package com.kanban.shared.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kanban.shared.infrastructure.WireCodec;
+import com.kanban.shared.infrastructure.WireFormat;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+
+
+/**
+ * Lets a STOMP session receive its messages in CBOR instead of JSON by sending
+ * {@code wire-format:cbor} with CONNECT. Only sessions on a plain WebSocket endpoint can,
+ * since SockJS carries text only. CBOR frames go out as binary frames with content type
+ * application/octet-stream and a {@code wire-format:cbor} header. A broadcast is transcoded
+ * once and the bytes are shared by all CBOR subscribers.
+ */
+@Component
+public class StompWireFormatInterceptor implements ChannelInterceptor {
+
+    public static final String FORMAT_HEADER = "wire-format";
+
+    static final String BINARY_TRANSPORT = StompWireFormatInterceptor.class.getName() + ".binaryTransport";
+
+    private final WireCodec wireCodec;
+    private final Map<String, WireFormat> sessionFormats = new ConcurrentHashMap<>();
+    // Keyed by payload identity: the broker hands the same payload to every subscriber
+    private final Cache<Object, byte[]> transcoded = Caffeine.newBuilder().weakKeys().maximumSize(256).build();
+
+    public StompWireFormatInterceptor(WireCodec wireCodec) {
+        this.wireCodec = wireCodec;
+    }
+
+    /**
+     * Marks sessions of an endpoint as able to receive binary frames
+     */
+    public static HandshakeInterceptor binaryTransport() {
+        return new HandshakeInterceptor() {
+            @Override
+            public boolean beforeHandshake(@NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response,
+                                           @NonNull WebSocketHandler wsHandler, @NonNull Map<String, Object> attributes) {
+                attributes.put(BINARY_TRANSPORT, Boolean.TRUE);
+                return true;
+            }
+
+            @Override
+            public void afterHandshake(@NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response,
+                                       @NonNull WebSocketHandler wsHandler, Exception exception) {
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (type == null || sessionId == null) {
+            return message;
+        }
+        switch (type) {
+            case CONNECT -> register(sessionId, message);
+            case DISCONNECT -> sessionFormats.remove(sessionId);
+            case MESSAGE -> {
+                WireFormat format = sessionFormats.get(sessionId);
+                if (format != null) {
+                    return encode(message, format);
+                }
+            }
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    WireFormat formatOf(String sessionId) {
+        return sessionFormats.getOrDefault(sessionId, WireFormat.JSON);
+    }
+
+    private void register(String sessionId, Message<?> message) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        WireFormat format = WireFormat.fromName(accessor.getFirstNativeHeader(FORMAT_HEADER));
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        boolean binary = attributes != null && Boolean.TRUE.equals(attributes.get(BINARY_TRANSPORT));
+        if (format != WireFormat.JSON && binary) {
+            sessionFormats.put(sessionId, format);
+        }
+    }
+
+    private Message<?> encode(Message<?> message, WireFormat format) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        MimeType contentType = accessor.getContentType();
+        if (!(message.getPayload() instanceof byte[] json) || contentType == null
+                || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            return message;
+        }
+        byte[] payload = transcoded.get(json, bytes -> wireCodec.transcode(json, format));
+        // Octet-stream is what makes the STOMP handler send a binary frame
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.setNativeHeader(FORMAT_HEADER, format.name().toLowerCase());
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,140 @@
+package com.kanban.shared.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+
+
+/**
+ * Bearer tokens that passed signature verification, keyed by the SHA-256 of the token and
+ * mapped to the principal resolved for them. An entry lives until its token expires, capped by
+ * {@code app.security.token-cache.max-ttl}, so repeat requests skip both the signature check
+ * and the user lookup. Entries of a user are dropped when the user changes ({@link #invalidateUser}).
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, VerifiedToken> cache;
+
+    // Bumped by every invalidation; a lookup that raced one does not cache its result
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              UserDetailsService userDetailsService,
+                              ObjectProvider<MeterRegistry> meterRegistry,
+                              @Value("${app.cache.spec.tokens:maximumSize=10000}") String spec,
+                              @Value("${app.security.token-cache.max-ttl:15m}") Duration maxTtl) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.cache = CacheConfig.builder("tokens", spec)
+                .expireAfter(untilTokenExpiry(maxTtl))
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "tokens"));
+    }
+
+    /**
+     * The principal of a valid token of an enabled user, or null when the token does not authenticate anyone
+     */
+    public AuthenticatedUser resolve(String token) {
+        String key = hash(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached.principal();
+        }
+
+        long invalidationsBefore = invalidations.get();
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            return null;
+        }
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+        if (!userDetails.isEnabled()) {
+            return null;
+        }
+
+        AuthenticatedUser principal = AuthenticatedUser.of(userDetails);
+        if (invalidations.get() == invalidationsBefore) {
+            cache.put(key, new VerifiedToken(principal, claims.getExpiration().toInstant()));
+        }
+        return principal;
+    }
+
+    /**
+     * Drop every cached token of a user, e.g. after the user was disabled, deleted or got new roles
+     */
+    public void invalidateUser(String username) {
+        invalidations.incrementAndGet();
+        cache.asMap().values().removeIf(token -> token.principal().getUsername().equals(username));
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static Expiry<String, VerifiedToken> untilTokenExpiry(Duration maxTtl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                Duration left = Duration.between(Instant.now(), token.expiresAt());
+                return Math.max(0, Math.min(left.toNanos(), maxTtl.toNanos()));
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, token, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record VerifiedToken(AuthenticatedUser principal, Instant expiresAt) {
+    }
+}
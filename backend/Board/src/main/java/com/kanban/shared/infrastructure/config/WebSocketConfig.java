@@ -1,7 +1,10 @@
 package com.kanban.shared.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -13,10 +16,53 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+  @Autowired
+  private StompWireFormatInterceptor wireFormatInterceptor;
+
+  @Autowired
+  private StompAuthenticationInterceptor authenticationInterceptor;
+
+  @Value("${app.websocket.broker.mode:simple}")
+  private String brokerMode;
+
+  @Value("${app.websocket.broker.relay.host:localhost}")
+  private String relayHost;
+
+  @Value("${app.websocket.broker.relay.port:61613}")
+  private int relayPort;
+
+  @Value("${app.websocket.broker.relay.login:guest}")
+  private String relayLogin;
+
+  @Value("${app.websocket.broker.relay.passcode:guest}")
+  private String relayPasscode;
+
+  /**
+   * The in-memory broker reaches subscribers of this node only. In relay mode topics go
+   * through an external STOMP broker, so every node delivers every board's events, and
+   * {@code /user} destinations of a session on another node are forwarded to that node.
+   * Node-local caches, the search index, analytics and unread counts follow other nodes'
+   * changes through {@link com.kanban.shared.infrastructure.ClusterInvalidations}, so they
+   * lag a commit elsewhere by the broker round trip. The relay's TCP client, reactor-netty,
+   * is only packaged with the {@code relay} Maven profile.
+   */
   @Override
   public void configureMessageBroker(@NonNull MessageBrokerRegistry config) {
-    config.enableSimpleBroker("/topic");
+    switch (brokerMode) {
+      case "simple" -> config.enableSimpleBroker("/topic", "/queue");
+      case "relay" -> config.enableStompBrokerRelay("/topic", "/queue")
+              .setRelayHost(relayHost)
+              .setRelayPort(relayPort)
+              .setClientLogin(relayLogin)
+              .setClientPasscode(relayPasscode)
+              .setSystemLogin(relayLogin)
+              .setSystemPasscode(relayPasscode)
+              .setUserDestinationBroadcast(StompAuthenticationInterceptor.USER_DESTINATION_BROADCAST)
+              .setUserRegistryBroadcast(StompAuthenticationInterceptor.USER_REGISTRY_BROADCAST);
+      default -> throw new IllegalStateException("Unknown app.websocket.broker.mode: " + brokerMode);
+    }
     config.setApplicationDestinationPrefixes("/app");
+    config.setUserDestinationPrefix("/user");
   }
 
   @Override
@@ -24,5 +70,19 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     registry.addEndpoint("/ws")
             .setAllowedOriginPatterns("*")
             .withSockJS();
+    // Plain WebSocket, for clients that receive binary (CBOR) frames
+    registry.addEndpoint("/ws-binary")
+            .setAllowedOriginPatterns("*")
+            .addInterceptors(StompWireFormatInterceptor.binaryTransport());
+  }
+
+  @Override
+  public void configureClientInboundChannel(@NonNull ChannelRegistration registration) {
+    registration.interceptors(wireFormatInterceptor, authenticationInterceptor);
+  }
+
+  @Override
+  public void configureClientOutboundChannel(@NonNull ChannelRegistration registration) {
+    registration.interceptors(wireFormatInterceptor);
   }
 }
@@ -1,6 +1,7 @@
 package com.kanban.shared.interfaces.rest;
 
 import com.kanban.shared.domain.exception.ResourceNotFoundException;
+import com.kanban.shared.infrastructure.AttachmentBlobStore;
 import com.kanban.shared.infrastructure.AttachmentMapper;
 import com.kanban.shared.domain.model.Attachment;
 import com.kanban.task.domain.model.Task;
@@ -10,6 +11,7 @@ import com.kanban.task.domain.repository.TaskRepository;
 import com.kanban.user.domain.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -18,9 +20,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -41,8 +43,8 @@ public class AttachmentController {
     @Autowired
     private UserRepository userRepository;
 
-    @Value("${app.attachment.upload-dir:uploads/attachments}")
-    private String uploadDir;
+    @Autowired
+    private AttachmentBlobStore blobStore;
 
     @Value("${app.attachment.max-size:10485760}") // 10MB default
     private long maxFileSize;
@@ -135,30 +137,19 @@ public class AttachmentController {
             User uploadedBy = userRepository.findByUsername(userDetails.getUsername())
                     .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-            // Ensure upload directory exists
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
+            // Stored once per distinct content; the same file attached again reuses it
+            String key;
+            try (InputStream content = file.getInputStream()) {
+                key = blobStore.store(content);
             }
-
-            // Generate unique filename preserving extension
             String originalFilename = file.getOriginalFilename();
-            String fileExtension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
-            String storedFilename = java.util.UUID.randomUUID().toString() + fileExtension;
-
-            // Save file contents
-            Path filePath = uploadPath.resolve(storedFilename);
-            Files.copy(file.getInputStream(), filePath);
 
             // Build and save Attachment entity
             Attachment attachment = new Attachment();
-            attachment.setFilename(storedFilename);
-            attachment.setOriginalFilename(originalFilename != null ? originalFilename : storedFilename);
-            // Store only stored filename as URL token similar to AvatarController
-            attachment.setFileUrl(storedFilename);
+            attachment.setFilename(key);
+            attachment.setOriginalFilename(originalFilename != null ? originalFilename : key);
+            // The content hash doubles as the reference that keeps the stored file alive
+            attachment.setFileUrl(key);
             attachment.setContentType(file.getContentType() != null ? file.getContentType() : "application/octet-stream");
             attachment.setFileSize(file.getSize());
             attachment.setTask(task);
@@ -206,7 +197,7 @@ public class AttachmentController {
     }
 
     @GetMapping("/{id}/download")
-    public ResponseEntity<byte[]> downloadAttachment(@PathVariable Long id) {
+    public ResponseEntity<Resource> downloadAttachment(@PathVariable Long id) {
         Optional<Attachment> optionalAttachment = attachmentRepository.findById(id);
         if (optionalAttachment.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -214,20 +205,12 @@ public class AttachmentController {
 
         Attachment attachment = optionalAttachment.get();
         try {
-            Path filePath = Paths.get(uploadDir).resolve(attachment.getFileUrl());
+            Path filePath = blobStore.resolve(attachment.getFileUrl());
             if (!Files.exists(filePath)) {
                 return ResponseEntity.notFound().build();
             }
-            byte[] bytes = Files.readAllBytes(filePath);
-            MediaType mediaType = MediaType.APPLICATION_OCTET_STREAM;
-            try {
-                mediaType = MediaType.parseMediaType(attachment.getContentType());
-            } catch (Exception ignored) { }
-
-            return ResponseEntity.ok()
-                    .contentType(mediaType)
-                    .header("Content-Disposition", "attachment; filename=\"" + attachment.getOriginalFilename() + "\"")
-                    .body(bytes);
+            return FileDownloads.attachment(filePath, FileDownloads.mediaTypeOf(attachment.getContentType()),
+                    attachment.getOriginalFilename());
         } catch (IOException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -0,0 +1,29 @@
+package com.kanban.shared.interfaces.rest;
+
+import com.kanban.shared.domain.exception.ValidationException;
+
+
+
+
+/**
+ * How much of an entity a listing endpoint returns: SUMMARY carries counts computed in SQL
+ * instead of nested collections, FULL the complete DTO
+ */
+public enum DtoView {
+    SUMMARY,
+    FULL;
+
+    /**
+     * Parse the view request parameter, case-insensitively
+     */
+    public static DtoView from(String view) {
+        if (view == null || view.isBlank()) {
+            return FULL;
+        }
+        try {
+            return valueOf(view.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid view: " + view + ", expected summary or full");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.kanban.shared.interfaces.rest;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+
+
+
+/**
+ * Responses that stream a stored file instead of loading it into memory.
+ * Spring MVC answers Range requests for a Resource body with 206 and only the requested
+ * regions, and answers If-None-Match / If-Modified-Since with 304 using the ETag and
+ * Last-Modified set here, so controllers just return what this builds.
+ */
+public final class FileDownloads {
+
+    private FileDownloads() {
+    }
+
+    /**
+     * Stream a file inline, e.g. an image shown in the page
+     */
+    public static ResponseEntity<Resource> inline(Path path, MediaType mediaType) throws IOException {
+        return respond(path, mediaType, null);
+    }
+
+    /**
+     * Stream a file as a download saved under the given name
+     */
+    public static ResponseEntity<Resource> attachment(Path path, MediaType mediaType, String filename) throws IOException {
+        return respond(path, mediaType, ContentDisposition.attachment()
+                .filename(filename, StandardCharsets.UTF_8)
+                .build());
+    }
+
+    /**
+     * Media type from a stored value, falling back to octet-stream when it doesn't parse
+     */
+    public static MediaType mediaTypeOf(String contentType) {
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (RuntimeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    private static ResponseEntity<Resource> respond(Path path, MediaType mediaType,
+                                                    ContentDisposition disposition) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(mediaType)
+                .eTag(etagOf(attributes.size(), lastModified))
+                .lastModified(lastModified)
+                // Private since files are only served to signed-in users; revalidated with the ETag
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (disposition != null) {
+            response.header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+        }
+        return response.body(new FileSystemResource(path));
+    }
+
+    /**
+     * Strong validator from size and modification time, so checking it never reads the file
+     */
+    static String etagOf(long size, long lastModified) {
+        return "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+}
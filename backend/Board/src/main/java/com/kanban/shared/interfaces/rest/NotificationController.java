@@ -5,6 +5,7 @@ import com.kanban.shared.infrastructure.NotificationMapper;
 import com.kanban.shared.domain.model.Notification;
 import com.kanban.user.domain.model.User;
 import com.kanban.shared.infrastructure.NotificationRepository;
+import com.kanban.shared.infrastructure.UnreadNotificationCounter;
 import com.kanban.user.domain.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -31,6 +32,9 @@ public class NotificationController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UnreadNotificationCounter unreadCounter;
+
     @GetMapping("/user")
     public ResponseEntity<List<NotificationDTO>> getUserNotifications(@AuthenticationPrincipal UserDetails userDetails,
                                                                     @RequestParam(defaultValue = "0") int page,
@@ -115,6 +119,7 @@ public class NotificationController {
         notification.setSender(sender);
 
         Notification savedNotification = notificationRepository.save(notification);
+        unreadCounter.increment(recipient.getId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(NotificationMapper.toDTO(savedNotification));
     }
@@ -132,9 +137,12 @@ public class NotificationController {
                         return ResponseEntity.status(HttpStatus.FORBIDDEN).<NotificationDTO>build();
                     }
 
+                    // Only the request that flips the row counts, however many race on it
+                    if (notificationRepository.markAsReadIfUnread(id) == 1) {
+                        unreadCounter.decrement(user.getId());
+                    }
                     notification.setRead(true);
-                    Notification savedNotification = notificationRepository.save(notification);
-                    return ResponseEntity.ok(NotificationMapper.toDTO(savedNotification));
+                    return ResponseEntity.ok(NotificationMapper.toDTO(notification));
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
@@ -145,6 +153,7 @@ public class NotificationController {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         notificationRepository.markAllAsReadByRecipientId(user.getId());
+        unreadCounter.reset(user.getId());
         return ResponseEntity.ok().build();
     }
 
@@ -161,7 +170,12 @@ public class NotificationController {
                         return ResponseEntity.status(HttpStatus.FORBIDDEN).<Void>build();
                     }
 
-                    notificationRepository.delete(notification);
+                    // Decided by the delete itself, so a concurrent read of the same notification can't count twice
+                    if (notificationRepository.deleteIfUnread(id) == 1) {
+                        unreadCounter.decrement(user.getId());
+                    } else {
+                        notificationRepository.deleteById(id);
+                    }
                     return ResponseEntity.noContent().<Void>build();
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
@@ -172,7 +186,6 @@ public class NotificationController {
         User user = userRepository.findByUsername(userDetails.getUsername())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        long count = notificationRepository.countByRecipientIdAndReadFalse(user.getId());
-        return ResponseEntity.ok(count);
+        return ResponseEntity.ok(unreadCounter.get(user.getId()));
     }
 } 
@@ -0,0 +1,246 @@
+package com.kanban.task.application;
+
+import com.kanban.board.application.BoardEventPublisher;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.domain.repository.ColumnRepository;
+import com.kanban.board.interfaces.websocket.BoardPatchEvent;
+import com.kanban.shared.domain.exception.ResourceNotFoundException;
+import com.kanban.shared.domain.exception.ValidationException;
+import com.kanban.shared.infrastructure.CacheInvalidationListener;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.model.TaskStatus;
+import com.kanban.task.domain.repository.TaskRepository;
+import com.kanban.task.infrastructure.TaskChangeListener;
+import com.kanban.task.interfaces.rest.BulkTaskRequest;
+import com.kanban.task.interfaces.rest.BulkTaskResult;
+import com.kanban.user.domain.model.User;
+import com.kanban.user.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+
+
+
+/**
+ * Applies one operation to many tasks with set-based statements, a chunk of ids at a time,
+ * instead of loading and saving each task. Those statements bypass the entity listeners, so
+ * the read models and caches are updated here, and each affected board gets one event
+ * listing all of its tasks instead of one event per task.
+ */
+@Service
+@Transactional
+public class BulkTaskService {
+
+    // Ids per statement, well below the bind parameter limits of common databases
+    static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskPositionService taskPositionService;
+
+    @Autowired
+    private TaskChangeListener taskChangeListener;
+
+    @Autowired
+    private CacheInvalidationListener cacheInvalidationListener;
+
+    @Autowired
+    private BoardEventPublisher boardEventPublisher;
+
+    public BulkTaskResult apply(BulkTaskRequest request) {
+        if (request.getAction() == null) {
+            throw new ValidationException("Action is required");
+        }
+        List<Long> ids = request.getTaskIds() == null ? List.of()
+                : request.getTaskIds().stream().filter(Objects::nonNull).distinct().toList();
+
+        // Placements are read first: they name the boards to notify, and deleted or moved tasks lose them
+        List<TaskRepository.TaskPlacement> placements = new ArrayList<>();
+        for (List<Long> chunk : chunks(ids)) {
+            placements.addAll(taskRepository.findPlacementsByIdIn(chunk));
+        }
+        Set<Long> existing = placements.stream().map(TaskRepository.TaskPlacement::getId).collect(Collectors.toSet());
+        List<Long> found = ids.stream().filter(existing::contains).toList();
+
+        return switch (request.getAction()) {
+            case STATUS -> updateStatus(request, found, placements);
+            case ASSIGN -> assign(request, found, placements);
+            case ADD_LABELS, REMOVE_LABELS -> changeLabels(request, found, placements);
+            case MOVE -> move(request, ids, placements);
+            case DELETE -> delete(request, found, placements);
+        };
+    }
+
+    private BulkTaskResult updateStatus(BulkTaskRequest request, List<Long> ids,
+                                        List<TaskRepository.TaskPlacement> placements) {
+        TaskStatus status = parseStatus(request.getStatus());
+        LocalDateTime now = LocalDateTime.now();
+        for (List<Long> chunk : chunks(ids)) {
+            taskRepository.bulkUpdateStatus(chunk, status, now);
+        }
+        return updated(request, ids, placements, Map.of("status", status.name()));
+    }
+
+    private BulkTaskResult assign(BulkTaskRequest request, List<Long> ids,
+                                  List<TaskRepository.TaskPlacement> placements) {
+        User assignee = null;
+        if (request.getAssigneeId() != null) {
+            assignee = userRepository.findById(request.getAssigneeId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Assignee not found"));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (List<Long> chunk : chunks(ids)) {
+            taskRepository.bulkUpdateAssignee(chunk, assignee, now);
+        }
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("assigneeId", request.getAssigneeId());
+        return updated(request, ids, placements, changes);
+    }
+
+    private BulkTaskResult updated(BulkTaskRequest request, List<Long> ids,
+                                   List<TaskRepository.TaskPlacement> placements, Map<String, Object> changes) {
+        for (List<Long> chunk : chunks(ids)) {
+            taskChangeListener.onBulkUpdated(taskRepository.findFactsByIdIn(chunk));
+        }
+        return finish(request, ids, placements, BoardPatchEvent.TASKS_UPDATED, changes);
+    }
+
+    private BulkTaskResult changeLabels(BulkTaskRequest request, List<Long> ids,
+                                        List<TaskRepository.TaskPlacement> placements) {
+        List<Long> labelIds = request.getLabelIds() == null ? List.of()
+                : request.getLabelIds().stream().filter(Objects::nonNull).distinct().toList();
+        if (labelIds.isEmpty()) {
+            throw new ValidationException("Label ids are required");
+        }
+        boolean add = request.getAction() == BulkTaskRequest.Action.ADD_LABELS;
+        for (List<Long> chunk : chunks(ids)) {
+            if (add) {
+                // Labels of other boards are skipped by the statement
+                taskRepository.bulkAddLabels(chunk, labelIds);
+            } else {
+                taskRepository.bulkRemoveLabels(chunk, labelIds);
+            }
+        }
+        // Board previews do not show labels; the event only tells clients to refresh open task details
+        return finish(request, ids, placements, BoardPatchEvent.TASKS_UPDATED, null);
+    }
+
+    private BulkTaskResult move(BulkTaskRequest request, List<Long> requestedIds,
+                                List<TaskRepository.TaskPlacement> placements) {
+        if (request.getColumnId() == null) {
+            throw new ValidationException("Column id is required");
+        }
+        BoardColumn column = columnRepository.findById(request.getColumnId())
+                .orElseThrow(() -> new ResourceNotFoundException("Column not found"));
+
+        // Moved tasks are appended in request order; entity listeners see these saves as usual
+        List<Task> tasks = new ArrayList<>();
+        for (List<Long> chunk : chunks(requestedIds)) {
+            Map<Long, Task> loaded = taskRepository.findAllById(chunk).stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+            chunk.stream().map(loaded::get).filter(Objects::nonNull).forEach(tasks::add);
+        }
+        taskPositionService.appendTasksToColumn(tasks, column);
+
+        List<Long> ids = tasks.stream().map(Task::getId).toList();
+        Map<Long, List<Long>> byBoard = groupByBoard(ids, placements);
+        Long targetBoardId = column.getBoard() != null ? column.getBoard().getId() : null;
+        if (targetBoardId != null && !ids.isEmpty()) {
+            // The target board gets previews of all moved tasks, including those coming from other boards
+            byBoard.remove(targetBoardId);
+            boardEventPublisher.tasksMoved(targetBoardId, tasks, column.getId());
+        }
+        byBoard.forEach((boardId, taskIds) ->
+                boardEventPublisher.tasksChanged(boardId, BoardPatchEvent.TASKS_MOVED, taskIds, null));
+
+        List<Long> boardIds = new ArrayList<>(byBoard.keySet());
+        if (targetBoardId != null && !ids.isEmpty()) {
+            boardIds.add(targetBoardId);
+        }
+        cacheInvalidationListener.onBulkChanged(ids, boardIds);
+        return result(request, ids, boardIds);
+    }
+
+    private BulkTaskResult delete(BulkTaskRequest request, List<Long> ids,
+                                  List<TaskRepository.TaskPlacement> placements) {
+        for (List<Long> chunk : chunks(ids)) {
+            taskRepository.bulkDeleteLabelLinks(chunk);
+            taskRepository.bulkDeleteComments(chunk);
+            taskRepository.bulkDeleteAttachments(chunk);
+            taskRepository.bulkDetachNotifications(chunk);
+            taskRepository.bulkDelete(chunk);
+        }
+        taskChangeListener.onBulkRemoved(ids);
+        return finish(request, ids, placements, BoardPatchEvent.TASKS_DELETED, null);
+    }
+
+    private BulkTaskResult finish(BulkTaskRequest request, List<Long> ids,
+                                  List<TaskRepository.TaskPlacement> placements, String kind,
+                                  Map<String, Object> changes) {
+        Map<Long, List<Long>> byBoard = groupByBoard(ids, placements);
+        cacheInvalidationListener.onBulkChanged(ids, byBoard.keySet());
+        byBoard.forEach((boardId, taskIds) -> boardEventPublisher.tasksChanged(boardId, kind, taskIds, changes));
+        return result(request, ids, new ArrayList<>(byBoard.keySet()));
+    }
+
+    // Task ids per board they were on before the change, in request order
+    private static Map<Long, List<Long>> groupByBoard(List<Long> ids, List<TaskRepository.TaskPlacement> placements) {
+        Map<Long, Long> boardOf = new HashMap<>();
+        placements.forEach(placement -> boardOf.put(placement.getId(), placement.getBoardId()));
+        Map<Long, List<Long>> byBoard = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Long boardId = boardOf.get(id);
+            if (boardId != null) {
+                byBoard.computeIfAbsent(boardId, key -> new ArrayList<>()).add(id);
+            }
+        }
+        return byBoard;
+    }
+
+    private static BulkTaskResult result(BulkTaskRequest request, List<Long> ids, List<Long> boardIds) {
+        int requested = request.getTaskIds() == null ? 0 : request.getTaskIds().size();
+        return new BulkTaskResult(request.getAction(), requested, ids.size(), boardIds);
+    }
+
+    private static TaskStatus parseStatus(String status) {
+        if (status == null) {
+            throw new ValidationException("Status is required");
+        }
+        try {
+            return TaskStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid status: " + status);
+        }
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+}
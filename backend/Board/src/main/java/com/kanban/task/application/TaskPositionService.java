@@ -1,25 +1,41 @@
 package com.kanban.task.application;
 
 import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.model.TaskRank;
 import com.kanban.task.domain.repository.TaskRepository;
 import com.kanban.board.domain.model.BoardColumn;
 import com.kanban.board.domain.repository.ColumnRepository;
-import com.kanban.shared.domain.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
-
+import java.util.function.Supplier;
+
+/**
+ * Orders tasks within a column by rank key (see {@link TaskRank}).
+ * Every move writes only the moved task: its new key is generated between its new neighbours.
+ * The stored integer position is the index the task was placed at; neighbours keep theirs,
+ * so ordered listings derive indices from the rank order and single tasks use {@link #currentIndex}.
+ * Placing after a neighbour task seeks the rank index; placing at an index has to step over the
+ * tasks before it once, so clients that know the neighbour should send it.
+ */
 @Service
 @Transactional
 public class TaskPositionService {
 
+    // Id that matches no task, used when the task being placed is not saved yet
+    private static final Long NO_TASK = -1L;
+
     @Autowired
     private TaskRepository taskRepository;
 
     @Autowired
     private ColumnRepository columnRepository;
 
+    @Autowired
+    private TaskRankRebalancer rankRebalancer;
+
 
 
     /**
@@ -29,137 +45,189 @@ public class TaskPositionService {
         if (newPosition < 0) {
             throw new IllegalArgumentException("Position cannot be negative");
         }
-
-        BoardColumn column = task.getColumn();
-        Integer currentPosition = task.getPosition();
-
-        if (currentPosition.equals(newPosition)) {
-            return task; // No change needed
-        }
-
-        if (newPosition > currentPosition) {
-            // Moving down: shift tasks between current and new position up by 1
-            List<Task> tasksToShift = taskRepository.findByColumnIdAndPositionGreaterThanEqualOrderByPositionAsc(
-                    column.getId(), currentPosition + 1);
-            
-            for (Task taskToShift : tasksToShift) {
-                if (taskToShift.getPosition() <= newPosition) {
-                    taskToShift.setPosition(taskToShift.getPosition() - 1);
-                    taskRepository.save(taskToShift);
-                }
-            }
-        } else {
-            // Moving up: shift tasks between new and current position down by 1
-            List<Task> tasksToShift = taskRepository.findByColumnIdAndPositionGreaterThanEqualOrderByPositionAsc(
-                    column.getId(), newPosition);
-            
-            for (Task taskToShift : tasksToShift) {
-                if (taskToShift.getPosition() < currentPosition) {
-                    taskToShift.setPosition(taskToShift.getPosition() + 1);
-                    taskRepository.save(taskToShift);
-                }
-            }
-        }
-
-        task.setPosition(newPosition);
-        return taskRepository.save(task);
+        return place(task, task.getColumn(), newPosition);
     }
 
 
 
     /**
-     * Move a task to a different column at a specific position
+     * Move a task to a different column at a specific position, or to its end when the position is null
      */
     public Task moveTaskToColumn(Task task, BoardColumn newColumn, Integer newPosition) {
+        if (newPosition == null) {
+            return addTaskToEndOfColumn(task, newColumn);
+        }
         if (newPosition < 0) {
             throw new IllegalArgumentException("Position cannot be negative");
         }
-
-        BoardColumn oldColumn = task.getColumn();
-        Integer oldPosition = task.getPosition();
-
-        // If moving within the same column, use the simpler method
-        if (oldColumn.getId().equals(newColumn.getId())) {
-            return moveTaskToPosition(task, newPosition);
-        }
-
-        // Remove task from old column and shift other tasks
-        if (oldPosition != null) {
-            List<Task> tasksToShift = taskRepository.findByColumnIdAndPositionGreaterThanEqualOrderByPositionAsc(
-                    oldColumn.getId(), oldPosition + 1);
-            
-            for (Task taskToShift : tasksToShift) {
-                taskToShift.setPosition(taskToShift.getPosition() - 1);
-                taskRepository.save(taskToShift);
-            }
-        }
-
-        // Shift tasks in new column to make room
-        List<Task> tasksToShift = taskRepository.findByColumnIdAndPositionGreaterThanEqualOrderByPositionAsc(
-                newColumn.getId(), newPosition);
-        
-        for (Task taskToShift : tasksToShift) {
-            taskToShift.setPosition(taskToShift.getPosition() + 1);
-            taskRepository.save(taskToShift);
-        }
-
-        // Update task
-        task.setColumn(newColumn);
-        task.setPosition(newPosition);
-        return taskRepository.save(task);
+        return place(task, newColumn, newPosition);
     }
 
     /**
      * Add a task to the end of a column
      */
     public Task addTaskToEndOfColumn(Task task, BoardColumn column) {
-        Integer maxPosition = taskRepository.findMaxPositionByColumnId(column.getId());
-        Integer newPosition = maxPosition + 1;
-        
+        Long taskId = idOf(task);
+        migrateIfNeeded(column.getId(), taskId);
+
         task.setColumn(column);
-        task.setPosition(newPosition);
+        task.setRankKey(TaskRank.between(taskRepository.findMaxRankByColumnId(column.getId(), taskId), null));
+        task.setPosition((int) taskRepository.countByColumnIdAndIdNot(column.getId(), taskId));
         return taskRepository.save(task);
     }
 
+    /**
+     * Append tasks to the end of a column in the given order with two reads for the whole batch;
+     * the updates are flushed together, so they go out as one JDBC batch
+     */
+    public List<Task> appendTasksToColumn(List<Task> tasks, BoardColumn column) {
+        migrateIfNeeded(column.getId(), NO_TASK);
+        List<Long> movingIds = tasks.stream().map(Task::getId).toList();
+        // Keys after the current last one also order correctly when that one is among the moved tasks
+        String rankKey = taskRepository.findMaxRankByColumnId(column.getId(), NO_TASK);
+        int position = (int) taskRepository.countByColumnIdAndIdNotIn(column.getId(), movingIds);
+        for (Task task : tasks) {
+            rankKey = TaskRank.between(rankKey, null);
+            task.setColumn(column);
+            task.setRankKey(rankKey);
+            task.setPosition(position++);
+        }
+        return taskRepository.saveAll(tasks);
+    }
+
     /**
      * Add a task to the beginning of a column
      */
     public Task addTaskToBeginningOfColumn(Task task, BoardColumn column) {
-        // Shift all existing tasks down by 1
-        List<Task> existingTasks = taskRepository.findByColumnIdOrderByPositionAsc(column.getId());
-        
-        for (Task existingTask : existingTasks) {
-            existingTask.setPosition(existingTask.getPosition() + 1);
-            taskRepository.save(existingTask);
+        return place(task, column, 0);
+    }
+
+    /**
+     * Remove a task from its column; the remaining tasks keep their rank keys
+     */
+    public void removeTaskFromColumn(Task task) {
+        task.setColumn(null);
+        task.setPosition(null);
+        task.setRankKey(null);
+        taskRepository.save(task);
+    }
+
+    /**
+     * Move a task into a column right after another task of that column, or to its start when
+     * afterTaskId is null. The neighbours are found by seeking the rank index, however deep the column.
+     */
+    public Task moveTaskAfter(Task task, BoardColumn column, Long afterTaskId) {
+        Long taskId = idOf(task);
+        Long columnId = column.getId();
+        if (afterTaskId != null && afterTaskId.equals(taskId)) {
+            throw new IllegalArgumentException("A task cannot be placed after itself");
         }
+        migrateIfNeeded(columnId, taskId);
 
-        task.setColumn(column);
-        task.setPosition(0);
+        Supplier<Bounds> bounds = () -> boundsAfter(columnId, taskId, afterTaskId);
+        placeBetween(task, column, bounds.get(), bounds);
+        task.setPosition((int) taskRepository.countBeforeRank(columnId, taskId, task.getRankKey()));
         return taskRepository.save(task);
     }
 
     /**
-     * Remove a task from its column and reorder remaining tasks
+     * The index a task is displayed at in its column now, derived from the rank order
+     * (the stored position is only the index it was placed at)
      */
-    public void removeTaskFromColumn(Task task) {
-        BoardColumn column = task.getColumn();
-        Integer position = task.getPosition();
-
-        if (position != null) {
-            // Shift all tasks after this position up by 1
-            List<Task> tasksToShift = taskRepository.findByColumnIdAndPositionGreaterThanEqualOrderByPositionAsc(
-                    column.getId(), position + 1);
-            
-            for (Task taskToShift : tasksToShift) {
-                taskToShift.setPosition(taskToShift.getPosition() - 1);
-                taskRepository.save(taskToShift);
-            }
+    @Transactional(readOnly = true)
+    public Integer currentIndex(Task task) {
+        if (task.getColumn() == null) {
+            return null;
+        }
+        if (task.getRankKey() == null) {
+            // Columns not migrated to rank keys yet are still ordered by position
+            return task.getPosition();
         }
+        return (int) taskRepository.countBeforeRank(task.getColumn().getId(), task.getId(), task.getRankKey());
+    }
 
-        task.setColumn(null);
-        task.setPosition(null);
-        taskRepository.save(task);
+    private Task place(Task task, BoardColumn column, int index) {
+        Long taskId = idOf(task);
+        Long columnId = column.getId();
+        migrateIfNeeded(columnId, taskId);
+
+        Bounds bounds = boundsAt(columnId, taskId, index);
+        if (bounds.upper() == null) {
+            // At or past the end of the column
+            index = (int) taskRepository.countByColumnIdAndIdNot(columnId, taskId);
+        }
+        int placedAt = index;
+        placeBetween(task, column, bounds, () -> boundsAt(columnId, taskId, placedAt));
+        task.setPosition(placedAt);
+        return taskRepository.save(task);
+    }
+
+    // Keeps the task's rank key when it already sorts between the bounds, so a no-op move writes nothing new
+    private void placeBetween(Task task, BoardColumn column, Bounds bounds, Supplier<Bounds> reread) {
+        boolean sameColumn = task.getColumn() != null && task.getColumn().getId().equals(column.getId());
+        String current = task.getRankKey();
+        if (!sameColumn || current == null
+                || (bounds.lower() != null && current.compareTo(bounds.lower()) <= 0)
+                || (bounds.upper() != null && current.compareTo(bounds.upper()) >= 0)) {
+            task.setRankKey(rankBetween(column.getId(), bounds, reread));
+        }
+        task.setColumn(column);
     }
 
+    private String rankBetween(Long columnId, Bounds bounds, Supplier<Bounds> reread) {
+        String rankKey;
+        try {
+            rankKey = TaskRank.between(bounds.lower(), bounds.upper());
+        } catch (IllegalStateException e) {
+            rankKey = null;
+        }
+        if (rankKey == null || rankKey.length() > TaskRank.MAX_LENGTH) {
+            // Out of room around this place: re-space the column now and retry once
+            rankRebalancer.rebalanceColumn(columnId);
+            Bounds respaced = reread.get();
+            return TaskRank.between(respaced.lower(), respaced.upper());
+        }
+        if (rankKey.length() > TaskRank.REBALANCE_LENGTH) {
+            rankRebalancer.requestRebalance(columnId);
+        }
+        return rankKey;
+    }
 
-} 
\ No newline at end of file
+    // Index based placement reads the task at the index, its predecessor is then a seek
+    private Bounds boundsAt(Long columnId, Long taskId, int index) {
+        List<String> ranks = taskRepository.findRanksInColumn(columnId, taskId, PageRequest.of(index, 1));
+        String upper = ranks.isEmpty() ? null : ranks.get(0);
+        if (index == 0) {
+            return new Bounds(null, upper);
+        }
+        String lower = upper != null
+                ? taskRepository.findRankBefore(columnId, taskId, upper)
+                : taskRepository.findMaxRankByColumnId(columnId, taskId);
+        return new Bounds(lower, upper);
+    }
+
+    private Bounds boundsAfter(Long columnId, Long taskId, Long afterTaskId) {
+        if (afterTaskId == null) {
+            return new Bounds(null, taskRepository.findMinRankByColumnId(columnId, taskId));
+        }
+        Task after = taskRepository.findById(afterTaskId)
+                .filter(neighbour -> neighbour.getColumn() != null && neighbour.getColumn().getId().equals(columnId))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Task " + afterTaskId + " is not in column " + columnId));
+        return new Bounds(after.getRankKey(), taskRepository.findRankAfter(columnId, taskId, after.getRankKey()));
+    }
+
+    private void migrateIfNeeded(Long columnId, Long taskId) {
+        // Columns written before rank keys existed are ordered by position until they get keys
+        if (taskRepository.existsByColumnIdAndRankKeyIsNullAndIdNot(columnId, taskId)) {
+            rankRebalancer.rebalanceColumn(columnId);
+        }
+    }
+
+    private static Long idOf(Task task) {
+        return task.getId() != null ? task.getId() : NO_TASK;
+    }
+
+    private record Bounds(String lower, String upper) {
+    }
+}
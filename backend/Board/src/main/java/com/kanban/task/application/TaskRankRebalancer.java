@@ -0,0 +1,93 @@
+package com.kanban.task.application;
+
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.model.TaskRank;
+import com.kanban.task.domain.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+
+
+/**
+ * Re-spaces the rank keys of a column once they get too long, and migrates columns
+ * still ordered by integer position to rank keys on startup.
+ * A rebalance rewrites every task of the column, so it runs in the background instead of on a move.
+ */
+@Slf4j
+@Component
+public class TaskRankRebalancer {
+
+    private final Set<Long> pendingColumns = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Queue a column for re-spacing on the next background run
+     */
+    public void requestRebalance(Long columnId) {
+        pendingColumns.add(columnId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.tasks.rank.rebalance-interval-ms:10000}")
+    public void rebalancePending() {
+        for (Long columnId : new ArrayList<>(pendingColumns)) {
+            pendingColumns.remove(columnId);
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebalanceColumn(columnId));
+            } catch (RuntimeException e) {
+                log.warn("Failed to rebalance task ranks of column {}: {}", columnId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Give tasks that have no rank key yet one derived from their integer position
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateUnrankedColumns() {
+        List<Long> columnIds = taskRepository.findColumnIdsWithUnrankedTasks();
+        for (Long columnId : columnIds) {
+            transactionTemplate.executeWithoutResult(status -> rebalanceColumn(columnId));
+        }
+        if (!columnIds.isEmpty()) {
+            log.info("Assigned task rank keys in {} columns", columnIds.size());
+        }
+    }
+
+    /**
+     * Rewrite the rank keys of a column evenly spaced, keeping the current order,
+     * and renumber the stored positions to match
+     */
+    @Transactional
+    public void rebalanceColumn(Long columnId) {
+        List<Task> tasks = taskRepository.findByColumnIdOrderByRankAsc(columnId);
+        if (tasks.stream().anyMatch(task -> task.getRankKey() == null)) {
+            // Not migrated yet: the integer positions are still authoritative
+            tasks = taskRepository.findByColumnIdOrderByPositionAsc(columnId);
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            String rankKey = TaskRank.spaced(i);
+            if (!rankKey.equals(task.getRankKey()) || !Integer.valueOf(i).equals(task.getPosition())) {
+                task.setRankKey(rankKey);
+                task.setPosition(i);
+                taskRepository.save(task);
+            }
+        }
+    }
+}
@@ -4,8 +4,11 @@ import com.kanban.board.domain.model.BoardColumn;
 import com.kanban.shared.domain.model.Comment;
 import com.kanban.shared.domain.model.Attachment;
 import com.kanban.shared.domain.model.Label;
+import com.kanban.shared.infrastructure.CacheInvalidationListener;
+import com.kanban.task.infrastructure.TaskChangeListener;
 import com.kanban.user.domain.model.User;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -18,6 +21,16 @@ import lombok.AllArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners({TaskChangeListener.class, CacheInvalidationListener.class})
+@Table(indexes = {
+    @Index(name = "idx_task_column_rank", columnList = "column_id, rank_key"),
+    @Index(name = "idx_task_assignee", columnList = "assignee_id"),
+    @Index(name = "idx_task_created_by", columnList = "created_by"),
+    @Index(name = "idx_task_status", columnList = "status"),
+    @Index(name = "idx_task_priority", columnList = "priority"),
+    @Index(name = "idx_task_due_date", columnList = "due_date"),
+    @Index(name = "idx_task_created_at", columnList = "created_at")
+})
 public class Task {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -48,7 +61,10 @@ public class Task {
     private LocalDateTime updatedAt;
 
     @Column(name = "position", nullable = false)
-    private Integer position = 0; // Position within the column
+    private Integer position = 0; // Index within the column as of the last move, ordering follows rankKey
+
+    @Column(name = "rank_key", length = TaskRank.MAX_LENGTH)
+    private String rankKey; // Lexicographic sort key within the column, see TaskRank
 
     @ManyToOne
     @JoinColumn(name = "column_id")
@@ -57,16 +73,19 @@ public class Task {
 
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnore
+    @BatchSize(size = 100)
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnore
+    @BatchSize(size = 100)
     private List<Attachment> attachments = new ArrayList<>();
 
     @ManyToMany
     @JoinTable(name = "task_labels", 
                joinColumns = @JoinColumn(name = "task_id"), 
                inverseJoinColumns = @JoinColumn(name = "label_id"))
+    @BatchSize(size = 100)
     private List<Label> labels = new ArrayList<>();
 
     @ManyToOne
@@ -0,0 +1,127 @@
+package com.kanban.task.domain.model;
+
+
+
+
+/**
+ * Lexicographically ordered rank keys for tasks within a column.
+ * A key is a base-36 integer head prefixed with its digit count ('a' = 1 digit, 'b' = 2, ...)
+ * followed by an optional base-36 fraction, so plain string comparison orders keys and
+ * a key can always be generated between two neighbours without touching any other row.
+ * Appends and prepends step the integer head; inserts between adjacent heads grow the fraction,
+ * and columns whose keys get too long are re-spaced by the rebalancer.
+ */
+public final class TaskRank {
+
+    /** Keys longer than this are re-spaced in the background */
+    public static final int REBALANCE_LENGTH = 24;
+
+    /** Longest key the rank column can hold */
+    public static final int MAX_LENGTH = 64;
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final int MAX_HEAD_DIGITS = 12;
+
+    // Keys start in the middle of the 4-digit range, leaving room for ~800k prepends
+    private static final long INITIAL_HEAD = 18L * BASE * BASE * BASE;
+    private static final long SPACING = (long) BASE * BASE;
+
+    private TaskRank() {
+    }
+
+    /**
+     * Key for the task at the given index of a freshly spaced column
+     */
+    public static String spaced(int index) {
+        return encodeHead(INITIAL_HEAD + index * SPACING);
+    }
+
+    /**
+     * A key strictly between two keys; either bound may be null for the start or end of the column
+     *
+     * @throws IllegalStateException when no key exists below {@code upper}, the column must be re-spaced first
+     */
+    public static String between(String lower, String upper) {
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Rank " + lower + " is not below " + upper);
+        }
+        if (lower == null && upper == null) {
+            return encodeHead(INITIAL_HEAD);
+        }
+        if (upper == null) {
+            return encodeHead(head(lower) + 1);
+        }
+        if (lower == null) {
+            long upperHead = head(upper);
+            if (fraction(upper).length() > 0) {
+                return encodeHead(upperHead);
+            }
+            if (upperHead == 0) {
+                throw new IllegalStateException("No rank left below " + upper);
+            }
+            return encodeHead(upperHead - 1);
+        }
+
+        long lowerHead = head(lower);
+        long upperHead = head(upper);
+        if (upperHead - lowerHead >= 2) {
+            return encodeHead(lowerHead + (upperHead - lowerHead) / 2);
+        }
+        // Adjacent or equal heads: only the fraction can separate the keys
+        String upperFraction = upperHead == lowerHead ? fraction(upper) : null;
+        return encodeHead(lowerHead) + midpoint(fraction(lower), upperFraction);
+    }
+
+    private static String midpoint(String lower, String upper) {
+        StringBuilder key = new StringBuilder();
+        boolean bounded = upper != null;
+        for (int i = 0; i < MAX_LENGTH; i++) {
+            int low = i < lower.length() ? digit(lower.charAt(i)) : 0;
+            int high = !bounded ? BASE : i < upper.length() ? digit(upper.charAt(i)) : 0;
+            if (bounded && low == high) {
+                key.append(DIGITS.charAt(low));
+                continue;
+            }
+            int middle = (low + high) / 2;
+            if (middle > low) {
+                // Never ends in '0', so there is always room for a key before it
+                return key.append(DIGITS.charAt(middle)).toString();
+            }
+            // Digits differ by one: keep the lower digit, anything after it stays below the upper key
+            key.append(DIGITS.charAt(low));
+            bounded = false;
+        }
+        throw new IllegalArgumentException("Invalid rank fraction between " + lower + " and " + upper);
+    }
+
+    private static String encodeHead(long value) {
+        String digits = Long.toString(value, BASE);
+        return (char) ('a' + digits.length() - 1) + digits;
+    }
+
+    private static long head(String key) {
+        int length = headLength(key);
+        return Long.parseLong(key.substring(1, 1 + length), BASE);
+    }
+
+    private static String fraction(String key) {
+        return key.substring(1 + headLength(key));
+    }
+
+    private static int headLength(String key) {
+        int length = key.isEmpty() ? 0 : key.charAt(0) - 'a' + 1;
+        if (length < 1 || length > MAX_HEAD_DIGITS || key.length() < 1 + length) {
+            throw new IllegalArgumentException("Invalid rank: " + key);
+        }
+        return length;
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid rank digit: " + c);
+        }
+        return digit;
+    }
+}
@@ -1,29 +1,256 @@
 package com.kanban.task.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import java.time.LocalDateTime;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import com.kanban.task.domain.model.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import com.kanban.task.domain.model.TaskPriority;
+import com.kanban.task.domain.model.TaskStatus;
+import com.kanban.user.domain.model.User;
 
 
 
 
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
     @Query("SELECT t FROM Task t JOIN FETCH t.column c JOIN FETCH c.board WHERE t.id = :id")
     Optional<Task> findByIdWithColumnAndBoard(@Param("id") Long id);
     
-    // Find tasks by column ordered by position
-    @Query("SELECT t FROM Task t WHERE t.column.id = :columnId ORDER BY t.position ASC")
+    // Find tasks by column ordered by their legacy integer position
+    @Query("SELECT t FROM Task t WHERE t.column.id = :columnId ORDER BY t.position ASC, t.id ASC")
     List<Task> findByColumnIdOrderByPositionAsc(@Param("columnId") Long columnId);
-    
-    // Find the maximum position in a column
-    @Query("SELECT COALESCE(MAX(t.position), -1) FROM Task t WHERE t.column.id = :columnId")
-    Integer findMaxPositionByColumnId(@Param("columnId") Long columnId);
-    
-    // Find tasks in a column with position greater than or equal to a given position
-    @Query("SELECT t FROM Task t WHERE t.column.id = :columnId AND t.position >= :position ORDER BY t.position ASC")
-    List<Task> findByColumnIdAndPositionGreaterThanEqualOrderByPositionAsc(@Param("columnId") Long columnId, @Param("position") Integer position);
+
+    // Find tasks by column in display order
+    @Query("SELECT t FROM Task t WHERE t.column.id = :columnId ORDER BY t.rankKey ASC, t.id ASC")
+    List<Task> findByColumnIdOrderByRankAsc(@Param("columnId") Long columnId);
+
+    // Rank keys of a column in display order, paged to read the task at an index
+    @Query("SELECT t.rankKey FROM Task t WHERE t.column.id = :columnId AND t.id <> :excludeId "
+            + "ORDER BY t.rankKey ASC, t.id ASC")
+    List<String> findRanksInColumn(@Param("columnId") Long columnId, @Param("excludeId") Long excludeId,
+                                   Pageable pageable);
+
+    // Find the first and last rank key in a column
+    @Query("SELECT MIN(t.rankKey) FROM Task t WHERE t.column.id = :columnId AND t.id <> :excludeId")
+    String findMinRankByColumnId(@Param("columnId") Long columnId, @Param("excludeId") Long excludeId);
+
+    @Query("SELECT MAX(t.rankKey) FROM Task t WHERE t.column.id = :columnId AND t.id <> :excludeId")
+    String findMaxRankByColumnId(@Param("columnId") Long columnId, @Param("excludeId") Long excludeId);
+
+    // Neighbouring rank keys, read by seeking the (column, rank) index rather than counting rows
+    @Query("SELECT MAX(t.rankKey) FROM Task t WHERE t.column.id = :columnId AND t.id <> :excludeId "
+            + "AND t.rankKey < :rankKey")
+    String findRankBefore(@Param("columnId") Long columnId, @Param("excludeId") Long excludeId,
+                          @Param("rankKey") String rankKey);
+
+    @Query("SELECT MIN(t.rankKey) FROM Task t WHERE t.column.id = :columnId AND t.id <> :excludeId "
+            + "AND t.rankKey > :rankKey")
+    String findRankAfter(@Param("columnId") Long columnId, @Param("excludeId") Long excludeId,
+                         @Param("rankKey") String rankKey);
+
+    // Number of tasks displayed before a task, i.e. its current index in the column
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.column.id = :columnId AND t.id <> :taskId "
+            + "AND (t.rankKey < :rankKey OR (t.rankKey = :rankKey AND t.id < :taskId))")
+    long countBeforeRank(@Param("columnId") Long columnId, @Param("taskId") Long taskId,
+                         @Param("rankKey") String rankKey);
+
+    long countByColumnIdAndIdNot(Long columnId, Long id);
+
+    long countByColumnIdAndIdNotIn(Long columnId, Collection<Long> ids);
+
+    boolean existsByColumnIdAndRankKeyIsNullAndIdNot(Long columnId, Long id);
+
+    // Columns holding tasks that have no rank key yet, i.e. still ordered by integer position
+    @Query("SELECT DISTINCT t.column.id FROM Task t WHERE t.rankKey IS NULL AND t.column IS NOT NULL")
+    List<Long> findColumnIdsWithUnrankedTasks();
+
+    // Keyset-paged id/title/description rows, used to build the in-memory search index
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description FROM Task t WHERE t.id > :afterId ORDER BY t.id ASC")
+    List<TaskText> findTextAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Id/title/description rows of the given tasks, used to re-index tasks changed on other nodes
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description FROM Task t WHERE t.id IN :ids")
+    List<TaskText> findTextByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset-paged analytics facts, used to seed the in-memory analytics aggregates
+    @Query("SELECT t.id AS id, b.id AS boardId, a.id AS assigneeId, u.id AS createdById, t.status AS status, "
+            + "t.priority AS priority, t.dueDate AS dueDate, t.createdAt AS createdAt "
+            + "FROM Task t LEFT JOIN t.column c LEFT JOIN c.board b LEFT JOIN t.assignee a LEFT JOIN t.createdBy u "
+            + "WHERE t.id > :afterId ORDER BY t.id ASC")
+    List<TaskFacts> findFactsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Analytics facts of one board or assignee, read while the in-memory aggregates are still loading
+    @Query("SELECT t.id AS id, b.id AS boardId, a.id AS assigneeId, u.id AS createdById, t.status AS status, "
+            + "t.priority AS priority, t.dueDate AS dueDate, t.createdAt AS createdAt "
+            + "FROM Task t LEFT JOIN t.column c LEFT JOIN c.board b LEFT JOIN t.assignee a LEFT JOIN t.createdBy u "
+            + "WHERE b.id = :boardId")
+    List<TaskFacts> findFactsByBoardId(@Param("boardId") Long boardId);
+
+    @Query("SELECT t.id AS id, b.id AS boardId, a.id AS assigneeId, u.id AS createdById, t.status AS status, "
+            + "t.priority AS priority, t.dueDate AS dueDate, t.createdAt AS createdAt "
+            + "FROM Task t LEFT JOIN t.column c LEFT JOIN c.board b LEFT JOIN t.assignee a LEFT JOIN t.createdBy u "
+            + "WHERE a.id = :assigneeId")
+    List<TaskFacts> findFactsByAssigneeId(@Param("assigneeId") Long assigneeId);
+
+    long countByCreatedById(Long userId);
+
+    // Recently created tasks, newest first, streamed with their to-one associations for cache warming
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.column c LEFT JOIN FETCH c.board "
+            + "LEFT JOIN FETCH t.createdBy LEFT JOIN FETCH t.assignee "
+            + "WHERE t.createdAt > :since ORDER BY t.createdAt DESC")
+    Stream<Task> streamCreatedAfter(@Param("since") LocalDateTime since);
+
+    long countByCreatedAtAfter(LocalDateTime since);
+
+    // Board previews of every task on the given boards, per column in display order
+    @Query("SELECT t.id AS id, c.id AS columnId, t.title AS title, t.position AS position "
+            + "FROM Task t JOIN t.column c WHERE c.board.id IN :boardIds "
+            + "ORDER BY c.id ASC, t.rankKey ASC NULLS LAST, t.position ASC NULLS LAST, t.id ASC")
+    List<TaskPreview> findPreviewsByBoardIdIn(@Param("boardIds") Collection<Long> boardIds);
+
+    // Column and board of each task, read before a bulk change to know which boards it touches
+    @Query("SELECT t.id AS id, c.id AS columnId, b.id AS boardId "
+            + "FROM Task t LEFT JOIN t.column c LEFT JOIN c.board b WHERE t.id IN :ids")
+    List<TaskPlacement> findPlacementsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Analytics facts of the given tasks, used to mirror bulk updates into the aggregates
+    @Query("SELECT t.id AS id, b.id AS boardId, a.id AS assigneeId, u.id AS createdById, t.status AS status, "
+            + "t.priority AS priority, t.dueDate AS dueDate, t.createdAt AS createdAt "
+            + "FROM Task t LEFT JOIN t.column c LEFT JOIN c.board b LEFT JOIN t.assignee a LEFT JOIN t.createdBy u "
+            + "WHERE t.id IN :ids")
+    List<TaskFacts> findFactsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Set-based bulk updates. They bypass entity listeners, so callers mirror the change themselves
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :now WHERE t.id IN :ids")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids, @Param("status") TaskStatus status,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.updatedAt = :now WHERE t.id IN :ids")
+    int bulkUpdateAssignee(@Param("ids") Collection<Long> ids, @Param("assignee") User assignee,
+                           @Param("now") LocalDateTime now);
+
+    // Adds labels of the task's own board that the task does not carry yet
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO task_labels (task_id, label_id) SELECT t.id, l.id FROM task t "
+            + "JOIN board_column c ON c.id = t.column_id JOIN label l ON l.board_id = c.board_id "
+            + "WHERE t.id IN (:ids) AND l.id IN (:labelIds) AND NOT EXISTS "
+            + "(SELECT 1 FROM task_labels tl WHERE tl.task_id = t.id AND tl.label_id = l.id)", nativeQuery = true)
+    int bulkAddLabels(@Param("ids") Collection<Long> ids, @Param("labelIds") Collection<Long> labelIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM task_labels WHERE task_id IN (:ids) AND label_id IN (:labelIds)", nativeQuery = true)
+    int bulkRemoveLabels(@Param("ids") Collection<Long> ids, @Param("labelIds") Collection<Long> labelIds);
+
+    // Bulk delete, children first
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM task_labels WHERE task_id IN (:ids)", nativeQuery = true)
+    int bulkDeleteLabelLinks(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.task.id IN :ids")
+    int bulkDeleteComments(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Attachment a WHERE a.task.id IN :ids")
+    int bulkDeleteAttachments(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.task = null WHERE n.task.id IN :ids")
+    int bulkDetachNotifications(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int bulkDelete(@Param("ids") Collection<Long> ids);
+
+    // Tasks created on a board within a date range and how many of them are done
+    @Query("SELECT COUNT(t) AS created, "
+            + "COALESCE(SUM(CASE WHEN t.status = com.kanban.task.domain.model.TaskStatus.DONE THEN 1 ELSE 0 END), 0) AS completed, "
+            + "AVG(CASE WHEN t.status = com.kanban.task.domain.model.TaskStatus.DONE "
+            + "THEN ((:now - t.createdAt) BY SECOND) END) AS averageCompletedAgeSeconds "
+            + "FROM Task t WHERE t.column.board.id = :boardId AND t.createdAt > :fromDate AND t.createdAt < :toDate")
+    TaskRangeCounts countCreatedBetween(@Param("boardId") Long boardId,
+                                        @Param("fromDate") LocalDateTime fromDate,
+                                        @Param("toDate") LocalDateTime toDate,
+                                        @Param("now") LocalDateTime now);
+
+    /**
+     * Where a task sits
+     */
+    interface TaskPlacement {
+        Long getId();
+
+        Long getColumnId();
+
+        Long getBoardId();
+    }
+
+    /**
+     * What a board shows of a task
+     */
+    interface TaskPreview {
+        Long getId();
+
+        Long getColumnId();
+
+        String getTitle();
+
+        Integer getPosition();
+    }
+
+    /**
+     * Text-only projection of a task
+     */
+    interface TaskText {
+        Long getId();
+
+        String getTitle();
+
+        String getDescription();
+    }
+
+    /**
+     * Fields the analytics aggregates are keyed on
+     */
+    interface TaskFacts {
+        Long getId();
+
+        Long getBoardId();
+
+        Long getAssigneeId();
+
+        Long getCreatedById();
+
+        TaskStatus getStatus();
+
+        TaskPriority getPriority();
+
+        LocalDateTime getDueDate();
+
+        LocalDateTime getCreatedAt();
+    }
+
+    /**
+     * Aggregate counts over a created-at range
+     */
+    interface TaskRangeCounts {
+        Long getCreated();
+
+        Long getCompleted();
+
+        Number getAverageCompletedAgeSeconds();
+    }
 }
@@ -0,0 +1,110 @@
+package com.kanban.task.domain.repository;
+
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.model.TaskPriority;
+import com.kanban.task.domain.model.TaskStatus;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+
+
+
+/**
+ * Reusable JPA predicates for task queries. Every factory returns {@code null}
+ * for an absent criterion so callers can chain them with {@link Specification#and}.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * Title or description contains each of the terms; a superset of the search index's matches
+     */
+    public static Specification<Task> containsAll(List<String> terms) {
+        if (terms == null || terms.isEmpty()) {
+            return null;
+        }
+        return (root, cq, cb) -> cb.and(terms.stream()
+                .map(term -> "%" + escapeLike(term.toLowerCase()) + "%")
+                .map(pattern -> cb.or(
+                        cb.like(cb.lower(root.get("title")), pattern, '\\'),
+                        cb.like(cb.lower(root.<String>get("description").as(String.class)), pattern, '\\')))
+                .toArray(Predicate[]::new));
+    }
+
+    public static Specification<Task> hasPriority(TaskPriority priority) {
+        return priority == null ? null : (root, cq, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return status == null ? null : (root, cq, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> assignedTo(Long assigneeId) {
+        return assigneeId == null ? null : (root, cq, cb) -> cb.equal(root.get("assignee").get("id"), assigneeId);
+    }
+
+    public static Specification<Task> createdBy(Long userId) {
+        return userId == null ? null : (root, cq, cb) -> cb.equal(root.get("createdBy").get("id"), userId);
+    }
+
+    public static Specification<Task> onBoard(Long boardId) {
+        return boardId == null ? null
+                : (root, cq, cb) -> cb.equal(root.get("column").get("board").get("id"), boardId);
+    }
+
+    public static Specification<Task> idIn(Collection<Long> ids) {
+        return ids == null ? null : (root, cq, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Due date lower bound; tasks without a due date are not excluded
+     */
+    public static Specification<Task> dueOnOrAfter(LocalDateTime from) {
+        return from == null ? null : (root, cq, cb) -> cb.or(
+                cb.isNull(root.get("dueDate")),
+                cb.greaterThanOrEqualTo(root.<LocalDateTime>get("dueDate"), from));
+    }
+
+    /**
+     * Due date upper bound; tasks without a due date are not excluded
+     */
+    public static Specification<Task> dueOnOrBefore(LocalDateTime to) {
+        return to == null ? null : (root, cq, cb) -> cb.or(
+                cb.isNull(root.get("dueDate")),
+                cb.lessThanOrEqualTo(root.<LocalDateTime>get("dueDate"), to));
+    }
+
+    /**
+     * Tasks whose due date lies strictly between the two instants
+     */
+    public static Specification<Task> dueBetween(LocalDateTime from, LocalDateTime to) {
+        return (root, cq, cb) -> cb.and(
+                cb.greaterThan(root.<LocalDateTime>get("dueDate"), from),
+                cb.lessThan(root.<LocalDateTime>get("dueDate"), to));
+    }
+
+    public static Specification<Task> dueBefore(LocalDateTime instant) {
+        return (root, cq, cb) -> cb.lessThan(root.<LocalDateTime>get("dueDate"), instant);
+    }
+
+    public static Specification<Task> createdAfter(LocalDateTime instant) {
+        return instant == null ? null
+                : (root, cq, cb) -> cb.greaterThan(root.<LocalDateTime>get("createdAt"), instant);
+    }
+
+    /**
+     * Matches nothing; used when a filter value cannot be parsed
+     */
+    public static Specification<Task> none() {
+        return (root, cq, cb) -> cb.disjunction();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
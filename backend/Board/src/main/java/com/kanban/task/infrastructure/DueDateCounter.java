@@ -0,0 +1,76 @@
+package com.kanban.task.infrastructure;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Multiset of due dates (epoch millis) that answers "how many are before t" in amortized O(1)
+ * for a clock that mostly moves forward. Each cursor keeps a running count below its boundary
+ * and only walks the entries it passes when the boundary moves.
+ * Not thread-safe; guarded by the owning {@link TaskAnalyticsStore}.
+ */
+class DueDateCounter {
+    private final TreeMap<Long, Integer> counts = new TreeMap<>();
+    private final Cursor overdue = new Cursor();
+    private final Cursor horizon = new Cursor();
+
+    void add(long dueMillis) {
+        counts.merge(dueMillis, 1, Integer::sum);
+        overdue.onChange(dueMillis, 1);
+        horizon.onChange(dueMillis, 1);
+    }
+
+    void remove(long dueMillis) {
+        Integer current = counts.get(dueMillis);
+        if (current == null) {
+            return;
+        }
+        if (current == 1) {
+            counts.remove(dueMillis);
+        } else {
+            counts.put(dueMillis, current - 1);
+        }
+        overdue.onChange(dueMillis, -1);
+        horizon.onChange(dueMillis, -1);
+    }
+
+    /**
+     * Due dates strictly before {@code nowMillis}
+     */
+    long countOverdue(long nowMillis) {
+        return overdue.countBelow(nowMillis);
+    }
+
+    /**
+     * Due dates strictly between {@code nowMillis} and {@code horizonMillis}
+     */
+    long countDueBetween(long nowMillis, long horizonMillis) {
+        long below = horizon.countBelow(horizonMillis) - overdue.countBelow(nowMillis);
+        return below - counts.getOrDefault(nowMillis, 0);
+    }
+
+    private final class Cursor {
+        private long boundary = Long.MIN_VALUE;
+        private long below;
+
+        void onChange(long dueMillis, int delta) {
+            if (dueMillis < boundary) {
+                below += delta;
+            }
+        }
+
+        long countBelow(long target) {
+            if (target > boundary) {
+                for (Map.Entry<Long, Integer> entry : counts.subMap(boundary, true, target, false).entrySet()) {
+                    below += entry.getValue();
+                }
+            } else if (target < boundary) {
+                for (Map.Entry<Long, Integer> entry : counts.subMap(target, true, boundary, false).entrySet()) {
+                    below -= entry.getValue();
+                }
+            }
+            boundary = target;
+            return below;
+        }
+    }
+}
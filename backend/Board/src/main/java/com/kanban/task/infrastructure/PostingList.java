@@ -0,0 +1,211 @@
+package com.kanban.task.infrastructure;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sorted list of (taskId, term frequency, document length) triples backed by primitive arrays.
+ * Task ids are mostly appended in increasing order, so {@link #add} has an O(1) fast path.
+ * Postings are grouped in blocks of {@value #BLOCK_SIZE} that record their highest frequency and
+ * shortest document, bounding the score of any posting in the block for top-k pruning.
+ * Not thread-safe; guarded by the owning {@link TaskSearchIndex}.
+ */
+class PostingList {
+    static final int BLOCK_SIZE = 128;
+
+    private long[] ids;
+    private int[] frequencies;
+    private int[] lengths;
+    private int[] blockMaxFrequencies = new int[1];
+    private int[] blockMinLengths = new int[1];
+    private int size;
+
+    PostingList() {
+        this(4);
+    }
+
+    PostingList(int capacity) {
+        ids = new long[Math.max(capacity, 1)];
+        frequencies = new int[Math.max(capacity, 1)];
+        lengths = new int[Math.max(capacity, 1)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    long idAt(int index) {
+        return ids[index];
+    }
+
+    int frequencyAt(int index) {
+        return frequencies[index];
+    }
+
+    int lengthAt(int index) {
+        return lengths[index];
+    }
+
+    int blockCount() {
+        return (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    int blockMaxFrequency(int block) {
+        return blockMaxFrequencies[block];
+    }
+
+    int blockMinLength(int block) {
+        return blockMinLengths[block];
+    }
+
+    /**
+     * Insert or replace the posting of a task id, keeping ids sorted
+     */
+    void add(long id, int frequency, int length) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity(size + 1);
+            append(id, frequency, length);
+            return;
+        }
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            frequencies[index] = frequency;
+            lengths[index] = length;
+            summarizeFrom(index);
+            return;
+        }
+        int insertAt = -index - 1;
+        ensureCapacity(size + 1);
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+        System.arraycopy(lengths, insertAt, lengths, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        frequencies[insertAt] = frequency;
+        lengths[insertAt] = length;
+        size++;
+        summarizeFrom(insertAt);
+    }
+
+    boolean remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+        System.arraycopy(lengths, index + 1, lengths, index, size - index - 1);
+        size--;
+        if (size > 16 && size < ids.length / 4) {
+            ids = Arrays.copyOf(ids, ids.length / 2);
+            frequencies = Arrays.copyOf(frequencies, frequencies.length / 2);
+            lengths = Arrays.copyOf(lengths, lengths.length / 2);
+        }
+        summarizeFrom(index);
+        return true;
+    }
+
+    /**
+     * Position of the first id >= target at or after {@code from}, using galloping search.
+     * Returns {@link #size()} when no such id exists.
+     */
+    int advance(int from, long target) {
+        if (from >= size || ids[from] >= target) {
+            return from;
+        }
+        int step = 1;
+        int low = from;
+        int high = from + 1;
+        while (high < size && ids[high] < target) {
+            low = high;
+            step <<= 1;
+            high = from + step;
+        }
+        int index = Arrays.binarySearch(ids, low + 1, Math.min(high, size - 1) + 1, target);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Merge several lists into one with a k-way merge, summing frequencies of shared ids
+     */
+    static PostingList union(List<PostingList> lists) {
+        int total = 0;
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Math.max(lists.size(), 1),
+                (a, b) -> Long.compare(lists.get(a[0]).ids[a[1]], lists.get(b[0]).ids[b[1]]));
+        for (int l = 0; l < lists.size(); l++) {
+            total += lists.get(l).size;
+            if (lists.get(l).size > 0) {
+                heads.add(new int[] {l, 0});
+            }
+        }
+        PostingList merged = new PostingList(total);
+        while (!heads.isEmpty()) {
+            int[] head = heads.poll();
+            PostingList list = lists.get(head[0]);
+            long id = list.ids[head[1]];
+            if (merged.size > 0 && merged.ids[merged.size - 1] == id) {
+                int last = merged.size - 1;
+                merged.frequencies[last] += list.frequencies[head[1]];
+                merged.blockMaxFrequencies[last / BLOCK_SIZE] = Math.max(
+                        merged.blockMaxFrequencies[last / BLOCK_SIZE], merged.frequencies[last]);
+            } else {
+                merged.append(id, list.frequencies[head[1]], list.lengths[head[1]]);
+            }
+            if (++head[1] < list.size) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    private void append(long id, int frequency, int length) {
+        ids[size] = id;
+        frequencies[size] = frequency;
+        lengths[size] = length;
+        size++;
+        int block = (size - 1) / BLOCK_SIZE;
+        ensureBlocks(block + 1);
+        if ((size - 1) % BLOCK_SIZE == 0) {
+            blockMaxFrequencies[block] = frequency;
+            blockMinLengths[block] = length;
+        } else {
+            blockMaxFrequencies[block] = Math.max(blockMaxFrequencies[block], frequency);
+            blockMinLengths[block] = Math.min(blockMinLengths[block], length);
+        }
+    }
+
+    // Postings from index on moved or changed, so the blocks holding them are summarized again
+    private void summarizeFrom(int index) {
+        int blocks = blockCount();
+        ensureBlocks(blocks);
+        for (int block = index / BLOCK_SIZE; block < blocks; block++) {
+            int start = block * BLOCK_SIZE;
+            int end = Math.min(start + BLOCK_SIZE, size);
+            int maxFrequency = 0;
+            int minLength = Integer.MAX_VALUE;
+            for (int i = start; i < end; i++) {
+                maxFrequency = Math.max(maxFrequency, frequencies[i]);
+                minLength = Math.min(minLength, lengths[i]);
+            }
+            blockMaxFrequencies[block] = maxFrequency;
+            blockMinLengths[block] = minLength;
+        }
+    }
+
+    private void ensureBlocks(int blocks) {
+        if (blocks > blockMaxFrequencies.length) {
+            int newLength = Math.max(blocks, blockMaxFrequencies.length * 2);
+            blockMaxFrequencies = Arrays.copyOf(blockMaxFrequencies, newLength);
+            blockMinLengths = Arrays.copyOf(blockMinLengths, newLength);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int newCapacity = Math.max(capacity, ids.length + (ids.length >> 1) + 1);
+            ids = Arrays.copyOf(ids, newCapacity);
+            frequencies = Arrays.copyOf(frequencies, newCapacity);
+            lengths = Arrays.copyOf(lengths, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.kanban.task.infrastructure;
+
+import com.kanban.shared.infrastructure.ClusterInvalidations;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.model.TaskPriority;
+import com.kanban.task.domain.model.TaskStatus;
+import com.kanban.task.domain.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+
+
+
+/**
+ * Materialized task counts per board, per assignee, per creator and system-wide.
+ * Task writes are applied as deltas by {@link TaskChangeListener}, and tasks other nodes changed
+ * are re-read, so analytics reads cost O(1) in the number of tasks instead of a full table scan.
+ * Seeded from the database in the background after startup; until then reads are computed from the database.
+ */
+@Slf4j
+@Component
+public class TaskAnalyticsStore {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final long DUE_SOON_MILLIS = 7L * 24 * 60 * 60 * 1000;
+
+    private final Object rebuildMonitor = new Object();
+    private final Map<Long, Facts> tasks = new HashMap<>();
+    private final Map<Long, Counters> boards = new HashMap<>();
+    private final Map<Long, Counters> assignees = new HashMap<>();
+    private final Map<Long, Long> createdCounts = new HashMap<>();
+    private final Counters system = new Counters();
+    private final Set<Long> removedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ClusterInvalidations clusterInvalidations;
+
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-analytics-load");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Seed the aggregates in the background once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        loader.execute(() -> {
+            try {
+                ensureLoaded();
+            } catch (RuntimeException e) {
+                log.error("Task analytics aggregates failed to load: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Re-read tasks changed on other nodes
+     */
+    @PostConstruct
+    public void followOtherNodes() {
+        clusterInvalidations.on(ClusterInvalidations.TASKS, ids -> reload(ClusterInvalidations.idsIn(ids)));
+    }
+
+    /**
+     * True once the aggregates are seeded; reads before that go to the database
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * Seed the aggregates from the database once; changes applied meanwhile take precedence
+     */
+    public void ensureLoaded() {
+        if (ready) {
+            return;
+        }
+        synchronized (rebuildMonitor) {
+            if (ready) {
+                return;
+            }
+            long started = System.currentTimeMillis();
+            synchronized (this) {
+                rebuilding = true;
+            }
+            int loaded = forEachFacts(row -> {
+                synchronized (this) {
+                    if (!tasks.containsKey(row.getId()) && !removedDuringRebuild.contains(row.getId())) {
+                        Facts facts = Facts.of(row);
+                        tasks.put(facts.id, facts);
+                        apply(facts, 1);
+                    }
+                }
+            });
+            synchronized (this) {
+                rebuilding = false;
+                removedDuringRebuild.clear();
+            }
+            ready = true;
+            log.info("Task analytics aggregates loaded: {} tasks in {}ms", loaded, System.currentTimeMillis() - started);
+        }
+    }
+
+    /**
+     * Record the current state of a created or updated task
+     */
+    public synchronized void upsert(Facts facts) {
+        Facts previous = tasks.put(facts.id, facts);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        apply(facts, 1);
+    }
+
+    /**
+     * Re-read the facts of tasks from the database; those no longer there are forgotten
+     */
+    public void reload(Collection<Long> taskIds) {
+        Set<Long> found = new HashSet<>();
+        for (TaskRepository.TaskFacts row : taskRepository.findFactsByIdIn(taskIds)) {
+            upsert(Facts.of(row));
+            found.add(row.getId());
+        }
+        taskIds.stream().filter(id -> !found.contains(id)).forEach(this::remove);
+    }
+
+    /**
+     * Forget a deleted task
+     */
+    public synchronized void remove(Long taskId) {
+        Facts previous = tasks.remove(taskId);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        if (rebuilding) {
+            removedDuringRebuild.add(taskId);
+        }
+    }
+
+    public Totals boardTotals(Long boardId, LocalDateTime now) {
+        if (!ready) {
+            return Totals.of(countAll(taskRepository.findFactsByBoardId(boardId)), now);
+        }
+        synchronized (this) {
+            return Totals.of(boards.get(boardId), now);
+        }
+    }
+
+    public Totals assigneeTotals(Long userId, LocalDateTime now) {
+        if (!ready) {
+            return Totals.of(countAll(taskRepository.findFactsByAssigneeId(userId)), now);
+        }
+        synchronized (this) {
+            return Totals.of(assignees.get(userId), now);
+        }
+    }
+
+    public Totals systemTotals(LocalDateTime now) {
+        if (!ready) {
+            Counters counters = new Counters();
+            forEachFacts(row -> counters.apply(Facts.of(row), 1));
+            return Totals.of(counters, now);
+        }
+        synchronized (this) {
+            return Totals.of(system, now);
+        }
+    }
+
+    public long createdCount(Long userId) {
+        if (!ready) {
+            return taskRepository.countByCreatedById(userId);
+        }
+        synchronized (this) {
+            return createdCounts.getOrDefault(userId, 0L);
+        }
+    }
+
+    private static Counters countAll(List<TaskRepository.TaskFacts> rows) {
+        Counters counters = new Counters();
+        rows.forEach(row -> counters.apply(Facts.of(row), 1));
+        return counters;
+    }
+
+    /**
+     * Every task's facts, read in keyset batches
+     */
+    private int forEachFacts(Consumer<TaskRepository.TaskFacts> action) {
+        long lastId = 0L;
+        int loaded = 0;
+        List<TaskRepository.TaskFacts> batch;
+        do {
+            batch = taskRepository.findFactsAfterId(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            batch.forEach(action);
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+                loaded += batch.size();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        return loaded;
+    }
+
+    private void apply(Facts facts, int delta) {
+        system.apply(facts, delta);
+        if (facts.boardId != null) {
+            boards.computeIfAbsent(facts.boardId, id -> new Counters()).apply(facts, delta);
+            if (boards.get(facts.boardId).total == 0) {
+                boards.remove(facts.boardId);
+            }
+        }
+        if (facts.assigneeId != null) {
+            assignees.computeIfAbsent(facts.assigneeId, id -> new Counters()).apply(facts, delta);
+            if (assignees.get(facts.assigneeId).total == 0) {
+                assignees.remove(facts.assigneeId);
+            }
+        }
+        if (facts.createdById != null) {
+            createdCounts.merge(facts.createdById, (long) delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static final class Counters {
+        private long total;
+        private final long[] byStatus = new long[TaskStatus.values().length];
+        private final long[] byPriority = new long[TaskPriority.values().length];
+        private final DueDateCounter due = new DueDateCounter();
+        private long completedWithCreatedAt;
+        private long completedCreatedAtMillis;
+
+        private void apply(Facts facts, int delta) {
+            total += delta;
+            if (facts.status != null) {
+                byStatus[facts.status.ordinal()] += delta;
+            }
+            if (facts.priority != null) {
+                byPriority[facts.priority.ordinal()] += delta;
+            }
+            if (facts.dueMillis != null) {
+                if (delta > 0) {
+                    due.add(facts.dueMillis);
+                } else {
+                    due.remove(facts.dueMillis);
+                }
+            }
+            if (facts.status == TaskStatus.DONE && facts.createdAtMillis != null) {
+                completedWithCreatedAt += delta;
+                completedCreatedAtMillis += delta * facts.createdAtMillis;
+            }
+        }
+    }
+
+    /**
+     * The fields of a task the aggregates are keyed on
+     */
+    public static final class Facts {
+        private final Long id;
+        private final Long boardId;
+        private final Long assigneeId;
+        private final Long createdById;
+        private final TaskStatus status;
+        private final TaskPriority priority;
+        private final Long dueMillis;
+        private final Long createdAtMillis;
+
+        public Facts(Long id, Long boardId, Long assigneeId, Long createdById, TaskStatus status,
+                     TaskPriority priority, LocalDateTime dueDate, LocalDateTime createdAt) {
+            this.id = id;
+            this.boardId = boardId;
+            this.assigneeId = assigneeId;
+            this.createdById = createdById;
+            this.status = status;
+            this.priority = priority;
+            this.dueMillis = dueDate != null ? toMillis(dueDate) : null;
+            this.createdAtMillis = createdAt != null ? toMillis(createdAt) : null;
+        }
+
+        public static Facts of(Task task) {
+            Long boardId = task.getColumn() != null && task.getColumn().getBoard() != null
+                    ? task.getColumn().getBoard().getId() : null;
+            return new Facts(task.getId(), boardId,
+                    task.getAssignee() != null ? task.getAssignee().getId() : null,
+                    task.getCreatedBy() != null ? task.getCreatedBy().getId() : null,
+                    task.getStatus(), task.getPriority(), task.getDueDate(), task.getCreatedAt());
+        }
+
+        static Facts of(TaskRepository.TaskFacts row) {
+            return new Facts(row.getId(), row.getBoardId(), row.getAssigneeId(), row.getCreatedById(),
+                    row.getStatus(), row.getPriority(), row.getDueDate(), row.getCreatedAt());
+        }
+    }
+
+    /**
+     * Point-in-time copy of one aggregate scope
+     */
+    public static class Totals {
+        private long total;
+        private long completed;
+        private long overdue;
+        private long dueSoon;
+        private double averageDaysSinceCreatedOfCompleted;
+        private Map<TaskStatus, Long> statusDistribution = Collections.emptyMap();
+        private Map<TaskPriority, Long> priorityDistribution = Collections.emptyMap();
+
+        private static Totals of(Counters counters, LocalDateTime now) {
+            Totals totals = new Totals();
+            if (counters == null) {
+                return totals;
+            }
+            long nowMillis = toMillis(now);
+            totals.total = counters.total;
+            totals.completed = counters.byStatus[TaskStatus.DONE.ordinal()];
+            totals.overdue = counters.due.countOverdue(nowMillis);
+            totals.dueSoon = counters.due.countDueBetween(nowMillis, nowMillis + DUE_SOON_MILLIS);
+            if (counters.completedWithCreatedAt > 0) {
+                double averageCreatedAt = (double) counters.completedCreatedAtMillis / counters.completedWithCreatedAt;
+                totals.averageDaysSinceCreatedOfCompleted = (nowMillis - averageCreatedAt) / (24.0 * 60 * 60 * 1000);
+            }
+            totals.statusDistribution = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : TaskStatus.values()) {
+                if (counters.byStatus[status.ordinal()] > 0) {
+                    totals.statusDistribution.put(status, counters.byStatus[status.ordinal()]);
+                }
+            }
+            totals.priorityDistribution = new EnumMap<>(TaskPriority.class);
+            for (TaskPriority priority : TaskPriority.values()) {
+                if (counters.byPriority[priority.ordinal()] > 0) {
+                    totals.priorityDistribution.put(priority, counters.byPriority[priority.ordinal()]);
+                }
+            }
+            return totals;
+        }
+
+        public long getTotal() { return total; }
+        public long getCompleted() { return completed; }
+        public long getOverdue() { return overdue; }
+        public long getDueSoon() { return dueSoon; }
+        public double getAverageDaysSinceCreatedOfCompleted() { return averageDaysSinceCreatedOfCompleted; }
+        public Map<TaskStatus, Long> getStatusDistribution() { return statusDistribution; }
+        public Map<TaskPriority, Long> getPriorityDistribution() { return priorityDistribution; }
+    }
+}
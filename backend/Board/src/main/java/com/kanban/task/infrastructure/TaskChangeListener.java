@@ -0,0 +1,108 @@
+package com.kanban.task.infrastructure;
+
+import com.kanban.shared.infrastructure.ClusterInvalidations;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.repository.TaskRepository;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Collection;
+import java.util.List;
+
+
+
+
+/**
+ * JPA entity listener that mirrors task changes into the in-memory read models
+ * ({@link TaskSearchIndex} and {@link TaskAnalyticsStore}).
+ * Changes are applied after the surrounding transaction commits so rolled back writes are never visible,
+ * then published through {@link ClusterInvalidations} so other nodes re-read the tasks.
+ */
+@Component
+public class TaskChangeListener {
+
+    private final ObjectProvider<TaskSearchIndex> searchIndex;
+    private final ObjectProvider<TaskAnalyticsStore> analyticsStore;
+    private final ObjectProvider<ClusterInvalidations> clusterInvalidations;
+
+    public TaskChangeListener(ObjectProvider<TaskSearchIndex> searchIndex,
+                              ObjectProvider<TaskAnalyticsStore> analyticsStore,
+                              ObjectProvider<ClusterInvalidations> clusterInvalidations) {
+        this.searchIndex = searchIndex;
+        this.analyticsStore = analyticsStore;
+        this.clusterInvalidations = clusterInvalidations;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Task task) {
+        Long id = task.getId();
+        String title = task.getTitle();
+        String description = task.getDescription();
+        TaskAnalyticsStore.Facts facts = TaskAnalyticsStore.Facts.of(task);
+        afterCommit(() -> {
+            searchIndex.ifAvailable(index -> index.index(id, title, description));
+            analyticsStore.ifAvailable(store -> store.upsert(facts));
+            publish(List.of(id));
+        });
+    }
+
+    @PostRemove
+    public void onRemoved(Task task) {
+        Long id = task.getId();
+        afterCommit(() -> {
+            searchIndex.ifAvailable(index -> index.remove(id));
+            analyticsStore.ifAvailable(store -> store.remove(id));
+            publish(List.of(id));
+        });
+    }
+
+    /**
+     * Mirror a set-based update, which bypasses entity callbacks, from the tasks' re-read facts
+     */
+    public void onBulkUpdated(List<TaskRepository.TaskFacts> rows) {
+        List<TaskAnalyticsStore.Facts> facts = rows.stream().map(TaskAnalyticsStore.Facts::of).toList();
+        List<Long> ids = rows.stream().map(TaskRepository.TaskFacts::getId).toList();
+        afterCommit(() -> {
+            analyticsStore.ifAvailable(store -> facts.forEach(store::upsert));
+            publish(ids);
+        });
+    }
+
+    /**
+     * Mirror a set-based delete, which bypasses entity callbacks
+     */
+    public void onBulkRemoved(Collection<Long> ids) {
+        List<Long> removed = List.copyOf(ids);
+        afterCommit(() -> {
+            searchIndex.ifAvailable(index -> removed.forEach(index::remove));
+            analyticsStore.ifAvailable(store -> removed.forEach(store::remove));
+            publish(removed);
+        });
+    }
+
+    // Other nodes re-read the tasks into their own read models
+    private void publish(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            clusterInvalidations.ifAvailable(cluster ->
+                    cluster.publish(ClusterInvalidations.TASKS, ClusterInvalidations.idsOf(ids)));
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -0,0 +1,488 @@
+package com.kanban.task.infrastructure;
+
+import com.kanban.shared.infrastructure.ClusterInvalidations;
+import com.kanban.task.domain.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+
+
+/**
+ * In-memory inverted index over task titles and descriptions.
+ * Terms map to sorted posting lists of task ids; queries are AND-ed across terms
+ * (the last term also matches as a prefix) and ranked with BM25, title hits weighted higher.
+ * Only the requested page is ranked exactly: blocks of postings whose best possible score
+ * cannot enter it are skipped, and the total is then estimated from the blocks that were read.
+ * Kept current by {@link TaskChangeListener}, and by re-reading tasks other nodes changed;
+ * built from the database on startup.
+ */
+@Slf4j
+@Component
+public class TaskSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MAX_TOKEN_LENGTH = 64;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, PostingList> dictionary = new TreeMap<>();
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+    // Tasks indexed or removed live while a rebuild runs; their rebuild rows may be older
+    private final Set<Long> changedDuringRebuild = new HashSet<>();
+    private long totalLength;
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ClusterInvalidations clusterInvalidations;
+
+    @Value("${app.search.index.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Re-index tasks changed on other nodes
+     */
+    @PostConstruct
+    public void followOtherNodes() {
+        clusterInvalidations.on(ClusterInvalidations.TASKS, ids -> reload(ClusterInvalidations.idsIn(ids)));
+    }
+
+    /**
+     * Build the index in the background once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        builder.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Task search index build failed: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Load every task from the database in id order (keyset batches) into the index
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        writeLocked(() -> {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+        });
+        long lastId = 0L;
+        int loaded = 0;
+        List<TaskRepository.TaskText> batch;
+        do {
+            batch = taskRepository.findTextAfterId(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            List<TaskRepository.TaskText> current = batch;
+            writeLocked(() -> current.stream()
+                    .filter(text -> !changedDuringRebuild.contains(text.getId()))
+                    .forEach(text -> put(text.getId(), text.getTitle(), text.getDescription())));
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+                loaded += batch.size();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        writeLocked(() -> {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+        });
+        ready = true;
+        log.info("Task search index built: {} tasks, {} terms in {}ms",
+                loaded, termCount(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * True once the initial build has completed; until then callers should fall back to the database
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+
+    /**
+     * Add or replace the indexed text of a task
+     */
+    public void index(Long taskId, String title, String description) {
+        if (taskId != null) {
+            writeLocked(() -> {
+                put(taskId, title, description);
+                if (rebuilding) {
+                    changedDuringRebuild.add(taskId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Re-read tasks from the database; those no longer there are dropped
+     */
+    public void reload(Collection<Long> taskIds) {
+        if (!enabled) {
+            return;
+        }
+        Set<Long> found = new HashSet<>();
+        for (TaskRepository.TaskText text : taskRepository.findTextByIdIn(taskIds)) {
+            index(text.getId(), text.getTitle(), text.getDescription());
+            found.add(text.getId());
+        }
+        taskIds.stream().filter(id -> !found.contains(id)).forEach(this::remove);
+    }
+
+    /**
+     * Drop a task from the index
+     */
+    public void remove(Long taskId) {
+        if (taskId != null) {
+            writeLocked(() -> {
+                delete(taskId);
+                if (rebuilding) {
+                    changedDuringRebuild.add(taskId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Ranked task ids matching every query term, best first. A last term that is a prefix of
+     * more than {@value #MAX_PREFIX_EXPANSIONS} terms matches its most common completions only.
+     */
+    public Hits search(String query, int offset, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return Hits.EMPTY;
+        }
+        lock.readLock().lock();
+        try {
+            List<PostingList> clauses = new ArrayList<>(terms.size());
+            for (int i = 0; i < terms.size(); i++) {
+                PostingList clause = clauseFor(terms.get(i), i == terms.size() - 1);
+                if (clause == null || clause.size() == 0) {
+                    return Hits.EMPTY;
+                }
+                clauses.add(clause);
+            }
+            return intersectAndRank(clauses, Math.max(offset, 0), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return dictionary.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The distinct terms of a query, in order
+     */
+    public static List<String> terms(String query) {
+        return new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+    }
+
+    /**
+     * Lower-cased runs of letters and digits, truncated to a maximum length
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (current.length() < MAX_TOKEN_LENGTH) {
+                    current.appendCodePoint(codePoint);
+                }
+            } else if (current.length() > 0) {
+                tokens.add(current.toString().toLowerCase(Locale.ROOT));
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString().toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+
+    private PostingList clauseFor(String term, boolean allowPrefix) {
+        PostingList exact = dictionary.get(term);
+        if (!allowPrefix || term.length() < MIN_PREFIX_LENGTH) {
+            return exact;
+        }
+        SortedMap<String, PostingList> range = prefixRange(term);
+        if (range.size() <= 1) {
+            return range.isEmpty() ? exact : range.values().iterator().next();
+        }
+        List<PostingList> completions = new ArrayList<>(range.values());
+        if (completions.size() > MAX_PREFIX_EXPANSIONS) {
+            completions.sort((a, b) -> Integer.compare(b.size(), a.size()));
+            completions = completions.subList(0, MAX_PREFIX_EXPANSIONS);
+        }
+        return PostingList.union(completions);
+    }
+
+    private SortedMap<String, PostingList> prefixRange(String term) {
+        return dictionary.subMap(term, term + Character.MAX_VALUE);
+    }
+
+    /**
+     * Walk the shortest clause block by block, intersecting with the others. Once the page is
+     * full, a block is skipped when the sum of the clauses' block-max scores over its id range
+     * cannot beat the lowest kept score; later ids lose ties, so equal bounds are skipped too.
+     */
+    private Hits intersectAndRank(List<PostingList> clauses, int offset, int limit) {
+        clauses.sort((a, b) -> Integer.compare(a.size(), b.size()));
+        int documentCount = documents.size();
+        double averageLength = documentCount == 0 ? 1.0 : Math.max(1.0, (double) totalLength / documentCount);
+        double[] idf = new double[clauses.size()];
+        for (int c = 0; c < clauses.size(); c++) {
+            int df = clauses.get(c).size();
+            idf[c] = Math.log(1.0 + (documentCount - df + 0.5) / (df + 0.5));
+        }
+
+        int keep = offset + limit;
+        PriorityQueue<ScoredId> top = new PriorityQueue<>(Math.min(keep, 1024) + 1);
+        int[] cursors = new int[clauses.size()];
+        PostingList lead = clauses.get(0);
+        int matched = 0;
+        int read = 0;
+        int skipped = 0;
+        for (int block = 0; block < lead.blockCount(); block++) {
+            int start = block * PostingList.BLOCK_SIZE;
+            int end = Math.min(start + PostingList.BLOCK_SIZE, lead.size());
+            if (top.size() == keep) {
+                double bound = upperBound(clauses, cursors, block, idf, averageLength);
+                if (bound < 0) {
+                    break;
+                }
+                if (bound <= top.peek().score) {
+                    skipped += end - start;
+                    continue;
+                }
+            }
+            read += end - start;
+            for (int i = start; i < end; i++) {
+                long id = lead.idAt(i);
+                boolean matches = true;
+                for (int c = 1; c < clauses.size() && matches; c++) {
+                    PostingList other = clauses.get(c);
+                    cursors[c] = other.advance(cursors[c], id);
+                    matches = cursors[c] < other.size() && other.idAt(cursors[c]) == id;
+                }
+                if (!matches) {
+                    continue;
+                }
+                matched++;
+                double lengthNorm = K1 * (1 - B + B * lead.lengthAt(i) / averageLength);
+                double score = 0;
+                for (int c = 0; c < clauses.size(); c++) {
+                    int tf = c == 0 ? lead.frequencyAt(i) : clauses.get(c).frequencyAt(cursors[c]);
+                    score += idf[c] * tf * (K1 + 1) / (tf + lengthNorm);
+                }
+                if (top.size() < keep) {
+                    top.offer(new ScoredId(id, score));
+                } else if (score > top.peek().score) {
+                    top.poll();
+                    top.offer(new ScoredId(id, score));
+                }
+            }
+        }
+
+        List<ScoredId> ranked = new ArrayList<>(top);
+        ranked.sort(Collections.reverseOrder());
+        List<Long> page = new ArrayList<>(Math.max(0, ranked.size() - offset));
+        for (int i = offset; i < ranked.size(); i++) {
+            page.add(ranked.get(i).id);
+        }
+        if (skipped == 0) {
+            return new Hits(matched, page);
+        }
+        long estimate = Math.round((double) skipped * matched / Math.max(read, 1));
+        return new Hits((int) Math.min(Integer.MAX_VALUE, matched + estimate), page, false);
+    }
+
+    /**
+     * Highest score any task in a block of the lead clause can reach, or -1 when another
+     * clause has no ids left, so nothing further can match
+     */
+    private double upperBound(List<PostingList> clauses, int[] cursors, int block, double[] idf,
+                              double averageLength) {
+        PostingList lead = clauses.get(0);
+        int start = block * PostingList.BLOCK_SIZE;
+        int end = Math.min(start + PostingList.BLOCK_SIZE, lead.size());
+        double bound = blockScore(idf[0], lead.blockMaxFrequency(block), lead.blockMinLength(block), averageLength);
+        for (int c = 1; c < clauses.size(); c++) {
+            PostingList other = clauses.get(c);
+            cursors[c] = other.advance(cursors[c], lead.idAt(start));
+            if (cursors[c] >= other.size()) {
+                return -1;
+            }
+            int last = Math.min(other.advance(cursors[c], lead.idAt(end - 1)), other.size() - 1);
+            double best = 0;
+            for (int b = cursors[c] / PostingList.BLOCK_SIZE; b <= last / PostingList.BLOCK_SIZE; b++) {
+                best = Math.max(best, blockScore(idf[c], other.blockMaxFrequency(b), other.blockMinLength(b),
+                        averageLength));
+            }
+            bound += best;
+        }
+        return bound;
+    }
+
+    // BM25 grows with the frequency and falls with the length, so this bounds every posting of a block
+    private static double blockScore(double idf, int maxFrequency, int minLength, double averageLength) {
+        return idf * maxFrequency * (K1 + 1) / (maxFrequency + K1 * (1 - B + B * minLength / averageLength));
+    }
+
+    private void put(Long taskId, String title, String description) {
+        delete(taskId);
+        Map<String, Integer> frequencies = new HashMap<>();
+        List<String> titleTokens = tokenize(title);
+        List<String> descriptionTokens = tokenize(description);
+        titleTokens.forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        descriptionTokens.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        int length = titleTokens.size() + descriptionTokens.size();
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            dictionary.computeIfAbsent(entry.getKey(), term -> new PostingList())
+                    .add(taskId, entry.getValue(), length);
+        }
+        documents.put(taskId, new IndexedDocument(frequencies.keySet().toArray(new String[0]), length));
+        totalLength += length;
+    }
+
+    private void delete(Long taskId) {
+        IndexedDocument previous = documents.remove(taskId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms) {
+            PostingList postings = dictionary.get(term);
+            if (postings != null && postings.remove(taskId) && postings.size() == 0) {
+                dictionary.remove(term);
+            }
+        }
+        totalLength -= previous.length;
+    }
+
+    private void writeLocked(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static final class IndexedDocument {
+        private final String[] terms;
+        private final int length;
+
+        private IndexedDocument(String[] terms, int length) {
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+
+    private static final class ScoredId implements Comparable<ScoredId> {
+        private final long id;
+        private final double score;
+
+        private ScoredId(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(ScoredId other) {
+            int byScore = Double.compare(score, other.score);
+            // On equal scores the older (smaller) id ranks higher
+            return byScore != 0 ? byScore : Long.compare(other.id, id);
+        }
+    }
+
+    /**
+     * Total number of matching tasks and the requested page of ids in rank order. The total
+     * is an estimate when ranking skipped postings without counting them.
+     */
+    public static class Hits {
+        static final Hits EMPTY = new Hits(0, Collections.emptyList());
+
+        private final int total;
+        private final List<Long> ids;
+        private final boolean exact;
+
+        public Hits(int total, List<Long> ids) {
+            this(total, ids, true);
+        }
+
+        public Hits(int total, List<Long> ids, boolean exact) {
+            this.total = total;
+            this.ids = ids;
+            this.exact = exact;
+        }
+
+        public int getTotal() { return total; }
+        public List<Long> getIds() { return ids; }
+        public boolean isExact() { return exact; }
+    }
+}
@@ -0,0 +1,41 @@
+package com.kanban.task.interfaces.rest;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+
+
+
+/**
+ * One operation applied to a set of tasks. Only the fields the action needs are read.
+ */
+@Data
+@NoArgsConstructor
+public class BulkTaskRequest {
+
+    public enum Action {
+        STATUS,
+        ASSIGN,
+        ADD_LABELS,
+        REMOVE_LABELS,
+        MOVE,
+        DELETE
+    }
+
+    @NotEmpty(message = "Task ids are required")
+    private List<Long> taskIds;
+
+    @NotNull(message = "Action is required")
+    private Action action;
+
+    private String status;          // STATUS
+
+    private Long assigneeId;        // ASSIGN, null unassigns
+
+    private List<Long> labelIds;    // ADD_LABELS, REMOVE_LABELS
+
+    private Long columnId;          // MOVE, tasks are appended in request order
+}
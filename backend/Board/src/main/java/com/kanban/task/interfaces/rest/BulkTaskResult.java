@@ -0,0 +1,22 @@
+package com.kanban.task.interfaces.rest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+
+
+
+/**
+ * Summary of a bulk task operation; affected counts the tasks that were found
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResult {
+    private BulkTaskRequest.Action action;
+    private int requested;
+    private int affected;
+    private List<Long> boardIds;
+}
@@ -1,17 +1,16 @@
 package com.kanban.task.interfaces.rest;
 
 import com.kanban.shared.domain.exception.ResourceNotFoundException;
+import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
-import com.kanban.board.interfaces.rest.BoardDTO;
-import com.kanban.shared.infrastructure.BoardMapper;
 import com.kanban.shared.infrastructure.TaskMapper;
 import com.kanban.board.domain.model.BoardColumn;
 import com.kanban.task.domain.model.Task;
@@ -22,11 +21,17 @@ import com.kanban.shared.domain.model.Label;
 import com.kanban.board.domain.repository.BoardRepository;
 import com.kanban.board.domain.repository.ColumnRepository;
 import com.kanban.task.domain.repository.TaskRepository;
+import com.kanban.task.application.BulkTaskService;
 import com.kanban.task.application.TaskPositionService;
+import com.kanban.task.application.TaskRankRebalancer;
 import com.kanban.user.domain.repository.UserRepository;
 import com.kanban.shared.infrastructure.LabelRepository;
 import com.kanban.board.domain.model.Board;
 import com.kanban.shared.infrastructure.ColumnMapper;
+import com.kanban.board.application.BoardEventPublisher;
+import com.kanban.board.application.PerformanceService;
+import com.kanban.board.application.SearchService;
+import com.kanban.shared.interfaces.response.PaginatedResponse;
 
 
 
@@ -42,9 +47,6 @@ public class TaskController {
     @Autowired
     private BoardRepository boardRepository;
 
-    @Autowired
-    private SimpMessagingTemplate messagingTemplate;
-
     @Autowired
     private UserRepository userRepository;
 
@@ -57,12 +59,26 @@ public class TaskController {
     @Autowired
     private TaskPositionService taskPositionService;
 
+    @Autowired
+    private TaskRankRebalancer taskRankRebalancer;
+
+    @Autowired
+    private BulkTaskService bulkTaskService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private BoardEventPublisher boardEventPublisher;
+
+    @Autowired
+    private PerformanceService performanceService;
+
     @GetMapping("/{id}")
     public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long id) {
-        return taskRepository.findById(id)
-                .map(TaskMapper::toDTO)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        // Served from the task cache, which is invalidated on every write to the task, its comments and attachments
+        TaskDTO task = performanceService.getCachedTask(id);
+        return task != null ? ResponseEntity.ok(task) : ResponseEntity.notFound().build();
     }
 
     /**
@@ -113,8 +129,8 @@ public class TaskController {
         Task savedTask = taskPositionService.addTaskToEndOfColumn(task, column);
         taskRepository.flush(); // Ensure task is persisted
 
-        // Send the updated board state via WebSocket
-        sendBoardUpdateDirect(boardId);
+        // Notify board subscribers with a patch instead of the whole board
+        boardEventPublisher.taskCreated(boardId, savedTask);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(TaskMapper.toDTO(savedTask));
     }
@@ -127,6 +143,10 @@ public class TaskController {
 
         return taskRepository.findById(id)
                 .map(task -> {
+                    Map<String, Object> before = BoardEventPublisher.fieldsOf(task);
+                    Long fromColumnId = task.getColumn() != null ? task.getColumn().getId() : null;
+                    Integer fromPosition = taskPositionService.currentIndex(task);
+
                     // Update task fields from DTO
                     task.setTitle(updatedTaskDTO.getTitle());
                     task.setDescription(updatedTaskDTO.getDescription());
@@ -156,16 +176,11 @@ public class TaskController {
                         if (currentColumnId == null || !currentColumnId.equals(newColumnId)) {
                             BoardColumn newColumn = columnRepository.findById(newColumnId)
                                     .orElseThrow(() -> new ResourceNotFoundException("Column not found"));
-                            Integer targetPosition = updatedTaskDTO.getPosition();
-                            if (targetPosition == null) {
-                                Integer maxPosition = taskRepository.findMaxPositionByColumnId(newColumn.getId());
-                                targetPosition = maxPosition + 1; // default to end of column
-                            }
-                            taskPositionService.moveTaskToColumn(task, newColumn, targetPosition);
+                            // A null position moves the task to the end of the column
+                            taskPositionService.moveTaskToColumn(task, newColumn, updatedTaskDTO.getPosition());
                         }
-                    } else if (updatedTaskDTO.getPosition() != null && task.getPosition() != null
-                            && updatedTaskDTO.getPosition().intValue() != task.getPosition().intValue()) {
-                        // Handle position update within the same column if provided and changed
+                    } else if (updatedTaskDTO.getPosition() != null && task.getColumn() != null) {
+                        // Stored positions can be stale, so always place by index; the rank key is kept if it already fits
                         taskPositionService.moveTaskToPosition(task, updatedTaskDTO.getPosition());
                     }
                     
@@ -174,7 +189,10 @@ public class TaskController {
                     
                     Task savedTask = taskRepository.save(task);
                     taskRepository.flush(); // Ensure task is persisted
-                    sendBoardUpdateDirect(savedTask.getColumn().getBoard().getId());
+                    Long boardId = savedTask.getColumn().getBoard().getId();
+                    boardEventPublisher.taskMoved(boardId, savedTask.getId(), fromColumnId, fromPosition,
+                            savedTask.getColumn().getId(), savedTask.getPosition());
+                    boardEventPublisher.taskUpdated(boardId, before, savedTask);
                     return ResponseEntity.ok(TaskMapper.toDTO(savedTask));
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
@@ -187,24 +205,13 @@ public class TaskController {
                     .map(task -> {
                         Long boardId = task.getColumn().getBoard().getId();
                         Long columnId = task.getColumn().getId();
-                        Integer position = task.getPosition();
+                        Integer position = taskPositionService.currentIndex(task);
                         
-                        // First, reorder remaining tasks in the column
-                        if (position != null) {
-                            List<Task> tasksToShift = taskRepository.findByColumnIdAndPositionGreaterThanEqualOrderByPositionAsc(
-                                    columnId, position + 1);
-                            
-                            for (Task taskToShift : tasksToShift) {
-                                taskToShift.setPosition(taskToShift.getPosition() - 1);
-                                taskRepository.save(taskToShift);
-                            }
-                        }
-                        
-                        // Then delete the task
+                        // Remaining tasks keep their rank keys, so nothing else needs rewriting
                         taskRepository.delete(task);
                         taskRepository.flush(); // Critical for immediate sync
 
-                        sendBoardUpdateDirect(boardId);
+                        boardEventPublisher.taskDeleted(boardId, id, columnId, position);
                         return ResponseEntity.noContent().build();
                     })
                     .orElseGet(() -> ResponseEntity.notFound().build());
@@ -254,51 +261,39 @@ public class TaskController {
     }
 
     // Bulk operations
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkTaskResult> bulkUpdateTasks(@Valid @RequestBody BulkTaskRequest request) {
+        return ResponseEntity.ok(bulkTaskService.apply(request));
+    }
+
     @PostMapping("/bulk/update-status")
-    public ResponseEntity<List<TaskDTO>> bulkUpdateStatus(@RequestBody List<Long> taskIds,
-                                                         @RequestParam String status) {
-        try {
-            TaskStatus newStatus = TaskStatus.valueOf(status);
-            List<Task> tasks = taskRepository.findAllById(taskIds);
-            
-            tasks.forEach(task -> task.setStatus(newStatus));
-            List<Task> savedTasks = taskRepository.saveAll(tasks);
-            
-            List<TaskDTO> taskDTOs = savedTasks.stream()
-                    .map(TaskMapper::toDTO)
-                    .collect(Collectors.toList());
-            
-            return ResponseEntity.ok(taskDTOs);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().build();
-        }
+    public ResponseEntity<BulkTaskResult> bulkUpdateStatus(@RequestBody List<Long> taskIds,
+                                                           @RequestParam String status) {
+        BulkTaskRequest request = new BulkTaskRequest();
+        request.setTaskIds(taskIds);
+        request.setAction(BulkTaskRequest.Action.STATUS);
+        request.setStatus(status);
+        return ResponseEntity.ok(bulkTaskService.apply(request));
     }
 
     @PostMapping("/bulk/assign")
-    public ResponseEntity<List<TaskDTO>> bulkAssignTasks(@RequestBody List<Long> taskIds,
-                                                        @RequestParam Long assigneeId) {
-        User assignee = userRepository.findById(assigneeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Assignee not found"));
-        
-        List<Task> tasks = taskRepository.findAllById(taskIds);
-        tasks.forEach(task -> task.setAssignee(assignee));
-        
-        List<Task> savedTasks = taskRepository.saveAll(tasks);
-        List<TaskDTO> taskDTOs = savedTasks.stream()
-                .map(TaskMapper::toDTO)
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(taskDTOs);
+    public ResponseEntity<BulkTaskResult> bulkAssignTasks(@RequestBody List<Long> taskIds,
+                                                          @RequestParam Long assigneeId) {
+        BulkTaskRequest request = new BulkTaskRequest();
+        request.setTaskIds(taskIds);
+        request.setAction(BulkTaskRequest.Action.ASSIGN);
+        request.setAssigneeId(assigneeId);
+        return ResponseEntity.ok(bulkTaskService.apply(request));
     }
 
     // Search and filter endpoints
     @GetMapping("/search")
-    public ResponseEntity<List<TaskDTO>> searchTasks(@RequestParam String query,
+    public ResponseEntity<PaginatedResponse<TaskDTO>> searchTasks(@RequestParam String query,
                                                     @RequestParam(required = false) String priority,
-                                                    @RequestParam(required = false) String status) {
-        // This would need a custom repository method for full-text search
-        // For now, returning empty list as placeholder
-        return ResponseEntity.ok(List.of());
+                                                    @RequestParam(required = false) String status,
+                                                    @RequestParam(defaultValue = "0") int page,
+                                                    @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.searchTasks(query, priority, status, null, null, null, null, page, size));
     }
 
     @GetMapping("/filter")
@@ -310,53 +305,30 @@ public class TaskController {
         return ResponseEntity.ok(List.of());
     }
 
-    private void sendBoardUpdateDirect(Long boardId) {
-        boardRepository.findWithColumnsAndTasksById(boardId)
-                .ifPresent(board -> {
-                    // Manually load tasks for each column to avoid multiple bag fetch issue
-                    board.getColumns().forEach(col -> {
-                        col.getTasks().size(); // Force lazy loading of tasks
-                    });
-                    
-                    BoardDTO dto = BoardMapper.toDTO(board);
-                    messagingTemplate.convertAndSend(
-                            "/topic/board/" + boardId,
-                            dto);
-                });
-    }
-
-    private void sendBoardUpdate(Long taskId) {
-        taskRepository.findByIdWithColumnAndBoard(taskId)
-                .ifPresent(task -> {
-                    Long boardId = task.getColumn().getBoard().getId();
-                    boardRepository.findWithColumnsAndTasksById(boardId)
-                            .ifPresent(board -> {
-                                // Manually load tasks for each column to avoid multiple bag fetch issue
-                                board.getColumns().forEach(col -> {
-                                    col.getTasks().size(); // Force lazy loading of tasks
-                                });
-                                
-                                BoardDTO dto = BoardMapper.toDTO(board);
-                                messagingTemplate.convertAndSend(
-                                        "/topic/board/" + boardId,
-                                        dto);
-                            });
-                });
-    }
-
     // Position management endpoints
+    // Either the index to move to, or afterTaskId: the task of the same column to place it after
     @PutMapping("/{taskId}/position")
     public ResponseEntity<TaskDTO> moveTaskToPosition(@PathVariable Long taskId, 
-                                                     @RequestParam Integer position) {
+                                                     @RequestParam(required = false) Integer position,
+                                                     @RequestParam(required = false) Long afterTaskId) {
+        if (position == null && afterTaskId == null) {
+            return ResponseEntity.badRequest().build();
+        }
         try {
             Task task = taskRepository.findById(taskId)
                     .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
             
-            taskPositionService.moveTaskToPosition(task, position);
+            Integer fromPosition = taskPositionService.currentIndex(task);
+            if (afterTaskId != null) {
+                taskPositionService.moveTaskAfter(task, task.getColumn(), afterTaskId);
+            } else {
+                taskPositionService.moveTaskToPosition(task, position);
+            }
             Task savedTask = taskRepository.save(task);
             
             Long boardId = savedTask.getColumn().getBoard().getId();
-            sendBoardUpdateDirect(boardId);
+            boardEventPublisher.taskMoved(boardId, taskId, savedTask.getColumn().getId(), fromPosition,
+                    savedTask.getColumn().getId(), savedTask.getPosition());
             return ResponseEntity.ok(TaskMapper.toDTO(savedTask));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(null);
@@ -369,10 +341,14 @@ public class TaskController {
     @GetMapping("/column/{columnId}/ordered")
     public ResponseEntity<List<TaskDTO>> getTasksInColumnOrdered(@PathVariable Long columnId) {
         try {
-            List<Task> tasks = taskRepository.findByColumnIdOrderByPositionAsc(columnId);
+            List<Task> tasks = taskRepository.findByColumnIdOrderByRankAsc(columnId);
             List<TaskDTO> taskDTOs = tasks.stream()
                     .map(TaskMapper::toDTO)
                     .collect(Collectors.toList());
+            // Report the index in rank order rather than the possibly stale stored position
+            for (int i = 0; i < taskDTOs.size(); i++) {
+                taskDTOs.get(i).setPosition(i);
+            }
             return ResponseEntity.ok(taskDTOs);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
@@ -382,15 +358,8 @@ public class TaskController {
     @PostMapping("/column/{columnId}/reorder")
     public ResponseEntity<Void> reorderColumnTasks(@PathVariable Long columnId) {
         try {
-            List<Task> tasks = taskRepository.findByColumnIdOrderByPositionAsc(columnId);
-            
-            for (int i = 0; i < tasks.size(); i++) {
-                Task task = tasks.get(i);
-                if (!task.getPosition().equals(i)) {
-                    task.setPosition(i);
-                    taskRepository.save(task);
-                }
-            }
+            // Re-space rank keys and renumber stored positions in the current order
+            taskRankRebalancer.rebalanceColumn(columnId);
             return ResponseEntity.ok().build();
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
@@ -0,0 +1,180 @@
+package com.kanban.user.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.zip.CRC32;
+
+
+
+
+/**
+ * Square PNG thumbnails of uploaded avatars in a few fixed sizes, created at upload
+ * and served from the byte-weighted "avatars" cache. Avatar file names are unique per
+ * upload, so a thumbnail never changes once written.
+ */
+@Slf4j
+@Service
+public class AvatarImageService {
+
+    public static final String CACHE = "avatars";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${app.avatar.upload-dir:uploads/avatars}")
+    private String uploadDir;
+
+    @Value("${app.avatar.thumbnail-sizes:32,64,128}")
+    private int[] sizes;
+
+    // 4096 x 4096; decoding takes 4 bytes per pixel
+    @Value("${app.avatar.max-pixels:16777216}")
+    private long maxPixels;
+
+    /**
+     * Whether an image declares more pixels than {@code app.avatar.max-pixels}, read from its
+     * header without decoding it; images ImageIO cannot read are not judged here
+     */
+    public boolean exceedsPixelLimit(InputStream image) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(image)) {
+            ImageReader reader = input != null ? readerOf(input) : null;
+            if (reader == null) {
+                return false;
+            }
+            try {
+                return pixelsOf(reader) > maxPixels;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Write every thumbnail size of an uploaded avatar; images ImageIO cannot decode
+     * (e.g. WebP) or that exceed the pixel limit get none and are served as uploaded
+     */
+    public void createThumbnails(Path original, String filename) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            ImageReader reader = input != null ? readerOf(input) : null;
+            if (reader == null) {
+                log.debug("No thumbnails for avatar {}: unsupported image format", filename);
+                return;
+            }
+            BufferedImage image;
+            try {
+                // Checked before decoding: a small file can declare enough pixels to exhaust the heap
+                long pixels = pixelsOf(reader);
+                if (pixels > maxPixels) {
+                    log.warn("No thumbnails for avatar {}: {} pixels exceed the limit of {}", filename, pixels, maxPixels);
+                    return;
+                }
+                image = reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+            for (int size : sizes) {
+                Path target = thumbnailPath(filename, size);
+                Files.createDirectories(target.getParent());
+                ImageIO.write(scale(image, size), "png", target.toFile());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to create thumbnails for avatar {}: {}", filename, e.getMessage());
+        }
+    }
+
+    /**
+     * Thumbnail of an avatar in the smallest size covering the requested one, or null
+     * when the avatar has no thumbnails
+     */
+    @Cacheable(value = CACHE, key = "#filename + ':' + #root.target.sizeFor(#requestedSize)", unless = "#result == null")
+    public Thumbnail getThumbnail(String filename, int requestedSize) throws IOException {
+        Path path = thumbnailPath(filename, sizeFor(requestedSize));
+        if (!Files.exists(path)) {
+            return null;
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return new Thumbnail(bytes, "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(bytes.length) + "\"");
+    }
+
+    /**
+     * Delete an avatar's thumbnails and evict only their cache entries
+     */
+    public void deleteThumbnails(String filename) throws IOException {
+        Cache cache = cacheManager.getCache(CACHE);
+        for (int size : sizes) {
+            Files.deleteIfExists(thumbnailPath(filename, size));
+            if (cache != null) {
+                cache.evict(filename + ":" + size);
+            }
+        }
+    }
+
+    public int sizeFor(int requestedSize) {
+        return Arrays.stream(sizes).sorted().filter(size -> size >= requestedSize)
+                .findFirst()
+                .orElse(Arrays.stream(sizes).max().orElse(requestedSize));
+    }
+
+    private static ImageReader readerOf(ImageInputStream input) {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) {
+            return null;
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(input, true, true);
+        return reader;
+    }
+
+    private static long pixelsOf(ImageReader reader) throws IOException {
+        return (long) reader.getWidth(0) * reader.getHeight(0);
+    }
+
+    private Path thumbnailPath(String filename, int size) {
+        return Paths.get(uploadDir).resolve("thumbnails").resolve(String.valueOf(size)).resolve(filename + ".png");
+    }
+
+    /**
+     * Center crop to a square, then scale to the target size
+     */
+    static BufferedImage scale(BufferedImage image, int size) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        int x = (image.getWidth() - side) / 2;
+        int y = (image.getHeight() - side) / 2;
+        BufferedImage thumbnail = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, size, size, x, y, x + side, y + side, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+
+    /**
+     * Encoded PNG thumbnail with its validator
+     */
+    public record Thumbnail(byte[] bytes, String etag) {
+    }
+}
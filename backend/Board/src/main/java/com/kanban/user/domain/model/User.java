@@ -1,5 +1,6 @@
 package com.kanban.user.domain.model;
 
+import com.kanban.shared.infrastructure.CacheInvalidationListener;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -12,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -30,6 +32,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(CacheInvalidationListener.class)
 @Table(name = "users")
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class User implements UserDetails {
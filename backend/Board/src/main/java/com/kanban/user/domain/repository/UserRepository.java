@@ -2,6 +2,7 @@ package com.kanban.user.domain.repository;
 
 import com.kanban.user.domain.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 
@@ -11,4 +12,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
 
     boolean existsByUsername(String username);
+
+    long countByLastLoginAtAfter(LocalDateTime since);
 }
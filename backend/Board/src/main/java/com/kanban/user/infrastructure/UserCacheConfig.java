@@ -0,0 +1,30 @@
+package com.kanban.user.infrastructure;
+
+import com.kanban.shared.infrastructure.config.CacheCustomizer;
+import com.kanban.user.application.AvatarImageService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+
+
+/**
+ * The user module's caches: avatar thumbnails weighed by their bytes
+ */
+@Configuration
+public class UserCacheConfig {
+
+    @Bean
+    public CacheCustomizer avatarsCache() {
+        return new CacheCustomizer() {
+            @Override
+            public String cacheName() {
+                return AvatarImageService.CACHE;
+            }
+
+            @Override
+            public int weigh(Object key, Object value) {
+                return value instanceof AvatarImageService.Thumbnail thumbnail ? thumbnail.bytes().length : 1;
+            }
+        };
+    }
+}
@@ -2,10 +2,13 @@ package com.kanban.user.interfaces.rest;
 
 import com.kanban.shared.domain.exception.ResourceNotFoundException;
 import com.kanban.shared.infrastructure.UserMapper;
+import com.kanban.shared.interfaces.rest.FileDownloads;
+import com.kanban.user.application.AvatarImageService;
 import com.kanban.user.domain.model.User;
 import com.kanban.user.domain.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,9 +17,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.UUID;
 
 
@@ -29,6 +34,9 @@ public class AvatarController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AvatarImageService avatarImageService;
+
     @Value("${app.avatar.upload-dir:uploads/avatars}")
     private String uploadDir;
 
@@ -64,6 +72,12 @@ public class AvatarController {
             User user = userRepository.findByUsername(userDetails.getUsername())
                     .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
+            try (InputStream image = file.getInputStream()) {
+                if (avatarImageService.exceedsPixelLimit(image)) {
+                    return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+                }
+            }
+
             // Create upload directory if it doesn't exist
             Path uploadPath = Paths.get(uploadDir);
             if (!Files.exists(uploadPath)) {
@@ -81,12 +95,19 @@ public class AvatarController {
             // Save file
             Path filePath = uploadPath.resolve(filename);
             Files.copy(file.getInputStream(), filePath);
+            avatarImageService.createThumbnails(filePath, filename);
 
             // Update user avatar URL
+            String previousAvatar = user.getAvatar();
             String avatarUrl = filename;
             user.setAvatar(avatarUrl);
             User updatedUser = userRepository.save(user);
 
+            // Thumbnails of the replaced avatar are never served again
+            if (previousAvatar != null) {
+                avatarImageService.deleteThumbnails(previousAvatar);
+            }
+
             return ResponseEntity.ok(UserMapper.toDTO(updatedUser));
 
         } catch (IOException e) {
@@ -95,20 +116,29 @@ public class AvatarController {
     }
 
     @GetMapping("/{filename}")
-    public ResponseEntity<byte[]> getAvatar(@PathVariable String filename) {
+    public ResponseEntity<?> getAvatar(@PathVariable String filename,
+                                       @RequestParam(required = false) Integer size) {
         try {
+            if (size != null && size > 0) {
+                AvatarImageService.Thumbnail thumbnail = avatarImageService.getThumbnail(filename, size);
+                if (thumbnail != null) {
+                    // Avatar file names change with every upload, so a thumbnail can be cached for good
+                    return ResponseEntity.ok()
+                            .contentType(MediaType.IMAGE_PNG)
+                            .eTag(thumbnail.etag())
+                            .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                            .body(thumbnail.bytes());
+                }
+            }
+
             Path filePath = Paths.get(uploadDir).resolve(filename);
             
             if (!Files.exists(filePath)) {
                 return ResponseEntity.notFound().build();
             }
 
-            byte[] imageBytes = Files.readAllBytes(filePath);
             String contentType = determineContentType(filename);
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .body(imageBytes);
+            return FileDownloads.inline(filePath, MediaType.parseMediaType(contentType));
 
         } catch (IOException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -125,6 +155,10 @@ public class AvatarController {
             User user = userRepository.findByUsername(userDetails.getUsername())
                     .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
+            if (user.getAvatar() != null) {
+                avatarImageService.deleteThumbnails(user.getAvatar());
+            }
+
             // Remove old avatar file if exists
             if (user.getAvatar() != null && user.getAvatar().startsWith("/avatar/")) {
                 String filename = user.getAvatar().substring("/avatar/".length());
@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import com.kanban.shared.infrastructure.UserMapper;
+import com.kanban.shared.infrastructure.CacheInvalidationListener;
 import com.kanban.user.domain.model.Role;
 import com.kanban.user.domain.model.User;
 import com.kanban.user.domain.repository.UserRepository;
@@ -38,6 +39,9 @@ public class UserController {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private CacheInvalidationListener cacheInvalidationListener;
+
     @GetMapping
     @Operation(summary = "Get all users", description = "Retrieve a list of all users or a specific user by ID")
     @ApiResponses(value = {
@@ -122,6 +126,8 @@ public class UserController {
 
         user.getRoles().add(adminRole);
         userRepository.save(user);
+        // Role collection changes do not reach entity callbacks, so drop the cached tokens here
+        cacheInvalidationListener.invalidateTokens(user.getUsername());
         return ResponseEntity.ok("User promoted to admin");
     }
 
@@ -0,0 +1,85 @@
+package com.kanban.board.application;
+
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.domain.repository.BoardRepository;
+import com.kanban.board.domain.repository.ColumnRepository;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.model.TaskStatus;
+import com.kanban.task.domain.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class AnalyticsServiceTest {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board();
+        board.setName("Analytics Board");
+        board = boardRepository.save(board);
+
+        BoardColumn column = new BoardColumn();
+        column.setName("To Do");
+        column.setBoard(board);
+        column = columnRepository.save(column);
+
+        for (int i = 0; i < 4; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(i < 3 ? TaskStatus.DONE : TaskStatus.TODO);
+            task.setColumn(column);
+            taskRepository.save(task);
+        }
+    }
+
+    @Test
+    void testProductivityMetricsAggregatesInDatabase() {
+        AnalyticsService.ProductivityMetrics metrics = analyticsService.getProductivityMetrics(
+                board.getId(), LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+
+        assertEquals(4, metrics.getTasksCreated());
+        assertEquals(3, metrics.getTasksCompleted());
+        assertEquals(75.0, metrics.getCompletionRate(), 0.001);
+        assertTrue(metrics.getAverageTaskDuration() >= 0 && metrics.getAverageTaskDuration() < 1);
+    }
+
+    @Test
+    void testProductivityMetricsOutsideRangeIsEmpty() {
+        AnalyticsService.ProductivityMetrics metrics = analyticsService.getProductivityMetrics(
+                board.getId(), LocalDateTime.now().minusDays(10), LocalDateTime.now().minusDays(5));
+
+        assertEquals(0, metrics.getTasksCreated());
+        assertEquals(0.0, metrics.getAverageTaskDuration());
+    }
+
+    @Test
+    void testProductivityMetricsForMissingBoardThrows() {
+        assertThrows(RuntimeException.class, () -> analyticsService.getProductivityMetrics(
+                -1L, LocalDateTime.now().minusDays(1), LocalDateTime.now()));
+    }
+}
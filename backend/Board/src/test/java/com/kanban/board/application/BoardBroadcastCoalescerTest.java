@@ -0,0 +1,163 @@
+package com.kanban.board.application;
+
+import com.kanban.board.interfaces.websocket.BoardPatchBatch;
+import com.kanban.board.interfaces.websocket.BoardPatchEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BoardBroadcastCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingQueue<List<BoardPatchEvent>> sent = new LinkedBlockingQueue<>();
+    private final BiConsumer<Long, List<BoardPatchEvent>> sink = (boardId, events) -> sent.add(events);
+    private BoardBroadcastCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.shutdown();
+        }
+    }
+
+    @Test
+    void testDragSessionIsSentAsOneMessage() throws Exception {
+        coalescer = new BoardBroadcastCoalescer(meterRegistry, 50, 100);
+        long start = System.nanoTime();
+        coalescer.add(1L, move(7L, 10L, 0, 10L, 1), sink);
+        coalescer.add(1L, move(7L, 10L, 1, 11L, 0), sink);
+        coalescer.add(1L, move(7L, 11L, 0, 11L, 3), sink);
+        coalescer.add(1L, update(8L, Map.of("title", "Renamed")), sink);
+
+        List<BoardPatchEvent> events = sent.poll(2, TimeUnit.SECONDS);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertNotNull(events);
+        assertEquals(2, events.size());
+        BoardPatchEvent move = events.get(0);
+        assertEquals(10L, move.getFromColumnId());
+        assertEquals(0, move.getFromPosition());
+        assertEquals(11L, move.getToColumnId());
+        assertEquals(3, move.getToPosition());
+        assertEquals(8L, events.get(1).getTaskId());
+        assertTrue(waitedMillis >= 40, "sent before the window closed");
+        assertTrue(sent.isEmpty());
+        // The flush thread counts the message once the sink has returned
+        long deadline = System.currentTimeMillis() + 2000;
+        while (meterRegistry.counter("board.broadcast.messages").count() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(4.0, meterRegistry.counter("board.broadcast.events").count());
+        assertEquals(2.0, meterRegistry.counter("board.broadcast.events.merged").count());
+        assertEquals(1.0, meterRegistry.counter("board.broadcast.messages").count());
+        assertEquals(3.0, meterRegistry.counter("board.broadcast.messages.saved").count());
+    }
+
+    @Test
+    void testOnlyConsecutiveChangesOfATaskAreMerged() {
+        List<BoardPatchEvent> events = new ArrayList<>();
+        events.add(move(1L, 10L, 0, 10L, 2));
+
+        assertFalse(BoardBroadcastCoalescer.merge(events, move(2L, 10L, 1, 10L, 0)));
+        events.add(move(2L, 10L, 1, 10L, 0));
+        // Task 1 moving again after task 2 moved stays a separate event, since positions depend on order
+        assertFalse(BoardBroadcastCoalescer.merge(events, move(1L, 10L, 2, 10L, 1)));
+        assertFalse(BoardBroadcastCoalescer.merge(events, update(2L, Map.of("title", "Other kind"))));
+
+        events.add(update(3L, Map.of("title", "First", "status", "TODO")));
+        assertTrue(BoardBroadcastCoalescer.merge(events, update(3L, Map.of("title", "Second"))));
+        assertEquals(Map.of("title", "Second", "status", "TODO"), events.get(2).getChanges());
+    }
+
+    @Test
+    void testFullBatchIsSentWithoutWaiting() throws Exception {
+        coalescer = new BoardBroadcastCoalescer(meterRegistry, 10_000, 3);
+        for (long taskId = 1; taskId <= 3; taskId++) {
+            coalescer.add(1L, move(taskId, 10L, 0, 11L, 0), sink);
+        }
+
+        List<BoardPatchEvent> events = sent.poll(1, TimeUnit.SECONDS);
+        assertNotNull(events);
+        assertEquals(3, events.size());
+    }
+
+    @Test
+    void testBoardsAreBatchedSeparately() throws Exception {
+        coalescer = new BoardBroadcastCoalescer(meterRegistry, 20, 100);
+        coalescer.add(1L, move(1L, 10L, 0, 11L, 0), sink);
+        coalescer.add(2L, move(2L, 20L, 0, 21L, 0), sink);
+
+        assertEquals(1, sent.poll(2, TimeUnit.SECONDS).size());
+        assertEquals(1, sent.poll(2, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void testDeliveredBoardsAreForgotten() throws Exception {
+        coalescer = new BoardBroadcastCoalescer(meterRegistry, 20, 2);
+        coalescer.add(1L, move(1L, 10L, 0, 11L, 0), sink);
+        coalescer.add(1L, move(2L, 10L, 0, 11L, 0), sink);
+        coalescer.add(2L, move(3L, 20L, 0, 21L, 0), sink);
+        assertEquals(2, sent.poll(2, TimeUnit.SECONDS).size());
+        assertEquals(1, sent.poll(2, TimeUnit.SECONDS).size());
+
+        // The timed flush runs under the batch lock after handing the batch over
+        long deadline = System.currentTimeMillis() + 2000;
+        while (coalescer.pendingBoards() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, coalescer.pendingBoards());
+
+        coalescer.add(1L, move(4L, 10L, 0, 11L, 0), sink);
+        assertEquals(1, sent.poll(2, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void testPublisherNumbersBatchedEventsConsecutively() {
+        coalescer = new BoardBroadcastCoalescer(meterRegistry, 20, 100);
+        SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        BoardEventPublisher publisher = new BoardEventPublisher();
+        ReflectionTestUtils.setField(publisher, "coalescer", coalescer);
+        ReflectionTestUtils.setField(publisher, "messagingTemplate", messagingTemplate);
+        long initial = publisher.currentSequence(1L);
+
+        publisher.taskDeleted(1L, 5L, 10L, 0);
+        publisher.taskDeleted(1L, 6L, 10L, 0);
+
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, timeout(2000)).convertAndSend(eq("/topic/board/1"), message.capture());
+        BoardPatchBatch batch = (BoardPatchBatch) message.getValue();
+        assertEquals(List.of(initial + 1, initial + 2),
+                batch.getEvents().stream().map(BoardPatchEvent::getSequence).toList());
+        assertEquals(initial + 2, publisher.currentSequence(1L));
+    }
+
+    private BoardPatchEvent move(Long taskId, Long fromColumnId, int fromPosition, Long toColumnId, int toPosition) {
+        BoardPatchEvent event = new BoardPatchEvent(BoardPatchEvent.TASK_MOVED, taskId);
+        event.setFromColumnId(fromColumnId);
+        event.setFromPosition(fromPosition);
+        event.setToColumnId(toColumnId);
+        event.setToPosition(toPosition);
+        return event;
+    }
+
+    private BoardPatchEvent update(Long taskId, Map<String, Object> changes) {
+        BoardPatchEvent event = new BoardPatchEvent(BoardPatchEvent.TASK_UPDATED, taskId);
+        event.setChanges(changes);
+        return event;
+    }
+}
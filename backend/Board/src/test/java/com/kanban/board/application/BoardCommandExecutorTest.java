@@ -0,0 +1,209 @@
+package com.kanban.board.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BoardCommandExecutorTest {
+
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private BoardCommandExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new BoardCommandExecutor(transactionManager, meterRegistry, 4, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testCommandsOfABoardRunInOrderOneAtATime() throws Exception {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        for (int i = 0; i < 500; i++) {
+            int index = i;
+            executor.submit(1L, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(index);
+                running.decrementAndGet();
+            });
+        }
+        await(1L);
+
+        assertEquals(1, maxRunning.get());
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, order);
+    }
+
+    @Test
+    void testBoardsRunInParallel() throws Exception {
+        CountDownLatch otherBoardRan = new CountDownLatch(1);
+        CountDownLatch firstBoardDone = new CountDownLatch(1);
+        executor.submit(1L, () -> {
+            try {
+                // Only finishes if board 2 is not stuck behind board 1
+                if (otherBoardRan.await(5, TimeUnit.SECONDS)) {
+                    firstBoardDone.countDown();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.submit(2L, otherBoardRan::countDown);
+
+        assertTrue(firstBoardDone.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testBurstIsCommittedInOneTransaction() throws Exception {
+        CountDownLatch release = block(1L);
+        AtomicInteger ran = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            executor.submit(1L, ran::incrementAndGet);
+        }
+        release.countDown();
+        await(1L);
+
+        assertEquals(10, ran.get());
+        // The blocking command, the burst of ten and the final marker
+        verify(transactionManager, atMost(3)).getTransaction(any());
+        assertTrue(meterRegistry.summary("board.commands.batch.size").max() >= 10);
+    }
+
+    @Test
+    void testFailingCommandOnlyRollsBackItself() throws Exception {
+        CountDownLatch release = block(1L);
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger last = new AtomicInteger();
+        List<RuntimeException> failures = Collections.synchronizedList(new ArrayList<>());
+        executor.submit(1L, first::incrementAndGet);
+        executor.submit(1L, () -> {
+            throw new IllegalStateException("Position conflict");
+        }, failures::add);
+        executor.submit(1L, last::incrementAndGet);
+        release.countDown();
+        await(1L);
+
+        // The first ran in the rolled back batch and again without the failed one; the batch stopped before the last
+        assertEquals(2, first.get());
+        assertEquals(1, last.get());
+        assertEquals(1, failures.size());
+        assertEquals("Position conflict", failures.get(0).getMessage());
+        verify(transactionManager, times(1)).rollback(any());
+        assertEquals(1, meterRegistry.counter("board.commands.retried").count());
+    }
+
+    @Test
+    void testFailureIsReportedAfterTheRollback() throws Exception {
+        CountDownLatch release = block(1L);
+        List<Boolean> rolledBackFirst = Collections.synchronizedList(new ArrayList<>());
+        executor.submit(1L, () -> {
+            throw new IllegalStateException("Column not found");
+        }, e -> rolledBackFirst.add(mockingDetails(transactionManager).getInvocations().stream()
+                .anyMatch(invocation -> invocation.getMethod().getName().equals("rollback"))));
+        release.countDown();
+        await(1L);
+
+        assertEquals(List.of(true), rolledBackFirst);
+    }
+
+    @Test
+    void testFailedCommitRunsEachCommandAlone() throws Exception {
+        CountDownLatch release = block(1L);
+        AtomicInteger commits = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (commits.incrementAndGet() == 2) {
+                throw new IllegalStateException("Deferred constraint");
+            }
+            return null;
+        }).when(transactionManager).commit(any());
+        AtomicInteger ran = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            executor.submit(1L, ran::incrementAndGet);
+        }
+        release.countDown();
+        // The marker counts down inside the batch before its commit fails, so wait for a second one
+        await(1L);
+        await(1L);
+
+        // Once in the batch whose commit failed, once more each on their own
+        assertEquals(6, ran.get());
+        assertTrue(meterRegistry.counter("board.commands.retried").count() >= 3);
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    void testIdleMailboxesAreRemoved() throws Exception {
+        for (long boardId = 1; boardId <= 20; boardId++) {
+            await(boardId);
+        }
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (executor.mailboxCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, executor.mailboxCount());
+    }
+
+    @Test
+    void testCommandRunsWithTheSubmittersSecurityContext() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("alice", null, List.of()));
+        List<String> seen = Collections.synchronizedList(new ArrayList<>());
+        try {
+            executor.submit(1L, () -> seen.add(SecurityContextHolder.getContext().getAuthentication().getName()));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        await(1L);
+
+        assertEquals(List.of("alice"), seen);
+    }
+
+    private CountDownLatch block(Long boardId) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(boardId, () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private void await(Long boardId) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        executor.submit(boardId, done::countDown);
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,130 @@
+package com.kanban.board.application;
+
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.interfaces.websocket.BoardPatchEvent;
+import com.kanban.board.interfaces.websocket.WebSocketResponse;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.model.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardEventPublisherTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    // No window: every event is sent as it is published
+    @Spy
+    private BoardBroadcastCoalescer coalescer = new BoardBroadcastCoalescer(new SimpleMeterRegistry(), 0, 100);
+
+    @InjectMocks
+    private BoardEventPublisher publisher;
+
+    @Test
+    void testSequenceNumbersArePerBoard() {
+        long initial = publisher.currentSequence(1L);
+        publisher.taskDeleted(1L, 10L, 100L, 0);
+        publisher.taskMoved(1L, 11L, 100L, 0, 101L, 2);
+        publisher.taskDeleted(2L, 20L, 200L, 0);
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/board/2"), events.capture());
+        verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/board/1"), events.capture());
+
+        List<Object> sent = events.getAllValues();
+        assertEquals(initial + 1, ((BoardPatchEvent) sent.get(0)).getSequence());
+        assertEquals(initial + 1, ((BoardPatchEvent) sent.get(1)).getSequence());
+        BoardPatchEvent move = (BoardPatchEvent) sent.get(2);
+        assertEquals(initial + 2, move.getSequence());
+        assertEquals(BoardPatchEvent.TASK_MOVED, move.getKind());
+        assertEquals(101L, move.getToColumnId());
+        assertEquals(2, move.getToPosition());
+        assertEquals(initial + 2, publisher.currentSequence(1L));
+        assertEquals(initial, publisher.currentSequence(3L));
+    }
+
+    @Test
+    void testUpdateCarriesOnlyChangedFields() {
+        Task task = new Task();
+        task.setId(5L);
+        task.setTitle("Old title");
+        Map<String, Object> before = BoardEventPublisher.fieldsOf(task);
+        task.setTitle("New title");
+        task.setStatus(TaskStatus.DONE);
+
+        publisher.taskUpdated(1L, before, task);
+
+        ArgumentCaptor<BoardPatchEvent> event = ArgumentCaptor.forClass(BoardPatchEvent.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/board/1"), event.capture());
+        assertEquals(BoardPatchEvent.TASK_UPDATED, event.getValue().getKind());
+        assertEquals(Map.of("title", "New title", "status", "DONE"), event.getValue().getChanges());
+    }
+
+    @Test
+    void testNoOpChangesAreNotPublished() {
+        Task task = new Task();
+        task.setId(5L);
+        task.setTitle("Same");
+        task.setColumn(new BoardColumn());
+
+        publisher.taskUpdated(1L, BoardEventPublisher.fieldsOf(task), task);
+        publisher.taskMoved(1L, 5L, 100L, 3, 100L, 3);
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void testBulkMoveIsOneEventWithPreviews() {
+        Task first = new Task();
+        first.setId(7L);
+        first.setTitle("First");
+        Task second = new Task();
+        second.setId(8L);
+        second.setTitle("Second");
+
+        publisher.tasksMoved(1L, List.of(first, second), 100L);
+
+        ArgumentCaptor<BoardPatchEvent> event = ArgumentCaptor.forClass(BoardPatchEvent.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/board/1"), event.capture());
+        assertEquals(BoardPatchEvent.TASKS_MOVED, event.getValue().getKind());
+        assertEquals(List.of(7L, 8L), event.getValue().getTaskIds());
+        assertEquals("Second", event.getValue().getTasks().get(1).getTitle());
+        assertEquals(100L, event.getValue().getToColumnId());
+    }
+
+    @Test
+    void testRejectionIsSentWhenTheTransactionCompletes() {
+        WebSocketResponse response = new WebSocketResponse("TASK_MOVE_RESPONSE", "ERROR", "Failed to move task");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            publisher.rejected(1L, response);
+            verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(messagingTemplate).convertAndSend("/topic/board/1", (Object) response);
+    }
+}
@@ -0,0 +1,109 @@
+package com.kanban.board.application;
+
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardRoleType;
+import com.kanban.board.domain.repository.BoardRepository;
+import com.kanban.user.domain.model.User;
+import com.kanban.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class BoardSecurityServiceTest {
+
+    @Autowired
+    private BoardSecurityService boardSecurityService;
+
+    @Autowired
+    private BoardRoleService boardRoleService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private Board board;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("roleuser");
+        user.setEmail("role@example.com");
+        user.setPassword(passwordEncoder.encode("password"));
+        user = userRepository.save(user);
+
+        board = new Board();
+        board.setName("Secured Board");
+        board = boardRepository.save(board);
+
+        authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+        cacheManager.getCache("permissions").clear();
+    }
+
+    @Test
+    void testChecksAreAnsweredFromCachedRoles() {
+        boardRoleService.assignRoleToUser(user, board, BoardRoleType.WRITER);
+
+        assertTrue(boardSecurityService.hasBoardAccess(authentication, board.getId()));
+        assertTrue(boardSecurityService.hasBoardPermission(authentication, board.getId(), BoardRoleType.WRITER));
+        assertFalse(boardSecurityService.hasBoardPermission(authentication, board.getId(), BoardRoleType.ADMIN));
+        assertFalse(boardSecurityService.hasBoardAccess(authentication, -1L));
+
+        // All checks shared one cached map
+        Map<Long, BoardRoleType> cached = boardRoleService.getBoardRoles(user.getId());
+        assertSame(cached, cacheManager.getCache("permissions").get(user.getId()).get());
+        assertEquals(Map.of(board.getId(), BoardRoleType.WRITER), cached);
+    }
+
+    @Test
+    void testAssigningRoleInvalidatesCachedRoles() {
+        assertFalse(boardSecurityService.hasBoardAccess(authentication, board.getId()));
+        assertNotNull(cacheManager.getCache("permissions").get(user.getId()));
+
+        boardRoleService.assignRoleToUser(user, board, BoardRoleType.READER);
+
+        assertNull(cacheManager.getCache("permissions").get(user.getId()));
+        assertTrue(boardSecurityService.hasBoardAccess(authentication, board.getId()));
+
+        // The strongest of several roles wins
+        boardRoleService.assignRoleToUser(user, board, BoardRoleType.ADMIN);
+        assertTrue(boardSecurityService.hasBoardPermission(authentication, board.getId(), BoardRoleType.ADMIN));
+    }
+
+    @Test
+    void testLoginPreloadsRoles() {
+        boardRoleService.assignRoleToUser(user, board, BoardRoleType.ADMIN);
+
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken("roleuser", "password"));
+
+        assertNotNull(cacheManager.getCache("permissions").get(user.getId()));
+    }
+}
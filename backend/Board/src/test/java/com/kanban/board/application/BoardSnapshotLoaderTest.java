@@ -0,0 +1,183 @@
+package com.kanban.board.application;
+
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.domain.repository.BoardRepository;
+import com.kanban.board.domain.repository.ColumnRepository;
+import com.kanban.board.interfaces.rest.BoardDTO;
+import com.kanban.board.interfaces.rest.ColumnDTO;
+import com.kanban.shared.domain.model.Comment;
+import com.kanban.shared.domain.model.Label;
+import com.kanban.shared.infrastructure.BoardMapper;
+import com.kanban.shared.infrastructure.CommentRepository;
+import com.kanban.shared.infrastructure.LabelRepository;
+import com.kanban.task.application.TaskPositionService;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.interfaces.rest.TaskDTO;
+import com.kanban.user.domain.model.User;
+import com.kanban.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class BoardSnapshotLoaderTest {
+
+    @Autowired
+    private BoardSnapshotLoader boardSnapshotLoader;
+
+    @Autowired
+    private TaskPositionService taskPositionService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void testQueryCountDoesNotGrowWithBoardSize() {
+        Board small = board("Small", 1, 1);
+        Board large = board("Large", 5, 20);
+
+        long smallQueries = queriesToLoad(List.of(small.getId()));
+        long largeQueries = queriesToLoad(List.of(large.getId()));
+        long bothQueries = queriesToLoad(List.of(small.getId(), large.getId()));
+
+        assertEquals(4, smallQueries);
+        assertEquals(smallQueries, largeQueries);
+        assertEquals(smallQueries, bothQueries);
+    }
+
+    @Test
+    void testSnapshotMatchesEntityMapping() {
+        Board board = board("Mapped", 3, 4);
+        Long missingId = -1L;
+
+        List<BoardDTO> loaded = boardSnapshotLoader.loadAll(List.of(missingId, board.getId()));
+        entityManager.clear();
+        BoardDTO mapped = BoardMapper.toDTO(boardRepository.findById(board.getId()).orElseThrow());
+
+        assertEquals(1, loaded.size());
+        BoardDTO snapshot = loaded.get(0);
+        assertEquals(mapped.getName(), snapshot.getName());
+        assertEquals(mapped.getCreatedBy().getUsername(), snapshot.getCreatedBy().getUsername());
+        assertEquals(mapped.getLabels().stream().map(l -> l.getId()).sorted().toList(),
+                snapshot.getLabels().stream().map(l -> l.getId()).toList());
+        assertEquals(taskLayout(mapped), taskLayout(snapshot));
+        assertTrue(boardSnapshotLoader.load(missingId).isEmpty());
+    }
+
+    private long queriesToLoad(List<Long> boardIds) {
+        entityManager.clear();
+        statistics.clear();
+        List<BoardDTO> boards = boardSnapshotLoader.loadAll(boardIds);
+        assertEquals(boardIds.size(), boards.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    // Column id -> task ids and positions, in display order
+    private static String taskLayout(BoardDTO board) {
+        return board.getColumns().stream()
+                .sorted((a, b) -> a.getId().compareTo(b.getId()))
+                .map(column -> column.getId() + "=" + tasksOf(column))
+                .collect(Collectors.joining(";"));
+    }
+
+    private static String tasksOf(ColumnDTO column) {
+        return column.getTasks().stream()
+                .map(task -> task.getId() + "@" + task.getPosition() + ":" + task.getTitle())
+                .collect(Collectors.joining(","));
+    }
+
+    // A board whose tasks each have a distinct creator and assignee, a comment and a label
+    private Board board(String name, int columns, int tasksPerColumn) {
+        User owner = user(name + "-owner");
+        Board board = new Board();
+        board.setName(name);
+        board.setCreatedBy(owner);
+        board = boardRepository.save(board);
+
+        Label label = new Label();
+        label.setName(name + " label");
+        label.setColor("#00ff00");
+        label.setBoard(board);
+        label = labelRepository.save(label);
+
+        for (int c = 0; c < columns; c++) {
+            BoardColumn column = new BoardColumn();
+            column.setName(name + " column " + c);
+            column.setOrderIndex(c);
+            column.setBoard(board);
+            column = columnRepository.save(column);
+            for (int t = 0; t < tasksPerColumn; t++) {
+                Task task = new Task();
+                task.setTitle(name + " task " + c + "-" + t);
+                task.setCreatedBy(user(name + "-creator-" + c + "-" + t));
+                task.setAssignee(user(name + "-assignee-" + c + "-" + t));
+                task.getLabels().add(label);
+                task = taskPositionService.addTaskToEndOfColumn(task, column);
+
+                Comment comment = new Comment();
+                comment.setContent("Comment");
+                comment.setUser(owner);
+                comment.setTask(task);
+                commentRepository.save(comment);
+            }
+        }
+        entityManager.flush();
+        return board;
+    }
+
+    private User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,140 @@
+package com.kanban.board.application;
+
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.domain.repository.BoardRepository;
+import com.kanban.board.domain.repository.ColumnRepository;
+import com.kanban.shared.infrastructure.CacheVersions;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.repository.TaskRepository;
+import com.kanban.task.interfaces.rest.TaskDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class PerformanceServiceTest {
+
+    @Autowired
+    private PerformanceService performanceService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @SpyBean
+    private CacheVersions cacheVersions;
+
+    private Board board;
+    private final List<Task> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        board = new Board();
+        board.setName("Preload Board");
+        board = boardRepository.save(board);
+
+        BoardColumn column = new BoardColumn();
+        column.setName("To Do");
+        column.setBoard(board);
+        column = columnRepository.save(column);
+
+        for (int i = 0; i < 5; i++) {
+            Task task = new Task();
+            task.setTitle("Recent " + i);
+            task.setColumn(column);
+            tasks.add(taskRepository.saveAndFlush(task));
+        }
+        cacheManager.getCache("boards").clear();
+        cacheManager.getCache("tasks").clear();
+        // Small batches so the preload crosses batch boundaries
+        ReflectionTestUtils.setField((Object) AopTestUtils.getTargetObject(performanceService), "preloadBatchSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField((Object) AopTestUtils.getTargetObject(performanceService), "preloadBatchSize", 200);
+    }
+
+    @Test
+    void testPreloadWarmsBoardsAndRecentTasks() {
+        double loadedBefore = loadedTasks();
+
+        performanceService.preloadFrequentData();
+
+        assertNotNull(cacheManager.getCache("boards").get(board.getId()));
+        for (Task task : tasks) {
+            TaskDTO cached = cacheManager.getCache("tasks").get(task.getId(), TaskDTO.class);
+            assertNotNull(cached);
+            assertEquals(task.getTitle(), cached.getTitle());
+        }
+        assertTrue(loadedTasks() - loadedBefore >= tasks.size());
+        assertNotNull(meterRegistry.find("cache.preload.duration").tag("cache", "tasks").timer());
+    }
+
+    @Test
+    void testPreloadSkipsCachedEntries() {
+        performanceService.preloadFrequentData();
+        double loadedBefore = loadedTasks();
+
+        performanceService.preloadFrequentData();
+
+        assertEquals(loadedBefore, loadedTasks());
+    }
+
+    @Test
+    void testPreloadDropsTaskEvictedAfterItWasStreamed() {
+        Long evictedId = tasks.get(0).getId();
+        doAnswer(invocation -> {
+            Object version = invocation.callRealMethod();
+            // The task is updated and evicted while the preload is still streaming
+            ReflectionTestUtils.invokeMethod(cacheVersions, "evicting", "tasks", evictedId);
+            return version;
+        }).when(cacheVersions).version("tasks", evictedId);
+
+        performanceService.preloadFrequentData();
+
+        assertNull(cacheManager.getCache("tasks").get(evictedId));
+        assertNotNull(cacheManager.getCache("tasks").get(tasks.get(1).getId()));
+    }
+
+    @Test
+    void testPerformanceMetricsCountRecentTasks() {
+        PerformanceService.PerformanceMetrics metrics = performanceService.getPerformanceMetrics();
+
+        assertTrue(metrics.getRecentTasks() >= tasks.size());
+        assertTrue(metrics.getActiveBoards() >= 1);
+    }
+
+    private double loadedTasks() {
+        return meterRegistry.counter("cache.preload.items", "cache", "tasks", "result", "loaded").count();
+    }
+}
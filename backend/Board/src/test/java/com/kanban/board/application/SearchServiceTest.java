@@ -0,0 +1,209 @@
+package com.kanban.board.application;
+
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.domain.repository.BoardRepository;
+import com.kanban.board.domain.repository.ColumnRepository;
+import com.kanban.shared.interfaces.response.PaginatedResponse;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.model.TaskPriority;
+import com.kanban.task.domain.repository.TaskRepository;
+import com.kanban.task.infrastructure.TaskSearchIndex;
+import com.kanban.task.interfaces.rest.TaskDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class SearchServiceTest {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    private Board board;
+    private Board otherBoard;
+    private BoardColumn otherColumn;
+    private final List<Task> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        board = boardRepository.save(newBoard("Search Board"));
+        otherBoard = boardRepository.save(newBoard("Other Board"));
+        BoardColumn column = columnRepository.save(newColumn(board));
+        otherColumn = columnRepository.save(newColumn(otherBoard));
+
+        for (int i = 0; i < 5; i++) {
+            tasks.add(taskRepository.save(newTask("Deploy release " + i, TaskPriority.HIGH, column)));
+        }
+        tasks.add(taskRepository.save(newTask("Write docs", TaskPriority.HIGH, column)));
+        tasks.add(taskRepository.save(newTask("Deploy hotfix", TaskPriority.LOW, column)));
+        tasks.add(taskRepository.save(newTask("Deploy elsewhere", TaskPriority.HIGH, otherColumn)));
+        // The test transaction never commits, so index the uncommitted rows directly
+        if (!taskSearchIndex.isReady()) {
+            taskSearchIndex.rebuild();
+        }
+        tasks.forEach(t -> taskSearchIndex.index(t.getId(), t.getTitle(), t.getDescription()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tasks.forEach(t -> taskSearchIndex.remove(t.getId()));
+        tasks.clear();
+    }
+
+    @Test
+    void testSearchTasksFiltersInDatabase() {
+        PaginatedResponse<TaskDTO> result = searchService.searchTasks(
+                "deploy", "high", null, null, board.getId(), null, null, 0, 20);
+
+        assertEquals(5, result.getTotalElements());
+        assertTrue(result.getContent().stream().allMatch(t -> t.getTitle().startsWith("Deploy release")));
+    }
+
+    @Test
+    void testSearchTasksPaginates() {
+        PaginatedResponse<TaskDTO> first = searchService.searchTasks(
+                "deploy", null, null, null, board.getId(), null, null, 0, 4);
+        PaginatedResponse<TaskDTO> second = searchService.searchTasks(
+                "deploy", null, null, null, board.getId(), null, null, 1, 4);
+
+        assertEquals(6, first.getTotalElements());
+        assertEquals(2, first.getTotalPages());
+        assertEquals(4, first.getContent().size());
+        assertTrue(first.isHasNext());
+        assertEquals(2, second.getContent().size());
+        assertFalse(second.isHasNext());
+    }
+
+    @Test
+    void testSearchTasksRanksTitleMatchesFirst() {
+        Task inDescription = tasks.get(0);
+        inDescription.setDescription("Mentions the hotfix once");
+        taskRepository.save(inDescription);
+        taskSearchIndex.index(inDescription.getId(), inDescription.getTitle(), inDescription.getDescription());
+
+        PaginatedResponse<TaskDTO> result = searchService.searchTasks(
+                "hotfix", null, null, null, null, null, null, 0, 20);
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals("Deploy hotfix", result.getContent().get(0).getTitle());
+        assertEquals("Deploy release 0", result.getContent().get(1).getTitle());
+    }
+
+    @Test
+    void testSearchTasksWithInvalidPriorityReturnsNothing() {
+        PaginatedResponse<TaskDTO> result = searchService.searchTasks(
+                null, "NOT_A_PRIORITY", null, null, null, null, null, 0, 20);
+
+        assertEquals(0, result.getTotalElements());
+    }
+
+    @Test
+    void testBlankFiltersAreIgnored() {
+        PaginatedResponse<TaskDTO> result = searchService.searchTasks(
+                "deploy release", "", " ", null, null, null, null, 0, 20);
+
+        assertEquals(5, result.getTotalElements());
+    }
+
+    @Test
+    void testFilteredSearchWalksRankedHitsUntilThePageIsFull() {
+        for (int i = 0; i < 450; i++) {
+            Task filler = taskRepository.save(newTask("Deploy filler " + i, TaskPriority.LOW, otherColumn));
+            tasks.add(filler);
+            taskSearchIndex.index(filler.getId(), filler.getTitle(), filler.getDescription());
+        }
+
+        PaginatedResponse<TaskDTO> result = searchService.searchTasks(
+                "deploy", "high", null, null, board.getId(), null, null, 0, 20);
+
+        assertEquals(5, result.getTotalElements());
+        assertEquals(5, result.getContent().size());
+    }
+
+    @Test
+    void testBeforeTheIndexIsBuiltTextIsMatchedInDatabase() {
+        ReflectionTestUtils.setField(taskSearchIndex, "ready", false);
+        try {
+            PaginatedResponse<TaskDTO> result = searchService.searchTasks(
+                    "eploy", null, null, null, board.getId(), null, null, 0, 4);
+
+            // Substrings match until the index takes over
+            assertEquals(6, result.getTotalElements());
+            assertEquals(4, result.getContent().size());
+            assertEquals(tasks.get(0).getId(), result.getContent().get(0).getId());
+        } finally {
+            ReflectionTestUtils.setField(taskSearchIndex, "ready", true);
+        }
+    }
+
+    @Test
+    void testTooBroadPrefixIsAnsweredFromTheIndex() {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < 70; i++) {
+            words.append("rollout").append(i).append(' ');
+        }
+        Task broad = tasks.get(5);
+        broad.setDescription(words.toString());
+        taskRepository.save(broad);
+        taskSearchIndex.index(broad.getId(), broad.getTitle(), broad.getDescription());
+
+        PaginatedResponse<TaskDTO> result = searchService.searchTasks(
+                "docs roll", null, null, null, null, null, null, 0, 20);
+        PaginatedResponse<TaskDTO> substring = searchService.searchTasks(
+                "ocs roll", null, null, null, null, null, null, 0, 20);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Write docs", result.getContent().get(0).getTitle());
+        // Terms other than the last match whole words, as in the index
+        assertEquals(0, substring.getTotalElements());
+    }
+
+    private Board newBoard(String name) {
+        Board b = new Board();
+        b.setName(name);
+        // Generated codes come from the clock and clash for boards saved in the same millisecond
+        b.setInvitationCode("SEARCH-" + UUID.randomUUID());
+        return b;
+    }
+
+    private BoardColumn newColumn(Board owner) {
+        BoardColumn column = new BoardColumn();
+        column.setName("To Do");
+        column.setBoard(owner);
+        return column;
+    }
+
+    private Task newTask(String title, TaskPriority priority, BoardColumn column) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Description of " + title);
+        task.setPriority(priority);
+        task.setColumn(column);
+        return task;
+    }
+}
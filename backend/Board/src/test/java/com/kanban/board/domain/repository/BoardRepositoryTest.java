@@ -0,0 +1,105 @@
+package com.kanban.board.domain.repository;
+
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.task.domain.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class BoardRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    private Board busy;
+    private Board empty;
+    private BoardColumn todo;
+    private BoardColumn done;
+
+    @BeforeEach
+    void setUp() {
+        busy = board("Busy", false);
+        empty = board("Empty", true);
+        todo = column(busy, "To Do", 3);
+        done = column(busy, "Done", 0);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testBoardSummariesCountColumnsAndTasks() {
+        List<BoardRepository.BoardSummary> summaries = boardRepository.findSummariesByIdIn(
+                List.of(busy.getId(), empty.getId()));
+
+        assertEquals(2, summaries.size());
+        BoardRepository.BoardSummary first = summaries.get(0);
+        assertEquals("Busy", first.getName());
+        assertEquals(2L, first.getColumnCount());
+        assertEquals(3L, first.getTaskCount());
+        BoardRepository.BoardSummary second = summaries.get(1);
+        assertEquals(0L, second.getColumnCount());
+        assertEquals(0L, second.getTaskCount());
+        assertTrue(second.getArchived());
+    }
+
+    @Test
+    void testArchivedSummaries() {
+        List<Long> archivedIds = boardRepository.findSummariesByArchived(true).stream()
+                .map(BoardRepository.BoardSummary::getId).toList();
+
+        assertTrue(archivedIds.contains(empty.getId()));
+        assertFalse(archivedIds.contains(busy.getId()));
+        assertTrue(boardRepository.findAllSummaries().size() >= 2);
+    }
+
+    @Test
+    void testColumnSummariesCountTasks() {
+        List<ColumnRepository.ColumnSummary> one = columnRepository.findSummaries(todo.getId());
+        assertEquals(1, one.size());
+        assertEquals(3L, one.get(0).getTaskCount());
+        assertEquals("To Do", one.get(0).getName());
+
+        List<Long> counts = columnRepository.findSummaries(null).stream()
+                .filter(summary -> summary.getId().equals(done.getId()))
+                .map(ColumnRepository.ColumnSummary::getTaskCount)
+                .toList();
+        assertEquals(List.of(0L), counts);
+    }
+
+    private Board board(String name, boolean archived) {
+        Board board = new Board();
+        board.setName(name);
+        board.setArchived(archived);
+        return entityManager.persist(board);
+    }
+
+    private BoardColumn column(Board board, String name, int tasks) {
+        BoardColumn column = new BoardColumn();
+        column.setName(name);
+        column.setBoard(board);
+        column = entityManager.persist(column);
+        for (int i = 0; i < tasks; i++) {
+            Task task = new Task();
+            task.setTitle(name + " " + i);
+            task.setColumn(column);
+            entityManager.persist(task);
+        }
+        return column;
+    }
+}
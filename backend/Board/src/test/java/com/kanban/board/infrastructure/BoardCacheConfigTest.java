@@ -0,0 +1,48 @@
+package com.kanban.board.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.kanban.board.application.EncodedBoardCache;
+import com.kanban.board.interfaces.rest.BoardDTO;
+import com.kanban.board.interfaces.rest.ColumnDTO;
+import com.kanban.shared.infrastructure.config.CacheConfig;
+import com.kanban.task.interfaces.rest.TaskDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardCacheConfigTest {
+
+    private final BoardCacheConfig config = new BoardCacheConfig();
+
+    @Test
+    void testBoardsAreWeighedByTasks() {
+        Cache<Object, Object> cache = CacheConfig.builder("maximumWeight=10", config.boardsCache()).build();
+        cache.put(1L, board(3));
+        cache.put(2L, board(8));
+        cache.cleanUp();
+
+        // The two boards weigh 5 and 10, so they cannot both stay within a weight of 10
+        assertEquals(1, cache.estimatedSize());
+    }
+
+    @Test
+    void testEncodedBoardsAreWeighedByBytes() {
+        Cache<Object, Object> cache = CacheConfig.builder("maximumWeight=1000", config.encodedBoardsCache()).build();
+        cache.put(1L, new EncodedBoardCache.EncodedBoard(new byte[600], "a", 0L));
+        cache.put(2L, new EncodedBoardCache.EncodedBoard(new byte[600], "b", 0L));
+        cache.cleanUp();
+
+        assertEquals(1, cache.estimatedSize());
+    }
+
+    private BoardDTO board(int tasks) {
+        ColumnDTO column = new ColumnDTO();
+        column.setTasks(Collections.nCopies(tasks, new TaskDTO()));
+        BoardDTO board = new BoardDTO();
+        board.setColumns(List.of(column));
+        return board;
+    }
+}
@@ -0,0 +1,67 @@
+package com.kanban.board.infrastructure;
+
+import com.kanban.board.application.BoardEventPublisher;
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.shared.domain.model.Label;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.*;
+
+class BoardChangeListenerTest {
+
+    private BoardEventPublisher publisher;
+    private BoardChangeListener listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        publisher = mock(BoardEventPublisher.class);
+        ObjectProvider<BoardEventPublisher> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(publisher);
+        listener = new BoardChangeListener(provider);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void testBoardIsAnnouncedOncePerTransaction() {
+        Board board = board(1L);
+        BoardColumn column = new BoardColumn();
+        column.setBoard(board);
+        Label label = new Label();
+        label.setBoard(board);
+
+        listener.onChanged(board);
+        listener.onChanged(column);
+        listener.onAddedOrRemoved(label);
+        listener.onChanged(board(2L));
+
+        verify(publisher, times(1)).boardChanged(1L);
+        verify(publisher, times(1)).boardChanged(2L);
+    }
+
+    @Test
+    void testNewBoardIsNotAnnounced() {
+        listener.onAddedOrRemoved(board(1L));
+
+        verifyNoInteractions(publisher);
+    }
+
+    private Board board(Long id) {
+        Board board = new Board();
+        board.setId(id);
+        return board;
+    }
+}
@@ -5,14 +5,27 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import com.kanban.board.domain.model.Board;
+import com.kanban.board.application.BoardEventPublisher;
+import com.kanban.board.application.EncodedBoardCache;
+import com.kanban.board.application.PerformanceService;
 import com.kanban.board.domain.model.BoardColumn;
 import com.kanban.board.domain.repository.BoardRepository;
 import com.kanban.board.interfaces.rest.BoardController;
 import com.kanban.board.interfaces.rest.BoardDTO;
+import com.kanban.shared.domain.exception.ResourceNotFoundException;
+import com.kanban.shared.domain.exception.ValidationException;
+import com.kanban.shared.infrastructure.CacheVersions;
+import com.kanban.shared.infrastructure.WireCodec;
+import com.kanban.shared.infrastructure.WireFormat;
 import com.kanban.task.domain.model.Task;
 
 import java.util.ArrayList;
@@ -27,13 +40,112 @@ class BoardControllerTest {
     @Mock
     private BoardRepository boardRepository;
 
+    @Mock
+    private BoardEventPublisher boardEventPublisher;
+
+    @Mock
+    private PerformanceService performanceService;
+
     @InjectMocks
     private BoardController boardController;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WireCodec wireCodec = new WireCodec(objectMapper, Jackson2ObjectMapperBuilder.json());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EncodedBoardCache encodedBoardCache;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        encodedBoardCache = new EncodedBoardCache(performanceService, boardEventPublisher,
+                new ConcurrentMapCacheManager(EncodedBoardCache.CACHE),
+                new CacheVersions(),
+                wireCodec, meterRegistry);
+        ReflectionTestUtils.setField(boardController, "encodedBoardCache", encodedBoardCache);
+    }
+
+    @Test
+    void testGetBoardSnapshotIncludesSequence() throws Exception {
+        BoardDTO board = new BoardDTO(1L, "Board", false);
+        when(boardEventPublisher.currentSequence(1L)).thenReturn(7L);
+        when(performanceService.getCachedBoard(1L)).thenReturn(board);
+
+        ResponseEntity<byte[]> response = boardController.getBoardSnapshot(1L, null);
+        BoardSnapshotDTO snapshot = objectMapper.readValue(response.getBody(), BoardSnapshotDTO.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(7L, snapshot.getSequence());
+        assertEquals(1L, snapshot.getBoard().getId());
+        assertTrue(response.getHeaders().getETag().startsWith("\"7-"));
+    }
+
+    @Test
+    void testGetBoardSnapshotEncodesBoardOnce() {
+        when(boardEventPublisher.currentSequence(1L)).thenReturn(7L);
+        when(performanceService.getCachedBoard(1L)).thenReturn(new BoardDTO(1L, "Board", false));
+
+        boardController.getBoardSnapshot(1L, null);
+        boardController.getBoardSnapshot(1L, null);
+
+        verify(performanceService, times(1)).getCachedBoard(1L);
+        assertEquals(1.0, meterRegistry.counter("board.frames.encoded").count());
+        assertEquals(1.0, meterRegistry.counter("board.frames.reused").count());
     }
 
+    @Test
+    void testGetBoardSnapshotReencodesBoardPatchedSinceEncoding() throws Exception {
+        when(boardEventPublisher.currentSequence(1L)).thenReturn(7L, 9L);
+        when(performanceService.getCachedBoard(1L))
+                .thenReturn(new BoardDTO(1L, "Board", false), new BoardDTO(1L, "Renamed", false));
+
+        boardController.getBoardSnapshot(1L, null);
+        ResponseEntity<byte[]> response = boardController.getBoardSnapshot(1L, null);
+        BoardSnapshotDTO snapshot = objectMapper.readValue(response.getBody(), BoardSnapshotDTO.class);
+
+        verify(performanceService).evictBoardCache(1L);
+        assertEquals(9L, snapshot.getSequence());
+        assertEquals("Renamed", snapshot.getBoard().getName());
+        assertEquals(2.0, meterRegistry.counter("board.frames.encoded").count());
+    }
+
+    @Test
+    void testGetBoardSnapshotInCbor() {
+        when(boardEventPublisher.currentSequence(1L)).thenReturn(7L);
+        when(performanceService.getCachedBoard(1L)).thenReturn(new BoardDTO(1L, "Board", false));
+
+        ResponseEntity<byte[]> json = boardController.getBoardSnapshot(1L, "application/json");
+        ResponseEntity<byte[]> cbor = boardController.getBoardSnapshot(1L, "application/cbor, application/json;q=0.5");
+        BoardSnapshotDTO snapshot = wireCodec.decode(cbor.getBody(), WireFormat.CBOR, BoardSnapshotDTO.class);
+
+        assertEquals(MediaType.APPLICATION_CBOR, cbor.getHeaders().getContentType());
+        assertNotEquals(json.getHeaders().getETag(), cbor.getHeaders().getETag());
+        assertEquals(7L, snapshot.getSequence());
+        assertEquals("Board", snapshot.getBoard().getName());
+        assertTrue(cbor.getBody().length < json.getBody().length);
+    }
+
+    @Test
+    void testGetBoardSnapshotOfMissingBoard() {
+        assertThrows(ResourceNotFoundException.class, () -> boardController.getBoardSnapshot(99L, null));
+    }
+
+    @Test
+    void testSummaryViewReturnsCountsWithoutLoadingBoards() {
+        BoardRepository.BoardSummary summary = mock(BoardRepository.BoardSummary.class);
+        when(summary.getId()).thenReturn(1L);
+        when(summary.getName()).thenReturn("Board");
+        when(summary.getColumnCount()).thenReturn(3L);
+        when(summary.getTaskCount()).thenReturn(12L);
+        when(boardRepository.findAllSummaries()).thenReturn(List.of(summary));
+
+        List<BoardDTO> boards = boardController.getAllBoards(null, "summary");
+
+        assertEquals(1, boards.size());
+        assertEquals(3L, boards.get(0).getColumnCount());
+        assertEquals(12L, boards.get(0).getTaskCount());
+        assertNull(boards.get(0).getColumns());
+        verifyNoInteractions(performanceService);
+        assertThrows(ValidationException.class, () -> boardController.getAllBoards(null, "tiny"));
+    }
 
 } 
\ No newline at end of file
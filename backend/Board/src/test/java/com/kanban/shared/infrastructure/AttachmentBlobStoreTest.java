@@ -0,0 +1,120 @@
+package com.kanban.shared.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AttachmentBlobStoreTest {
+
+    @TempDir
+    Path root;
+
+    private AttachmentBlobStore blobStore;
+    private AttachmentRepository attachmentRepository;
+    private AttachmentBlobCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new AttachmentBlobStore(root.toString());
+        attachmentRepository = mock(AttachmentRepository.class);
+        collector = new AttachmentBlobCollector();
+        ReflectionTestUtils.setField(collector, "blobStore", blobStore);
+        ReflectionTestUtils.setField(collector, "attachmentRepository", attachmentRepository);
+        ReflectionTestUtils.setField(collector, "gracePeriod", Duration.ofHours(1));
+    }
+
+    @Test
+    void testSameContentIsStoredOnce() throws Exception {
+        String first = store("same content");
+        String second = store("same content");
+        String other = store("other content");
+
+        assertTrue(blobStore.isKey(first));
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        Path stored = blobStore.resolve(first);
+        assertEquals(root.resolve(first.substring(0, 2)).resolve(first.substring(2, 4)).resolve(first), stored);
+        assertEquals("same content", Files.readString(stored));
+        assertEquals(2, storedFiles());
+        try (Stream<Path> tmp = Files.list(root.resolve("tmp"))) {
+            assertEquals(0, tmp.count());
+        }
+    }
+
+    @Test
+    void testOlderFileNamesResolveDirectly() {
+        assertEquals(root.resolve("3f2a.png"), blobStore.resolve("3f2a.png"));
+        assertFalse(blobStore.isKey("3f2a.png"));
+    }
+
+    @Test
+    void testCollectorDeletesOnlyOldUnreferencedFiles() throws Exception {
+        String referenced = store("referenced");
+        String unreferenced = store("unreferenced");
+        String recent = store("recent");
+        age(referenced);
+        age(unreferenced);
+        when(attachmentRepository.findReferencedFileUrls(any())).thenReturn(Set.of(referenced));
+
+        assertEquals(1, collector.collect(Instant.now().minus(Duration.ofHours(1))));
+
+        assertTrue(Files.exists(blobStore.resolve(referenced)));
+        assertFalse(Files.exists(blobStore.resolve(unreferenced)));
+        assertTrue(Files.exists(blobStore.resolve(recent)));
+    }
+
+    @Test
+    void testReuploadProtectsFileFromCollector() throws Exception {
+        String key = store("uploaded again");
+        age(key);
+        when(attachmentRepository.findReferencedFileUrls(any())).thenReturn(Set.of());
+
+        store("uploaded again");
+
+        assertEquals(0, collector.collect(Instant.now().minus(Duration.ofHours(1))));
+        assertTrue(Files.exists(blobStore.resolve(key)));
+    }
+
+    @Test
+    void testUploadDuringCollectionKeepsFile() throws Exception {
+        String key = store("uploaded while collecting");
+        age(key);
+        // The same content is uploaded again after the collector found the file unreferenced
+        when(attachmentRepository.findReferencedFileUrls(any())).thenAnswer(invocation -> {
+            store("uploaded while collecting");
+            return Set.of();
+        });
+
+        assertEquals(0, collector.collect(Instant.now().minus(Duration.ofHours(1))));
+        assertTrue(Files.exists(blobStore.resolve(key)));
+    }
+
+    private String store(String content) throws Exception {
+        return blobStore.store(new ByteArrayInputStream(content.getBytes()));
+    }
+
+    private void age(String key) throws Exception {
+        Files.setLastModifiedTime(blobStore.resolve(key), FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+    }
+
+    private long storedFiles() throws Exception {
+        try (Stream<Path> files = Files.find(root, 3, (path, attributes) ->
+                attributes.isRegularFile() && blobStore.isKey(path.getFileName().toString()))) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.kanban.shared.infrastructure;
+
+import com.kanban.board.application.EncodedBoardCache;
+import com.kanban.board.application.PerformanceService;
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.domain.repository.BoardRepository;
+import com.kanban.board.domain.repository.ColumnRepository;
+import com.kanban.board.interfaces.rest.BoardDTO;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class CacheInvalidationListenerTest {
+
+    @Autowired
+    private PerformanceService performanceService;
+
+    @Autowired
+    private EncodedBoardCache encodedBoardCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheVersions cacheVersions;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Board board;
+    private BoardColumn column;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board();
+        board.setName("Cached Board");
+        board = boardRepository.save(board);
+
+        column = new BoardColumn();
+        column.setName("To Do");
+        column.setBoard(board);
+        column = columnRepository.save(column);
+        board.getColumns().add(column);
+
+        task = new Task();
+        task.setTitle("Cached Task");
+        task.setColumn(column);
+        task = taskRepository.saveAndFlush(task);
+        column.getTasks().add(task);
+    }
+
+    @Test
+    void testTaskUpdateEvictsTaskAndParentBoard() {
+        performanceService.getCachedTask(task.getId());
+        performanceService.getCachedBoards(List.of(board.getId()));
+        assertNotNull(cacheManager.getCache("tasks").get(task.getId()));
+        assertNotNull(cacheManager.getCache("boards").get(board.getId()));
+
+        task.setTitle("Renamed Task");
+        taskRepository.saveAndFlush(task);
+
+        assertNull(cacheManager.getCache("tasks").get(task.getId()));
+        assertNull(cacheManager.getCache("boards").get(board.getId()));
+        assertEquals("Renamed Task", performanceService.getCachedTask(task.getId()).getTitle());
+    }
+
+    @Test
+    void testTaskUpdateEvictsEncodedBoard() {
+        byte[] before = encodedBoardCache.get(board.getId()).orElseThrow().json();
+        assertNotNull(cacheManager.getCache(EncodedBoardCache.CACHE).get(board.getId()));
+
+        task.setTitle("Renamed Task");
+        taskRepository.saveAndFlush(task);
+
+        assertNull(cacheManager.getCache(EncodedBoardCache.CACHE).get(board.getId()));
+        String after = new String(encodedBoardCache.get(board.getId()).orElseThrow().json(), StandardCharsets.UTF_8);
+        assertFalse(new String(before, StandardCharsets.UTF_8).contains("Renamed Task"));
+        assertTrue(after.contains("Renamed Task"));
+    }
+
+    @Test
+    void testColumnChangeEvictsBoard() {
+        performanceService.getCachedBoards(List.of(board.getId()));
+
+        column.setName("Doing");
+        columnRepository.saveAndFlush(column);
+
+        BoardDTO cached = performanceService.getCachedBoards(List.of(board.getId())).get(0);
+        assertEquals("Doing", cached.getColumns().get(0).getName());
+    }
+
+    @Test
+    void testLoadRacingAnEvictionIsNotCached() {
+        Cache cache = cacheManager.getCache("boards");
+        long version = cacheVersions.version("boards", board.getId());
+        BoardDTO loadedBeforeTheChange = performanceService.getCachedBoard(board.getId());
+        cache.evict(board.getId());
+
+        task.setTitle("Renamed Task");
+        taskRepository.saveAndFlush(task);
+        cacheVersions.putIfCurrent(cache, board.getId(), loadedBeforeTheChange, version);
+
+        assertNull(cache.get(board.getId()));
+    }
+
+    @Test
+    void testCachedBoardsKeepRequestedOrder() {
+        Board other = new Board();
+        other.setName("Other Board");
+        other = boardRepository.saveAndFlush(other);
+        performanceService.getCachedBoards(List.of(other.getId()));
+
+        List<BoardDTO> boards = performanceService.getCachedBoards(List.of(board.getId(), -1L, other.getId()));
+
+        assertEquals(2, boards.size());
+        assertEquals(board.getId(), boards.get(0).getId());
+        assertEquals(other.getId(), boards.get(1).getId());
+    }
+}
@@ -0,0 +1,183 @@
+package com.kanban.shared.infrastructure;
+
+import com.kanban.shared.domain.model.Notification;
+import com.kanban.shared.interfaces.rest.NotificationDTO;
+import com.kanban.user.domain.model.User;
+import com.kanban.user.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// Not transactional: notifications are only queued once a transaction commits
+@SpringBootTest
+@ActiveProfiles("test")
+public class NotificationQueueTest {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private SimpMessagingTemplate messagingTemplate;
+    private UnreadNotificationCounter unreadCounter;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationQueue queue;
+    private User recipient;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        unreadCounter = mock(UnreadNotificationCounter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        recipient = new User();
+        recipient.setUsername("queued-recipient");
+        recipient.setEmail("queued@example.com");
+        recipient.setPassword("password");
+        recipient = userRepository.save(recipient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null && queue.isRunning()) {
+            queue.stop();
+        }
+        notificationRepository.deleteAll(notificationRepository.findByRecipientIdOrderByCreatedAtDesc(recipient.getId()));
+        userRepository.delete(recipient);
+    }
+
+    @Test
+    void testStopWritesEverythingQueuedAndPushesIt() {
+        queue = queue(1000);
+        queue.start();
+        for (int i = 0; i < 250; i++) {
+            queue.enqueue(notification("Queued " + i));
+        }
+
+        queue.stop();
+
+        assertEquals(0, queue.size());
+        assertEquals(250, stored().size());
+        assertEquals(250.0, meterRegistry.counter("notifications.written", "result", "persisted").count());
+        assertTrue(meterRegistry.summary("notifications.queue.batch.size").max() > 1);
+        // Ids assigned by the batch insert are pushed with the notifications
+        ArgumentCaptor<NotificationDTO> pushed = ArgumentCaptor.forClass(NotificationDTO.class);
+        verify(messagingTemplate, times(250)).convertAndSendToUser(
+                eq(String.valueOf(recipient.getId())), eq(NotificationQueue.DESTINATION), pushed.capture());
+        assertTrue(pushed.getAllValues().stream().allMatch(dto -> dto.getId() != null));
+        verify(unreadCounter, times(250)).increment(recipient.getId());
+    }
+
+    @Test
+    void testRolledBackTransactionQueuesNothing() {
+        queue = queue(1000);
+        queue.start();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            queue.enqueue(notification("Never sent"));
+            assertEquals(0, queue.size());
+            status.setRollbackOnly();
+        });
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                queue.enqueue(notification("Committed")));
+        queue.stop();
+
+        assertEquals(List.of("Committed"), stored().stream().map(Notification::getTitle).toList());
+    }
+
+    @Test
+    void testBadRowOnlyLosesItself() {
+        User missing = new User();
+        missing.setId(Long.MAX_VALUE);
+        Notification orphan = notification("Orphan");
+        orphan.setRecipient(missing);
+        queue = queue(1000);
+        // Accept into the buffer without a writer draining it, so the three go out as one batch
+        ReflectionTestUtils.setField(queue, "running", true);
+
+        queue.enqueue(notification("Before"));
+        queue.enqueue(orphan);
+        queue.enqueue(notification("After"));
+        queue.flush();
+        ReflectionTestUtils.setField(queue, "running", false);
+
+        assertEquals(List.of("After", "Before"), stored().stream().map(Notification::getTitle).sorted().toList());
+        assertEquals(2.0, meterRegistry.counter("notifications.written", "result", "persisted").count());
+        assertEquals(1.0, meterRegistry.counter("notifications.written", "result", "failed").count());
+        assertEquals(3.0, meterRegistry.summary("notifications.queue.batch.size").max());
+        verify(unreadCounter, times(2)).increment(recipient.getId());
+        verify(unreadCounter, never()).increment(Long.MAX_VALUE);
+    }
+
+    @Test
+    void testFullBufferMakesCallerWrite() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            // Stall the background writer so the buffer fills up
+            if (Thread.currentThread().getName().equals("notification-writer")) {
+                release.await(10, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(messagingTemplate).convertAndSendToUser(any(String.class), any(String.class), any(Object.class));
+        queue = queue(1);
+        queue.start();
+
+        queue.enqueue(notification("Stalls the writer"));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (queue.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        queue.enqueue(notification("Fills the buffer"));
+        queue.enqueue(notification("Written by the caller"));
+
+        assertEquals(1.0, meterRegistry.counter("notifications.queue.caller.writes").count());
+        assertTrue(stored().stream().anyMatch(n -> n.getTitle().equals("Written by the caller")));
+        release.countDown();
+        queue.stop();
+        assertEquals(3, stored().size());
+    }
+
+    private NotificationQueue queue(int capacity) {
+        return new NotificationQueue(jdbcTemplate, transactionManager, messagingTemplate, unreadCounter, meterRegistry,
+                capacity, 100, Duration.ofMillis(20));
+    }
+
+    private Notification notification(String title) {
+        Notification notification = new Notification();
+        notification.setTitle(title);
+        notification.setMessage("Message");
+        notification.setType("TASK_ASSIGNED");
+        notification.setRecipient(recipient);
+        return notification;
+    }
+
+    private List<Notification> stored() {
+        return notificationRepository.findByRecipientIdOrderByCreatedAtDesc(recipient.getId());
+    }
+}
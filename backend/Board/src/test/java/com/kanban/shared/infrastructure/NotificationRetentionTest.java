@@ -0,0 +1,112 @@
+package com.kanban.shared.infrastructure;
+
+import com.kanban.shared.domain.model.Notification;
+import com.kanban.user.domain.model.User;
+import com.kanban.user.domain.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class NotificationRetentionTest {
+
+    @Autowired
+    private NotificationRetention notificationRetention;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User recipient;
+    private Object maxRowsPerTransaction;
+
+    @BeforeEach
+    void setUp() {
+        recipient = new User();
+        recipient.setUsername("retained");
+        recipient.setEmail("retained@example.com");
+        recipient.setPassword("password");
+        recipient = userRepository.saveAndFlush(recipient);
+        // Small chunks so the tests cover several transactions
+        maxRowsPerTransaction = ReflectionTestUtils.getField(notificationRetention, "maxRowsPerTransaction");
+        ReflectionTestUtils.setField(notificationRetention, "maxRowsPerTransaction", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(notificationRetention, "maxRowsPerTransaction", maxRowsPerTransaction);
+    }
+
+    @Test
+    void testRetentionIsPerType() {
+        LocalDateTime now = LocalDateTime.now();
+        insert("TASK_DUE", now.minusDays(20));
+        insert("TASK_DUE", now.minusDays(5));
+        insert("TASK_ASSIGNED", now.minusDays(20));
+        insert("TASK_ASSIGNED", now.minusDays(100));
+        double before = meterRegistry.counter("notifications.retention.deleted", "type", "TASK_DUE").count();
+
+        notificationRetention.purgeExpired();
+
+        assertEquals(14, notificationRetention.retentionDays("TASK_DUE"));
+        assertEquals(90, notificationRetention.retentionDays("TASK_ASSIGNED"));
+        List<Notification> kept = notificationRepository.findByRecipientIdOrderByCreatedAtDesc(recipient.getId());
+        assertEquals(List.of("TASK_DUE", "TASK_ASSIGNED"), kept.stream().map(Notification::getType).toList());
+        assertEquals(before + 1,
+                meterRegistry.counter("notifications.retention.deleted", "type", "TASK_DUE").count());
+    }
+
+    @Test
+    void testDeleteOldNotificationsRunsInChunks() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            insert("COMMENT_ADDED", now.minusDays(40));
+        }
+        insert("BOARD_INVITATION", now.minusDays(40));
+        insert("BOARD_INVITATION", now.minusDays(1));
+
+        assertEquals(6, notificationService.deleteOldNotifications(30));
+        assertEquals(1, notificationRepository.findByRecipientIdOrderByCreatedAtDesc(recipient.getId()).size());
+        assertEquals(0, notificationService.deleteOldNotifications(30));
+    }
+
+    private void insert(String type, LocalDateTime createdAt) {
+        // created_at is overwritten on persist, so old rows are inserted directly
+        jdbcTemplate.update(NotificationQueue.INSERT_SQL, new MapSqlParameterSource()
+                .addValue("title", type)
+                .addValue("message", "Message")
+                .addValue("type", type)
+                .addValue("data", null)
+                .addValue("recipientId", recipient.getId())
+                .addValue("senderId", null)
+                .addValue("taskId", null)
+                .addValue("boardId", null)
+                .addValue("createdAt", createdAt));
+    }
+}
@@ -0,0 +1,112 @@
+package com.kanban.shared.infrastructure;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadNotificationCounterTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private ClusterInvalidations clusterInvalidations;
+
+    @InjectMocks
+    private UnreadNotificationCounter counter;
+
+    @Test
+    void testSeededOnceThenKeptInMemory() {
+        when(notificationRepository.countByRecipientIdAndReadFalse(1L)).thenReturn(3L);
+
+        assertEquals(3, counter.get(1L));
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.decrement(1L);
+
+        assertEquals(4, counter.get(1L));
+        verify(notificationRepository, times(1)).countByRecipientIdAndReadFalse(1L);
+        verify(messagingTemplate).convertAndSendToUser("1", UnreadNotificationCounter.DESTINATION, (Object) 5L);
+        verify(messagingTemplate, times(2)).convertAndSendToUser("1", UnreadNotificationCounter.DESTINATION, (Object) 4L);
+    }
+
+    @Test
+    void testUnknownUsersAreLeftToTheDatabase() {
+        counter.increment(2L);
+
+        verifyNoInteractions(messagingTemplate);
+        when(notificationRepository.countByRecipientIdAndReadFalse(2L)).thenReturn(1L);
+        assertEquals(1, counter.get(2L));
+    }
+
+    @Test
+    void testSeedRacingACommittedChangeIsReloaded() {
+        when(notificationRepository.countByRecipientIdAndReadFalse(2L)).thenAnswer(invocation -> {
+            // A notification commits while its recipient's count is being read, which may not include it
+            counter.increment(2L);
+            return 3L;
+        }).thenReturn(4L);
+
+        assertEquals(3, counter.get(2L));
+        assertEquals(4, counter.get(2L));
+        assertEquals(4, counter.get(2L));
+        verify(notificationRepository, times(2)).countByRecipientIdAndReadFalse(2L);
+    }
+
+    @Test
+    void testResetAndInvalidate() {
+        when(notificationRepository.countByRecipientIdAndReadFalse(1L)).thenReturn(7L, 0L, 2L);
+        assertEquals(7, counter.get(1L));
+
+        counter.reset(1L);
+        assertEquals(0, counter.get(1L));
+        verify(messagingTemplate).convertAndSendToUser("1", UnreadNotificationCounter.DESTINATION, (Object) 0L);
+
+        counter.invalidateAll();
+        assertEquals(2, counter.get(1L));
+    }
+
+    @Test
+    void testResetKeepsNotificationWrittenBeforeIt() {
+        when(notificationRepository.countByRecipientIdAndReadFalse(1L)).thenReturn(7L, 1L);
+        assertEquals(7, counter.get(1L));
+
+        // Marked all as read, then a notification committed before the reset ran
+        counter.increment(1L);
+        counter.reset(1L);
+
+        assertEquals(1, counter.get(1L));
+        verify(messagingTemplate).convertAndSendToUser("1", UnreadNotificationCounter.DESTINATION, (Object) 1L);
+    }
+
+    @Test
+    void testChangesWaitForCommit() {
+        when(notificationRepository.countByRecipientIdAndReadFalse(1L)).thenReturn(1L);
+        counter.get(1L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counter.decrement(1L);
+            assertEquals(1, counter.get(1L));
+            verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(0, counter.get(1L));
+    }
+}
@@ -0,0 +1,87 @@
+package com.kanban.shared.infrastructure;
+
+import com.kanban.board.interfaces.rest.BoardDTO;
+import com.kanban.board.interfaces.rest.BoardSnapshotDTO;
+import com.kanban.board.interfaces.rest.ColumnDTO;
+import com.kanban.task.interfaces.rest.TaskDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WireCodecTest {
+
+    private final WireCodec wireCodec = new WireCodec(Jackson2ObjectMapperBuilder.json().build(), Jackson2ObjectMapperBuilder.json());
+
+    @Test
+    void testCborRoundTripIsSmallerThanJson() {
+        BoardDTO board = board(200);
+
+        byte[] json = wireCodec.encode(board, WireFormat.JSON);
+        byte[] cbor = wireCodec.encode(board, WireFormat.CBOR);
+        BoardDTO decoded = wireCodec.decode(cbor, WireFormat.CBOR, BoardDTO.class);
+
+        assertTrue(cbor.length < json.length);
+        assertEquals(board, decoded);
+    }
+
+    @Test
+    void testTranscodedJsonDecodesLikeDirectEncoding() {
+        BoardDTO board = board(20);
+        byte[] json = wireCodec.encode(board, WireFormat.JSON);
+
+        byte[] transcoded = wireCodec.transcode(json, WireFormat.CBOR);
+
+        assertEquals(board, wireCodec.decode(transcoded, WireFormat.CBOR, BoardDTO.class));
+        assertSame(json, wireCodec.transcode(json, WireFormat.JSON));
+    }
+
+    @Test
+    void testSnapshotWrapsEncodedBoard() {
+        BoardDTO board = board(3);
+        for (WireFormat format : WireFormat.values()) {
+            byte[] snapshot = wireCodec.snapshot(42L, wireCodec.encode(board, format), format);
+
+            BoardSnapshotDTO decoded = wireCodec.decode(snapshot, format, BoardSnapshotDTO.class);
+            assertEquals(42L, decoded.getSequence(), format.name());
+            assertEquals(board, decoded.getBoard(), format.name());
+        }
+    }
+
+    @Test
+    void testFormatFromAcceptAndName() {
+        assertEquals(WireFormat.JSON, WireFormat.fromAccept(null));
+        assertEquals(WireFormat.JSON, WireFormat.fromAccept("*/*"));
+        assertEquals(WireFormat.JSON, WireFormat.fromAccept("application/json, application/cbor"));
+        assertEquals(WireFormat.CBOR, WireFormat.fromAccept("application/cbor"));
+        assertEquals(WireFormat.CBOR, WireFormat.fromAccept("application/json;q=0.5, application/cbor"));
+        assertEquals(WireFormat.JSON, WireFormat.fromAccept("not a media type"));
+        assertEquals(WireFormat.CBOR, WireFormat.fromName(" CBOR "));
+        assertEquals(WireFormat.JSON, WireFormat.fromName("smile"));
+    }
+
+    private BoardDTO board(int tasks) {
+        List<TaskDTO> previews = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            TaskDTO task = new TaskDTO();
+            task.setId((long) i);
+            task.setTitle("Task " + i);
+            task.setPriority("HIGH");
+            task.setStatus("IN_PROGRESS");
+            task.setPosition(i);
+            task.setCreatedAt(LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(i));
+            previews.add(task);
+        }
+        ColumnDTO column = new ColumnDTO();
+        column.setId(10L);
+        column.setName("In Progress");
+        column.setTasks(previews);
+        BoardDTO board = new BoardDTO(1L, "Board", false);
+        board.setColumns(List.of(column));
+        return board;
+    }
+}
@@ -0,0 +1,66 @@
+package com.kanban.shared.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.kanban.board.application.EncodedBoardCache;
+import com.kanban.board.application.PerformanceService;
+import com.kanban.user.application.AvatarImageService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CacheConfigTest {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PerformanceService performanceService;
+
+    @Test
+    void testCachesAreBoundedAndExpire() {
+        for (String name : cacheManager.getCacheNames()) {
+            Cache<Object, Object> cache = ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+            assertTrue(cache.policy().eviction().isPresent(), name + " has no size bound");
+            assertTrue(cache.policy().expireAfterWrite().isPresent(), name + " has no time to live");
+        }
+        assertTrue(((CaffeineCache) cacheManager.getCache("boards")).getNativeCache()
+                .policy().eviction().get().isWeighted());
+        assertNull(cacheManager.getCache("unknown"));
+    }
+
+    @Test
+    void testHitsAndMissesAreExported() {
+        performanceService.evictTaskCache(-1L);
+        double misses = count("miss");
+        double hits = count("hit");
+
+        performanceService.getCachedTask(-1L);
+        performanceService.getCachedTask(-1L);
+
+        assertEquals(misses + 1, count("miss"));
+        assertEquals(hits + 1, count("hit"));
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", "tasks").meter());
+    }
+
+    @Test
+    void testContributedCachesAreRegistered() {
+        assertNotNull(cacheManager.getCache(EncodedBoardCache.CACHE));
+        assertNotNull(cacheManager.getCache(AvatarImageService.CACHE));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "tasks").tag("result", result)
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,124 @@
+package com.kanban.shared.infrastructure.config;
+
+import com.kanban.shared.infrastructure.ClusterInvalidations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StompAuthenticationInterceptorTest {
+
+    private final VerifiedTokenCache verifiedTokenCache = mock(VerifiedTokenCache.class);
+    private final StompAuthenticationInterceptor interceptor = new StompAuthenticationInterceptor(verifiedTokenCache);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final MessageHandler handler = mock(MessageHandler.class);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testConnectWithTokenNamesSessionByUserId() {
+        when(verifiedTokenCache.resolve("good")).thenReturn(new AuthenticatedUser(7L, "alice", List.of()));
+
+        Message<?> connected = interceptor.preSend(connect("Bearer good"), channel);
+
+        Principal user = SimpMessageHeaderAccessor.getUser(connected.getHeaders());
+        assertNotNull(user);
+        assertEquals("7", user.getName());
+        assertEquals("alice", ((AuthenticatedUser) ((Authentication) user).getPrincipal()).getUsername());
+    }
+
+    @Test
+    void testInvalidTokenRefusesSession() {
+        assertThrows(BadCredentialsException.class, () -> interceptor.preSend(connect("Bearer expired"), channel));
+        assertThrows(BadCredentialsException.class, () -> interceptor.preSend(connect("Basic abc"), channel));
+    }
+
+    @Test
+    void testConnectWithoutTokenStaysAnonymous() {
+        Message<?> connected = interceptor.preSend(connect(null), channel);
+
+        assertNull(SimpMessageHeaderAccessor.getUser(connected.getHeaders()));
+    }
+
+    @Test
+    void testUserTopicsAreReservedForTheirUser() {
+        Principal seven = () -> "7";
+
+        assertDoesNotThrow(() -> interceptor.preSend(subscribe(seven, "/topic/user/7/notifications/unread"), channel));
+        assertDoesNotThrow(() -> interceptor.preSend(subscribe(null, "/topic/board/1"), channel));
+        assertDoesNotThrow(() -> interceptor.preSend(subscribe(seven, "/user/queue/notifications"), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe(seven, "/topic/user/8/notifications"), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe(null, "/topic/user/7/notifications"), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe(seven, "/queue/notifications-usera1b2"), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+                subscribe(seven, StompAuthenticationInterceptor.USER_REGISTRY_BROADCAST), channel));
+    }
+
+    @Test
+    void testClientsSendToTheApplicationOnly() {
+        assertDoesNotThrow(() -> interceptor.preSend(frame(StompCommand.SEND, null, "/app/board/1/task-move"), channel));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(frame(StompCommand.SEND, null, "/topic/board/1"), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+                frame(StompCommand.SEND, null, ClusterInvalidations.TOPIC), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+                subscribe(null, ClusterInvalidations.TOPIC), channel));
+    }
+
+    @Test
+    void testPrincipalIsSecurityContextWhileHandling() {
+        when(verifiedTokenCache.resolve("good")).thenReturn(new AuthenticatedUser(7L, "alice", List.of()));
+        Principal user = SimpMessageHeaderAccessor.getUser(interceptor.preSend(connect("Bearer good"), channel).getHeaders());
+        Message<?> send = subscribe(user, "/app/board/1/task-move");
+
+        interceptor.beforeHandle(send, channel, handler);
+        assertSame(user, SecurityContextHolder.getContext().getAuthentication());
+
+        interceptor.afterMessageHandled(send, channel, handler, null);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static Message<?> connect(String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId("session");
+        if (authorization != null) {
+            accessor.setNativeHeader(StompAuthenticationInterceptor.AUTHORIZATION_HEADER, authorization);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<?> subscribe(Principal user, String destination) {
+        return frame(StompCommand.SUBSCRIBE, user, destination);
+    }
+
+    private static Message<?> frame(StompCommand command, Principal user, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session");
+        accessor.setDestination(destination);
+        accessor.setUser(user);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
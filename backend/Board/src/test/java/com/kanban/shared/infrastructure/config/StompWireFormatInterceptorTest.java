@@ -0,0 +1,90 @@
+package com.kanban.shared.infrastructure.config;
+
+import com.kanban.shared.infrastructure.WireCodec;
+import com.kanban.shared.infrastructure.WireFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class StompWireFormatInterceptorTest {
+
+    private final WireCodec wireCodec = new WireCodec(Jackson2ObjectMapperBuilder.json().build(), Jackson2ObjectMapperBuilder.json());
+    private final StompWireFormatInterceptor interceptor = new StompWireFormatInterceptor(wireCodec);
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @Test
+    void testCborSessionsShareOneTranscodedPayload() {
+        connect("a", "cbor", true);
+        connect("b", "cbor", true);
+        byte[] json = "{\"kind\":\"TASK_MOVED\",\"taskId\":5}".getBytes(StandardCharsets.UTF_8);
+
+        Message<?> first = interceptor.preSend(broadcast("a", json), channel);
+        Message<?> second = interceptor.preSend(broadcast("b", json), channel);
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(first);
+        assertEquals(MimeTypeUtils.APPLICATION_OCTET_STREAM, headers.getContentType());
+        assertEquals("cbor", headers.getFirstNativeHeader(StompWireFormatInterceptor.FORMAT_HEADER));
+        assertSame(first.getPayload(), second.getPayload());
+        Map<?, ?> decoded = wireCodec.decode((byte[]) first.getPayload(), WireFormat.CBOR, Map.class);
+        assertEquals("TASK_MOVED", decoded.get("kind"));
+    }
+
+    @Test
+    void testJsonAndSockJsSessionsAreLeftAlone() {
+        connect("json", null, true);
+        connect("sockjs", "cbor", false);
+        byte[] json = "{\"taskId\":5}".getBytes(StandardCharsets.UTF_8);
+
+        assertSame(json, interceptor.preSend(broadcast("json", json), channel).getPayload());
+        assertSame(json, interceptor.preSend(broadcast("sockjs", json), channel).getPayload());
+        assertEquals(WireFormat.JSON, interceptor.formatOf("sockjs"));
+    }
+
+    @Test
+    void testDisconnectForgetsFormat() {
+        connect("a", "cbor", true);
+        assertEquals(WireFormat.CBOR, interceptor.formatOf("a"));
+
+        StompHeaderAccessor disconnect = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        disconnect.setSessionId("a");
+        interceptor.preSend(MessageBuilder.createMessage(new byte[0], disconnect.getMessageHeaders()), channel);
+
+        assertEquals(WireFormat.JSON, interceptor.formatOf("a"));
+    }
+
+    private void connect(String sessionId, String format, boolean binaryTransport) {
+        StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+        connect.setSessionId(sessionId);
+        if (format != null) {
+            connect.setNativeHeader(StompWireFormatInterceptor.FORMAT_HEADER, format);
+        }
+        Map<String, Object> attributes = new HashMap<>();
+        if (binaryTransport) {
+            attributes.put(StompWireFormatInterceptor.BINARY_TRANSPORT, Boolean.TRUE);
+        }
+        connect.setSessionAttributes(attributes);
+        interceptor.preSend(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()), channel);
+    }
+
+    private Message<byte[]> broadcast(String sessionId, byte[] payload) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setDestination("/topic/board/1");
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(payload, headers.getMessageHeaders());
+    }
+}
@@ -0,0 +1,81 @@
+package com.kanban.shared.infrastructure.config;
+
+import com.kanban.user.domain.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache tokenCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil());
+        tokenCache = new VerifiedTokenCache(jwtUtil, userDetailsService, meterRegistry,
+                "maximumSize=100", Duration.ofMinutes(15));
+        user = new User();
+        user.setId(7L);
+        user.setUsername("alice");
+    }
+
+    @Test
+    void testRepeatRequestsSkipVerificationAndLookup() {
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(user);
+        String token = jwtUtil.generateToken(user);
+
+        AuthenticatedUser first = tokenCache.resolve(token);
+        AuthenticatedUser second = tokenCache.resolve(token);
+
+        assertEquals(7L, first.getId());
+        assertEquals("alice", first.getUsername());
+        assertSame(first, second);
+        verify(jwtUtil, times(1)).parseClaims(token);
+        verify(userDetailsService, times(1)).loadUserByUsername("alice");
+    }
+
+    @Test
+    void testInvalidateUserForcesReload() {
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(user);
+        String token = jwtUtil.generateToken(user);
+        tokenCache.resolve(token);
+
+        tokenCache.invalidateUser("alice");
+        user.setEnabled(false);
+
+        assertNull(tokenCache.resolve(token));
+        assertEquals(0, tokenCache.size());
+        verify(userDetailsService, times(2)).loadUserByUsername("alice");
+    }
+
+    @Test
+    void testInvalidTokensAndUnknownUsersAreRejected() {
+        String token = jwtUtil.generateToken(user);
+        when(userDetailsService.loadUserByUsername("alice")).thenThrow(new UsernameNotFoundException("gone"));
+
+        assertNull(tokenCache.resolve("not-a-token"));
+        assertNull(tokenCache.resolve(new JwtUtil().generateToken(user)));
+        assertNull(tokenCache.resolve(token));
+        assertEquals(0, tokenCache.size());
+    }
+}
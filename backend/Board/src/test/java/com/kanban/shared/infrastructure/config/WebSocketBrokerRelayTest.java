@@ -0,0 +1,238 @@
+package com.kanban.shared.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kanban.KanbanApplication;
+import com.kanban.board.application.BoardEventPublisher;
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.repository.BoardRepository;
+import com.kanban.shared.domain.model.Notification;
+import com.kanban.shared.infrastructure.NotificationQueue;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.repository.TaskRepository;
+import com.kanban.task.infrastructure.TaskSearchIndex;
+import com.kanban.user.domain.model.User;
+import com.kanban.user.domain.repository.UserRepository;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two application nodes relaying to one embedded STOMP broker, sharing one database
+ */
+class WebSocketBrokerRelayTest {
+
+    @TempDir
+    static Path brokerDir;
+
+    private static EmbeddedActiveMQ broker;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static ThreadPoolTaskScheduler scheduler;
+    private static WebSocketStompClient stompClient;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void startBrokerAndNodes() throws Exception {
+        int brokerPort = freePort();
+        ConfigurationImpl configuration = new ConfigurationImpl();
+        configuration.setBrokerInstance(brokerDir.toFile());
+        configuration.setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .setJMXManagementEnabled(false)
+                .addAcceptorConfiguration("stomp",
+                        "tcp://127.0.0.1:" + brokerPort + "?protocols=STOMP;multicastPrefix=/topic/");
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(configuration);
+        broker.start();
+
+        String database = "jdbc:h2:mem:relay-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        nodeA = startNode(brokerPort, database);
+        nodeB = startNode(brokerPort, database);
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setTaskScheduler(scheduler);
+    }
+
+    @AfterAll
+    static void stopNodesAndBroker() throws Exception {
+        if (stompClient != null) {
+            stompClient.stop();
+            scheduler.shutdown();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+
+    @Test
+    void testEventPublishedOnOneNodeReachesSubscriberOfTheOther() throws Exception {
+        Board board = new Board();
+        board.setName("Relayed Board");
+        Long boardId = nodeB.getBean(BoardRepository.class).save(board).getId();
+
+        BlockingQueue<Map<?, ?>> received = new LinkedBlockingQueue<>();
+        StompSession session = subscribe(nodeA, "/topic/board/" + boardId, received);
+        try {
+            nodeB.getBean(BoardEventPublisher.class).taskDeleted(boardId, 5L, 10L, 0);
+            Map<?, ?> fromB = received.poll(10, TimeUnit.SECONDS);
+            assertNotNull(fromB, "event published on node B was not delivered to node A's subscriber");
+            assertEquals(5, fromB.get("taskId"));
+            assertEquals(1, fromB.get("sequence"));
+
+            nodeA.getBean(BoardEventPublisher.class).taskDeleted(boardId, 6L, 10L, 0);
+            Map<?, ?> fromA = received.poll(10, TimeUnit.SECONDS);
+            assertNotNull(fromA);
+            assertEquals(2, fromA.get("sequence"));
+            assertEquals(2L, nodeA.getBean(BoardEventPublisher.class).currentSequence(boardId));
+            assertEquals(2L, nodeB.getBean(BoardEventPublisher.class).currentSequence(boardId));
+        } finally {
+            session.disconnect();
+        }
+    }
+
+    @Test
+    void testUserDestinationReachesSessionOnTheOtherNode() throws Exception {
+        User user = new User();
+        user.setUsername("relayed-recipient");
+        user.setEmail("relayed@example.com");
+        user.setPassword("password");
+        user = nodeB.getBean(UserRepository.class).save(user);
+        String token = nodeA.getBean(JwtUtil.class).generateToken(user);
+
+        BlockingQueue<Map<?, ?>> received = new LinkedBlockingQueue<>();
+        StompSession session = subscribe(nodeA, "/user" + NotificationQueue.DESTINATION, received, token);
+        try {
+            Notification notification = new Notification();
+            notification.setTitle("Relayed");
+            notification.setMessage("Message");
+            notification.setType("TASK_ASSIGNED");
+            notification.setRecipient(user);
+            NotificationQueue queue = nodeB.getBean(NotificationQueue.class);
+            queue.enqueue(notification);
+            queue.flush();
+
+            Map<?, ?> pushed = received.poll(10, TimeUnit.SECONDS);
+            assertNotNull(pushed, "notification written on node B was not delivered to the session on node A");
+            assertEquals("Relayed", pushed.get("title"));
+        } finally {
+            session.disconnect();
+        }
+    }
+
+    @Test
+    void testTaskSavedOnOneNodeIsSearchableOnTheOther() throws Exception {
+        Task task = new Task();
+        task.setTitle("Relayedsearchterm");
+        Long taskId = nodeB.getBean(TaskRepository.class).save(task).getId();
+
+        TaskSearchIndex index = nodeA.getBean(TaskSearchIndex.class);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (index.search("relayedsearchterm", 0, 10).getIds().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(List.of(taskId), index.search("relayedsearchterm", 0, 10).getIds(),
+                "task saved on node B was not indexed on node A");
+    }
+
+    private static ConfigurableApplicationContext startNode(int brokerPort, String database) throws InterruptedException {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(KanbanApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--app.websocket.broker.mode=relay",
+                        "--app.websocket.broker.relay.host=127.0.0.1",
+                        "--app.websocket.broker.relay.port=" + brokerPort,
+                        "--spring.datasource.url=" + database,
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.jpa.show-sql=false");
+        StompBrokerRelayMessageHandler relay = context.getBean(StompBrokerRelayMessageHandler.class);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!relay.isBrokerAvailable() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(relay.isBrokerAvailable(), "node did not connect to the broker");
+        return context;
+    }
+
+    private StompSession subscribe(ConfigurableApplicationContext node, String destination,
+                                   BlockingQueue<Map<?, ?>> received) throws Exception {
+        return subscribe(node, destination, received, null);
+    }
+
+    private StompSession subscribe(ConfigurableApplicationContext node, String destination,
+                                   BlockingQueue<Map<?, ?>> received, String token) throws Exception {
+        int port = ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+        StompHeaders connectHeaders = new StompHeaders();
+        if (token != null) {
+            connectHeaders.add(StompAuthenticationInterceptor.AUTHORIZATION_HEADER, "Bearer " + token);
+        }
+        StompSession session = stompClient.connectAsync("ws://localhost:" + port + "/ws-binary",
+                new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+                }).get(10, TimeUnit.SECONDS);
+        session.setAutoReceipt(true);
+        CountDownLatch subscribed = new CountDownLatch(1);
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            @NonNull
+            public Type getPayloadType(@NonNull StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(@NonNull StompHeaders headers, Object payload) {
+                try {
+                    received.add(objectMapper.readValue((byte[]) payload, Map.class));
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }).addReceiptTask(subscribed::countDown);
+        // The broker confirms the subscription, so nothing published afterwards is missed
+        assertTrue(subscribed.await(10, TimeUnit.SECONDS), "subscription was not confirmed");
+        return session;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
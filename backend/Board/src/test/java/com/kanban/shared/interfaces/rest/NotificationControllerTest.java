@@ -0,0 +1,86 @@
+package com.kanban.shared.interfaces.rest;
+
+import com.kanban.shared.domain.model.Notification;
+import com.kanban.shared.infrastructure.NotificationRepository;
+import com.kanban.shared.infrastructure.UnreadNotificationCounter;
+import com.kanban.user.domain.model.User;
+import com.kanban.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class NotificationControllerTest {
+
+    @Autowired
+    private NotificationController notificationController;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private UnreadNotificationCounter unreadCounter;
+
+    private User recipient;
+
+    @BeforeEach
+    void setUp() {
+        recipient = new User();
+        recipient.setUsername("inbox-owner");
+        recipient.setEmail("inbox@example.com");
+        recipient.setPassword("password");
+        recipient = userRepository.save(recipient);
+    }
+
+    @Test
+    void testReadingTwiceDecrementsOnce() {
+        Long id = notification().getId();
+
+        assertEquals(HttpStatus.OK, notificationController.markAsRead(id, recipient).getStatusCode());
+        NotificationDTO again = notificationController.markAsRead(id, recipient).getBody();
+
+        assertNotNull(again);
+        assertTrue(again.isRead());
+        verify(unreadCounter, times(1)).decrement(recipient.getId());
+        assertEquals(0, notificationRepository.countByRecipientIdAndReadFalse(recipient.getId()));
+    }
+
+    @Test
+    void testDeletingDecrementsOnlyUnread() {
+        Long read = notification().getId();
+        notificationController.markAsRead(read, recipient);
+        clearInvocations(unreadCounter);
+
+        notificationController.deleteNotification(read, recipient);
+        verify(unreadCounter, never()).decrement(anyLong());
+
+        Long unread = notification().getId();
+        assertEquals(HttpStatus.NO_CONTENT, notificationController.deleteNotification(unread, recipient).getStatusCode());
+        verify(unreadCounter, times(1)).decrement(recipient.getId());
+        assertFalse(notificationRepository.existsById(read));
+        assertFalse(notificationRepository.existsById(unread));
+    }
+
+    private Notification notification() {
+        Notification notification = new Notification();
+        notification.setTitle("Assigned");
+        notification.setMessage("Message");
+        notification.setType("TASK_ASSIGNED");
+        notification.setRecipient(recipient);
+        return notificationRepository.saveAndFlush(notification);
+    }
+}
@@ -0,0 +1,209 @@
+package com.kanban.task.application;
+
+import com.kanban.board.domain.model.Board;
+import com.kanban.board.domain.model.BoardColumn;
+import com.kanban.board.domain.repository.BoardRepository;
+import com.kanban.board.domain.repository.ColumnRepository;
+import com.kanban.shared.domain.exception.ResourceNotFoundException;
+import com.kanban.shared.domain.exception.ValidationException;
+import com.kanban.shared.domain.model.Comment;
+import com.kanban.shared.domain.model.Label;
+import com.kanban.shared.infrastructure.CommentRepository;
+import com.kanban.shared.infrastructure.LabelRepository;
+import com.kanban.task.domain.model.Task;
+import com.kanban.task.domain.model.TaskStatus;
+import com.kanban.task.domain.repository.TaskRepository;
+import com.kanban.task.interfaces.rest.BulkTaskRequest;
+import com.kanban.task.interfaces.rest.BulkTaskResult;
+import com.kanban.user.domain.model.User;
+import com.kanban.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class BulkTaskServiceTest {
+
+    @Autowired
+    private BulkTaskService bulkTaskService;
+
+    @Autowired
+    private TaskPositionService taskPositionService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Board board;
+    private BoardColumn todo;
+    private BoardColumn done;
+    private User user;
+    private final List<Task> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("bulkuser");
+        user.setEmail("bulk@example.com");
+        user.setPassword("password");
+        user = userRepository.save(user);
+
+        board = new Board();
+        board.setName("Bulk Board");
+        board = boardRepository.save(board);
+
+        todo = column("To Do", 0);
+        done = column("Done", 1);
+
+        for (int i = 0; i < 3; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setCreatedBy(user);
+            tasks.add(taskPositionService.addTaskToEndOfColumn(task, todo));
+        }
+        taskRepository.flush();
+    }
+
+    @Test
+    void testStatusUpdateReportsSummary() {
+        BulkTaskResult result = bulkTaskService.apply(request(BulkTaskRequest.Action.STATUS,
+                List.of(ids().get(0), ids().get(1), -1L), r -> r.setStatus("DONE")));
+
+        assertEquals(3, result.getRequested());
+        assertEquals(2, result.getAffected());
+        assertEquals(List.of(board.getId()), result.getBoardIds());
+        assertEquals(TaskStatus.DONE, taskRepository.findById(ids().get(0)).orElseThrow().getStatus());
+        assertNotEquals(TaskStatus.DONE, taskRepository.findById(ids().get(2)).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testInvalidStatusIsRejected() {
+        assertThrows(ValidationException.class, () -> bulkTaskService.apply(
+                request(BulkTaskRequest.Action.STATUS, ids(), r -> r.setStatus("NOPE"))));
+    }
+
+    @Test
+    void testAssignAndUnassign() {
+        bulkTaskService.apply(request(BulkTaskRequest.Action.ASSIGN, ids(), r -> r.setAssigneeId(user.getId())));
+        assertTrue(taskRepository.findAllById(ids()).stream()
+                .allMatch(task -> user.getId().equals(task.getAssignee().getId())));
+
+        bulkTaskService.apply(request(BulkTaskRequest.Action.ASSIGN, ids(), r -> r.setAssigneeId(null)));
+        assertTrue(taskRepository.findAllById(ids()).stream().allMatch(task -> task.getAssignee() == null));
+
+        assertThrows(ResourceNotFoundException.class, () -> bulkTaskService.apply(
+                request(BulkTaskRequest.Action.ASSIGN, ids(), r -> r.setAssigneeId(-1L))));
+    }
+
+    @Test
+    void testAddAndRemoveLabelsKeepsThemOnTheTaskBoard() {
+        Label label = label(board);
+        Board otherBoard = new Board();
+        otherBoard.setName("Other Board");
+        Label foreign = label(boardRepository.save(otherBoard));
+
+        List<Long> labelIds = List.of(label.getId(), foreign.getId());
+        bulkTaskService.apply(request(BulkTaskRequest.Action.ADD_LABELS, ids(), r -> r.setLabelIds(labelIds)));
+        // Adding again does not duplicate links
+        bulkTaskService.apply(request(BulkTaskRequest.Action.ADD_LABELS, ids(), r -> r.setLabelIds(labelIds)));
+
+        for (Task task : taskRepository.findAllById(ids())) {
+            assertEquals(List.of(label.getId()), task.getLabels().stream().map(Label::getId).toList());
+        }
+
+        bulkTaskService.apply(request(BulkTaskRequest.Action.REMOVE_LABELS, List.of(ids().get(0)),
+                r -> r.setLabelIds(labelIds)));
+        assertTrue(taskRepository.findById(ids().get(0)).orElseThrow().getLabels().isEmpty());
+        assertEquals(1, taskRepository.findById(ids().get(1)).orElseThrow().getLabels().size());
+    }
+
+    @Test
+    void testMoveAppendsInRequestOrder() {
+        Task existing = new Task();
+        existing.setTitle("Already done");
+        existing = taskPositionService.addTaskToEndOfColumn(existing, done);
+
+        List<Long> order = List.of(ids().get(2), ids().get(0));
+        BulkTaskResult result = bulkTaskService.apply(
+                request(BulkTaskRequest.Action.MOVE, order, r -> r.setColumnId(done.getId())));
+
+        assertEquals(2, result.getAffected());
+        List<Long> doneOrder = taskRepository.findByColumnIdOrderByRankAsc(done.getId()).stream()
+                .map(Task::getId).toList();
+        assertEquals(List.of(existing.getId(), ids().get(2), ids().get(0)), doneOrder);
+        assertEquals(List.of(ids().get(1)), taskRepository.findByColumnIdOrderByRankAsc(todo.getId()).stream()
+                .map(Task::getId).toList());
+    }
+
+    @Test
+    void testDeleteRemovesTasksAndChildren() {
+        Comment comment = new Comment();
+        comment.setContent("Bye");
+        comment.setUser(user);
+        comment.setTask(tasks.get(0));
+        commentRepository.saveAndFlush(comment);
+
+        BulkTaskResult result = bulkTaskService.apply(
+                request(BulkTaskRequest.Action.DELETE, List.of(ids().get(0), ids().get(1)), r -> { }));
+
+        assertEquals(2, result.getAffected());
+        assertFalse(taskRepository.existsById(ids().get(0)));
+        assertFalse(taskRepository.existsById(ids().get(1)));
+        assertTrue(taskRepository.existsById(ids().get(2)));
+        assertFalse(commentRepository.existsById(comment.getId()));
+    }
+
+    private List<Long> ids() {
+        return tasks.stream().map(Task::getId).toList();
+    }
+
+    private BoardColumn column(String name, int orderIndex) {
+        BoardColumn column = new BoardColumn();
+        column.setName(name);
+        column.setOrderIndex(orderIndex);
+        column.setBoard(board);
+        return columnRepository.save(column);
+    }
+
+    private Label label(Board owner) {
+        Label label = new Label();
+        label.setName("Urgent");
+        label.setColor("#ff0000");
+        label.setBoard(owner);
+        return labelRepository.saveAndFlush(label);
+    }
+
+    private static BulkTaskRequest request(BulkTaskRequest.Action action, List<Long> taskIds,
+                                           Consumer<BulkTaskRequest> options) {
+        BulkTaskRequest request = new BulkTaskRequest();
+        request.setAction(action);
+        request.setTaskIds(taskIds);
+        options.accept(request);
+        return request;
+    }
+}
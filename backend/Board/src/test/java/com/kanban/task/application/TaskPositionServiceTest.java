@@ -104,9 +104,12 @@ public class TaskPositionServiceTest {
         // Add second task to beginning
         Task savedTask2 = taskPositionService.addTaskToBeginningOfColumn(task2, testColumn);
 
-        // Verify positions
-        assertEquals(1, savedTask1.getPosition()); // Shifted down
+        // Verify order: only the added task was written
         assertEquals(0, savedTask2.getPosition()); // At beginning
+        assertEquals(0, savedTask1.getPosition()); // Neighbour keeps its stored position
+        assertTrue(savedTask2.getRankKey().compareTo(savedTask1.getRankKey()) < 0);
+        List<Task> tasks = taskRepository.findByColumnIdOrderByRankAsc(testColumn.getId());
+        assertEquals(List.of(savedTask2.getId(), savedTask1.getId()), tasks.stream().map(Task::getId).toList());
     }
 
     @Test
@@ -123,11 +126,108 @@ public class TaskPositionServiceTest {
         // Verify new positions
         assertEquals(2, movedTask.getPosition());
         
-        // Verify other tasks were shifted
-        List<Task> tasks = taskRepository.findByColumnIdOrderByPositionAsc(testColumn.getId());
-        assertEquals(0, tasks.get(0).getPosition()); // task2
-        assertEquals(1, tasks.get(1).getPosition()); // task3
-        assertEquals(2, tasks.get(2).getPosition()); // task1 (moved)
+        // Verify the rank order, the other tasks were not rewritten
+        List<Task> tasks = taskRepository.findByColumnIdOrderByRankAsc(testColumn.getId());
+        assertEquals(List.of(savedTask2.getId(), savedTask3.getId(), savedTask1.getId()),
+                tasks.stream().map(Task::getId).toList());
+        assertEquals(1, savedTask2.getPosition());
+        assertEquals(2, savedTask3.getPosition());
+    }
+
+    @Test
+    void testMoveTaskBetweenNeighbours() {
+        Task savedTask1 = taskPositionService.addTaskToEndOfColumn(task1, testColumn);
+        Task savedTask2 = taskPositionService.addTaskToEndOfColumn(task2, testColumn);
+        Task savedTask3 = taskPositionService.addTaskToEndOfColumn(task3, testColumn);
+        String rank1 = savedTask1.getRankKey();
+        String rank2 = savedTask2.getRankKey();
+
+        // Move task3 between task1 and task2, then back and forth a few times
+        for (int i = 0; i < 5; i++) {
+            taskPositionService.moveTaskToPosition(savedTask3, 1);
+            taskPositionService.moveTaskToPosition(savedTask3, 0);
+        }
+        taskPositionService.moveTaskToPosition(savedTask3, 1);
+
+        List<Task> tasks = taskRepository.findByColumnIdOrderByRankAsc(testColumn.getId());
+        assertEquals(List.of(savedTask1.getId(), savedTask3.getId(), savedTask2.getId()),
+                tasks.stream().map(Task::getId).toList());
+        assertEquals(rank1, savedTask1.getRankKey());
+        assertEquals(rank2, savedTask2.getRankKey());
+    }
+
+    @Test
+    void testMoveTaskAfterNeighbour() {
+        Task savedTask1 = taskPositionService.addTaskToEndOfColumn(task1, testColumn);
+        Task savedTask2 = taskPositionService.addTaskToEndOfColumn(task2, testColumn);
+        Task savedTask3 = taskPositionService.addTaskToEndOfColumn(task3, testColumn);
+
+        taskPositionService.moveTaskAfter(savedTask3, testColumn, savedTask1.getId());
+        assertEquals(1, savedTask3.getPosition());
+        taskPositionService.moveTaskAfter(savedTask1, testColumn, null);
+        assertEquals(0, savedTask1.getPosition());
+        taskPositionService.moveTaskAfter(savedTask1, testColumn, savedTask2.getId());
+        assertEquals(2, savedTask1.getPosition());
+
+        List<Task> tasks = taskRepository.findByColumnIdOrderByRankAsc(testColumn.getId());
+        assertEquals(List.of(savedTask3.getId(), savedTask2.getId(), savedTask1.getId()),
+                tasks.stream().map(Task::getId).toList());
+        assertThrows(IllegalArgumentException.class,
+                () -> taskPositionService.moveTaskAfter(savedTask1, testColumn, savedTask1.getId()));
+    }
+
+    @Test
+    void testCurrentIndexFollowsRankOrder() {
+        Task savedTask1 = taskPositionService.addTaskToEndOfColumn(task1, testColumn);
+        Task savedTask2 = taskPositionService.addTaskToEndOfColumn(task2, testColumn);
+        Task savedTask3 = taskPositionService.addTaskToEndOfColumn(task3, testColumn);
+
+        taskPositionService.moveTaskToPosition(savedTask3, 0);
+
+        // Stored positions of the neighbours are stale, the derived index is not
+        assertEquals(1, savedTask2.getPosition());
+        assertEquals(0, taskPositionService.currentIndex(savedTask3));
+        assertEquals(1, taskPositionService.currentIndex(savedTask1));
+        assertEquals(2, taskPositionService.currentIndex(savedTask2));
+    }
+
+    @Test
+    void testMoveTaskToColumn() {
+        BoardColumn otherColumn = new BoardColumn();
+        otherColumn.setName("Other Column");
+        otherColumn.setOrderIndex(1);
+        otherColumn.setBoard(testBoard);
+        otherColumn = columnRepository.save(otherColumn);
+
+        Task savedTask1 = taskPositionService.addTaskToEndOfColumn(task1, testColumn);
+        Task savedTask2 = taskPositionService.addTaskToEndOfColumn(task2, otherColumn);
+
+        taskPositionService.moveTaskToColumn(savedTask1, otherColumn, 0);
+        Task savedTask3 = taskPositionService.moveTaskToColumn(task3, otherColumn, null);
+
+        List<Task> tasks = taskRepository.findByColumnIdOrderByRankAsc(otherColumn.getId());
+        assertEquals(List.of(savedTask1.getId(), savedTask2.getId(), savedTask3.getId()),
+                tasks.stream().map(Task::getId).toList());
+        assertEquals(2, savedTask3.getPosition());
+        assertTrue(taskRepository.findByColumnIdOrderByRankAsc(testColumn.getId()).isEmpty());
+    }
+
+    @Test
+    void testUnrankedColumnIsMigratedFromPositions() {
+        task1.setColumn(testColumn);
+        task1.setPosition(1);
+        task2.setColumn(testColumn);
+        task2.setPosition(0);
+        Task savedTask1 = taskRepository.save(task1);
+        Task savedTask2 = taskRepository.save(task2);
+
+        Task savedTask3 = taskPositionService.addTaskToEndOfColumn(task3, testColumn);
+
+        List<Task> tasks = taskRepository.findByColumnIdOrderByRankAsc(testColumn.getId());
+        assertEquals(List.of(savedTask2.getId(), savedTask1.getId(), savedTask3.getId()),
+                tasks.stream().map(Task::getId).toList());
+        assertNotNull(savedTask1.getRankKey());
+        assertEquals(2, savedTask3.getPosition());
     }
 
     @Test
@@ -138,7 +238,7 @@ public class TaskPositionServiceTest {
         taskPositionService.addTaskToEndOfColumn(task2, testColumn);
 
         // Get ordered tasks
-        List<Task> orderedTasks = taskRepository.findByColumnIdOrderByPositionAsc(testColumn.getId());
+        List<Task> orderedTasks = taskRepository.findByColumnIdOrderByRankAsc(testColumn.getId());
 
         // Verify order
         assertEquals(3, orderedTasks.size());
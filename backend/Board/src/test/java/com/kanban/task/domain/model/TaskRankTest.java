@@ -0,0 +1,81 @@
+package com.kanban.task.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskRankTest {
+
+    @Test
+    void testAppendAndPrependStayShort() {
+        String first = TaskRank.between(null, null);
+        String last = first;
+        for (int i = 0; i < 10000; i++) {
+            String next = TaskRank.between(last, null);
+            assertTrue(next.compareTo(last) > 0);
+            last = next;
+        }
+        String top = first;
+        for (int i = 0; i < 10000; i++) {
+            String previous = TaskRank.between(null, top);
+            assertTrue(previous.compareTo(top) < 0);
+            top = previous;
+        }
+
+        assertTrue(last.length() <= 6);
+        assertTrue(top.length() <= 6);
+    }
+
+    @Test
+    void testRepeatedInsertsBetweenNeighbours() {
+        String lower = TaskRank.spaced(0);
+        String upper = TaskRank.spaced(1);
+        for (int i = 0; i < 200; i++) {
+            String middle = TaskRank.between(lower, upper);
+            assertTrue(lower.compareTo(middle) < 0, lower + " < " + middle);
+            assertTrue(middle.compareTo(upper) < 0, middle + " < " + upper);
+            // Alternate sides to exercise both bounds
+            if (i % 2 == 0) {
+                upper = middle;
+            } else {
+                lower = middle;
+            }
+        }
+        assertTrue(upper.length() > TaskRank.REBALANCE_LENGTH);
+    }
+
+    @Test
+    void testRandomInsertsKeepOrder() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int index = random.nextInt(keys.size() + 1);
+            String lower = index > 0 ? keys.get(index - 1) : null;
+            String upper = index < keys.size() ? keys.get(index) : null;
+            keys.add(index, TaskRank.between(lower, upper));
+        }
+
+        for (int i = 1; i < keys.size(); i++) {
+            assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0);
+        }
+    }
+
+    @Test
+    void testSpacedKeysAreOrdered() {
+        for (int i = 1; i < 5000; i++) {
+            assertTrue(TaskRank.spaced(i - 1).compareTo(TaskRank.spaced(i)) < 0);
+        }
+    }
+
+    @Test
+    void testInvalidBounds() {
+        String key = TaskRank.spaced(3);
+        assertThrows(IllegalArgumentException.class, () -> TaskRank.between(key, key));
+        assertThrows(IllegalArgumentException.class, () -> TaskRank.between(TaskRank.spaced(4), key));
+        assertThrows(IllegalStateException.class, () -> TaskRank.between(null, "a0"));
+    }
+}
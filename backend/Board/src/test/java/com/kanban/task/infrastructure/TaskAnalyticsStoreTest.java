@@ -0,0 +1,130 @@
+package com.kanban.task.infrastructure;
+
+import com.kanban.task.domain.model.TaskPriority;
+import com.kanban.task.domain.model.TaskStatus;
+import com.kanban.task.domain.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskAnalyticsStoreTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskAnalyticsStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(taskRepository.findFactsAfterId(anyLong(), any(Pageable.class))).thenReturn(Collections.emptyList());
+        store.ensureLoaded();
+    }
+
+    @Test
+    void testCountsPerBoardAssigneeAndCreator() {
+        store.upsert(facts(1L, 10L, 100L, TaskStatus.TODO, TaskPriority.HIGH, null));
+        store.upsert(facts(2L, 10L, 100L, TaskStatus.DONE, TaskPriority.HIGH, null));
+        store.upsert(facts(3L, 20L, null, TaskStatus.TODO, TaskPriority.LOW, null));
+
+        TaskAnalyticsStore.Totals board = store.boardTotals(10L, NOW);
+        assertEquals(2, board.getTotal());
+        assertEquals(1, board.getCompleted());
+        assertEquals(2L, board.getPriorityDistribution().get(TaskPriority.HIGH));
+        assertFalse(board.getPriorityDistribution().containsKey(TaskPriority.LOW));
+
+        assertEquals(2, store.assigneeTotals(100L, NOW).getTotal());
+        assertEquals(3, store.createdCount(7L));
+        assertEquals(3, store.systemTotals(NOW).getTotal());
+        assertEquals(0, store.boardTotals(99L, NOW).getTotal());
+        verify(taskRepository, times(1)).findFactsAfterId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void testMoveAndUpdateApplyDeltas() {
+        store.upsert(facts(1L, 10L, 100L, TaskStatus.TODO, TaskPriority.HIGH, null));
+
+        store.upsert(facts(1L, 20L, 200L, TaskStatus.DONE, TaskPriority.LOW, null));
+
+        assertEquals(0, store.boardTotals(10L, NOW).getTotal());
+        assertEquals(0, store.assigneeTotals(100L, NOW).getTotal());
+        TaskAnalyticsStore.Totals board = store.boardTotals(20L, NOW);
+        assertEquals(1, board.getTotal());
+        assertEquals(1L, board.getStatusDistribution().get(TaskStatus.DONE));
+        assertEquals(1, store.systemTotals(NOW).getTotal());
+    }
+
+    @Test
+    void testRemoveForgetsTask() {
+        store.upsert(facts(1L, 10L, 100L, TaskStatus.TODO, TaskPriority.HIGH, NOW.minusDays(1)));
+
+        store.remove(1L);
+        store.remove(1L);
+
+        assertEquals(0, store.systemTotals(NOW).getTotal());
+        assertEquals(0, store.systemTotals(NOW).getOverdue());
+        assertEquals(0, store.createdCount(7L));
+    }
+
+    @Test
+    void testOverdueAndDueSoonFollowTheClock() {
+        store.upsert(facts(1L, 10L, null, TaskStatus.TODO, TaskPriority.HIGH, NOW.minusDays(1)));
+        store.upsert(facts(2L, 10L, null, TaskStatus.TODO, TaskPriority.HIGH, NOW.plusDays(2)));
+        store.upsert(facts(3L, 10L, null, TaskStatus.TODO, TaskPriority.HIGH, NOW.plusDays(10)));
+
+        TaskAnalyticsStore.Totals today = store.boardTotals(10L, NOW);
+        assertEquals(1, today.getOverdue());
+        assertEquals(1, today.getDueSoon());
+
+        TaskAnalyticsStore.Totals later = store.boardTotals(10L, NOW.plusDays(5));
+        assertEquals(2, later.getOverdue());
+        assertEquals(1, later.getDueSoon());
+
+        // Reading an earlier instant again walks the cursors back
+        store.upsert(facts(4L, 10L, null, TaskStatus.TODO, TaskPriority.HIGH, NOW.plusDays(1)));
+        TaskAnalyticsStore.Totals again = store.boardTotals(10L, NOW);
+        assertEquals(1, again.getOverdue());
+        assertEquals(2, again.getDueSoon());
+    }
+
+    @Test
+    void testReadsBeforeLoadingComeFromTheDatabase() {
+        TaskAnalyticsStore unloaded = new TaskAnalyticsStore();
+        ReflectionTestUtils.setField(unloaded, "taskRepository", taskRepository);
+        TaskRepository.TaskFacts row = mock(TaskRepository.TaskFacts.class);
+        when(row.getId()).thenReturn(1L);
+        when(row.getBoardId()).thenReturn(10L);
+        when(row.getStatus()).thenReturn(TaskStatus.DONE);
+        when(taskRepository.findFactsByBoardId(10L)).thenReturn(List.of(row));
+        when(taskRepository.countByCreatedById(7L)).thenReturn(4L);
+
+        TaskAnalyticsStore.Totals board = unloaded.boardTotals(10L, NOW);
+
+        assertFalse(unloaded.isReady());
+        assertEquals(1, board.getTotal());
+        assertEquals(1, board.getCompleted());
+        assertEquals(4, unloaded.createdCount(7L));
+    }
+
+    private TaskAnalyticsStore.Facts facts(Long id, Long boardId, Long assigneeId, TaskStatus status,
+                                           TaskPriority priority, LocalDateTime dueDate) {
+        return new TaskAnalyticsStore.Facts(id, boardId, assigneeId, 7L, status, priority, dueDate, NOW.minusDays(3));
+    }
+}
@@ -0,0 +1,133 @@
+package com.kanban.task.infrastructure;
+
+import com.kanban.task.domain.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TaskSearchIndexTest {
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskSearchIndex();
+        index.index(1L, "Fix login bug", "Users cannot log in with SSO");
+        index.index(2L, "Write release notes", "Mention the login fix");
+        index.index(3L, "Refactor database layer", "Split repositories");
+        index.index(4L, "Login page redesign", null);
+    }
+
+    @Test
+    void testTokenizeLowercasesAndSplitsOnPunctuation() {
+        assertEquals(List.of("fix", "sso", "v2", "login"), TaskSearchIndex.tokenize("Fix SSO-v2 (login)!"));
+        assertTrue(TaskSearchIndex.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void testSearchRanksTitleMatchesAboveDescriptionMatches() {
+        TaskSearchIndex.Hits hits = index.search("login", 0, 10);
+
+        assertEquals(3, hits.getTotal());
+        assertEquals(2L, hits.getIds().get(2));
+    }
+
+    @Test
+    void testSearchRequiresEveryTerm() {
+        TaskSearchIndex.Hits hits = index.search("login fix", 0, 10);
+
+        assertEquals(2, hits.getTotal());
+        assertTrue(hits.getIds().containsAll(List.of(1L, 2L)));
+    }
+
+    @Test
+    void testLastTermMatchesAsPrefix() {
+        assertEquals(List.of(3L), index.search("data", 0, 10).getIds());
+        assertEquals(List.of(3L), index.search("split repo", 0, 10).getIds());
+        assertEquals(0, index.search("repo split", 0, 10).getTotal());
+    }
+
+    @Test
+    void testReindexAndRemove() {
+        index.index(3L, "Refactor cache layer", null);
+        assertEquals(0, index.search("database", 0, 10).getTotal());
+        assertEquals(List.of(3L), index.search("cache", 0, 10).getIds());
+
+        index.remove(1L);
+        assertEquals(2, index.search("login", 0, 10).getTotal());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testSearchPagesThroughRankedHits() {
+        TaskSearchIndex.Hits all = index.search("login", 0, 10);
+        TaskSearchIndex.Hits second = index.search("login", 1, 1);
+
+        assertEquals(3, second.getTotal());
+        assertEquals(List.of(all.getIds().get(1)), second.getIds());
+    }
+
+    @Test
+    void testBroadPrefixMatchesItsCommonestCompletions() {
+        String words = IntStream.range(0, 70).mapToObj(i -> "deploy" + i).collect(Collectors.joining(" "));
+        index.index(5L, "Deploy log", words);
+        index.index(6L, "Deploy69 again", null);
+        index.index(7L, "Deploy68 again", null);
+
+        TaskSearchIndex.Hits hits = index.search("deploy", 0, 10);
+        assertTrue(hits.getIds().containsAll(List.of(5L, 6L, 7L)));
+        assertEquals(List.of(5L), index.search("log deploy5", 0, 10).getIds());
+    }
+
+    @Test
+    void testPruningKeepsTheExactTopPage() {
+        TaskSearchIndex large = new TaskSearchIndex();
+        Random random = new Random(7);
+        for (long id = 1; id <= 5000; id++) {
+            String title = id % 300 == 0 ? "Alpha beta" : "Task " + id;
+            String description = "alpha beta" + " filler".repeat(random.nextInt(20));
+            large.index(id, title, description);
+        }
+
+        TaskSearchIndex.Hits everything = large.search("alpha beta", 0, 5000);
+        TaskSearchIndex.Hits page = large.search("alpha beta", 0, 10);
+        TaskSearchIndex.Hits second = large.search("alpha bet", 10, 10);
+
+        assertTrue(everything.isExact());
+        assertEquals(5000, everything.getTotal());
+        assertFalse(page.isExact());
+        assertEquals(everything.getIds().subList(0, 10), page.getIds());
+        assertEquals(everything.getIds().subList(10, 20), second.getIds());
+        assertTrue(page.getTotal() > 1000, "estimated total " + page.getTotal());
+    }
+
+    @Test
+    void testUpdateDuringRebuildIsNotOverwritten() {
+        TaskRepository repository = mock(TaskRepository.class);
+        TaskRepository.TaskText stale = mock(TaskRepository.TaskText.class);
+        when(stale.getId()).thenReturn(1L);
+        when(stale.getTitle()).thenReturn("Fix login bug");
+        when(repository.findTextAfterId(eq(0L), any())).thenAnswer(invocation -> {
+            // Committed after the batch was read, before it is indexed
+            index.index(1L, "Fix logout bug", null);
+            return List.of(stale);
+        });
+        ReflectionTestUtils.setField(index, "taskRepository", repository);
+
+        index.rebuild();
+
+        assertEquals(List.of(1L), index.search("logout", 0, 10).getIds());
+        assertFalse(index.search("login", 0, 10).getIds().contains(1L));
+    }
+}
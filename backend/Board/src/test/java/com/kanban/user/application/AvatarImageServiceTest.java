@@ -0,0 +1,119 @@
+package com.kanban.user.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvatarImageServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private AvatarImageService avatarImageService;
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        avatarImageService = new AvatarImageService();
+        ReflectionTestUtils.setField(avatarImageService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(avatarImageService, "sizes", new int[] {32, 64, 128});
+        ReflectionTestUtils.setField(avatarImageService, "maxPixels", 16_777_216L);
+        cacheManager = new ConcurrentMapCacheManager(AvatarImageService.CACHE);
+        ReflectionTestUtils.setField(avatarImageService, "cacheManager", cacheManager);
+    }
+
+    @Test
+    void testThumbnailsAreSquareAndSized() throws Exception {
+        Path original = uploadDir.resolve("wide.png");
+        ImageIO.write(image(400, 200), "png", original.toFile());
+
+        avatarImageService.createThumbnails(original, "wide.png");
+
+        for (int size : new int[] {32, 64, 128}) {
+            AvatarImageService.Thumbnail thumbnail = avatarImageService.getThumbnail("wide.png", size);
+            BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail.bytes()));
+            assertEquals(size, decoded.getWidth());
+            assertEquals(size, decoded.getHeight());
+            assertTrue(thumbnail.bytes().length < Files.size(original));
+        }
+        // Center crop: the red middle of the image fills the thumbnail
+        BufferedImage small = ImageIO.read(new ByteArrayInputStream(
+                avatarImageService.getThumbnail("wide.png", 32).bytes()));
+        assertEquals(Color.RED.getRGB(), small.getRGB(0, 16));
+    }
+
+    @Test
+    void testRequestedSizeRoundsUpToAThumbnail() {
+        assertEquals(32, avatarImageService.sizeFor(20));
+        assertEquals(64, avatarImageService.sizeFor(40));
+        assertEquals(128, avatarImageService.sizeFor(128));
+        assertEquals(128, avatarImageService.sizeFor(500));
+    }
+
+    @Test
+    void testUndecodableUploadsHaveNoThumbnails() throws Exception {
+        Path original = uploadDir.resolve("avatar.webp");
+        Files.write(original, "not an image ImageIO reads".getBytes());
+
+        avatarImageService.createThumbnails(original, "avatar.webp");
+
+        assertNull(avatarImageService.getThumbnail("avatar.webp", 64));
+    }
+
+    @Test
+    void testImagesAbovePixelLimitAreNotDecoded() throws Exception {
+        ReflectionTestUtils.setField(avatarImageService, "maxPixels", 100L * 100);
+        Path original = uploadDir.resolve("huge.png");
+        ImageIO.write(image(400, 200), "png", original.toFile());
+
+        avatarImageService.createThumbnails(original, "huge.png");
+
+        assertNull(avatarImageService.getThumbnail("huge.png", 32));
+        assertTrue(avatarImageService.exceedsPixelLimit(Files.newInputStream(original)));
+        ImageIO.write(image(100, 100), "png", original.toFile());
+        assertFalse(avatarImageService.exceedsPixelLimit(Files.newInputStream(original)));
+        assertFalse(avatarImageService.exceedsPixelLimit(new ByteArrayInputStream("not an image".getBytes())));
+    }
+
+    @Test
+    void testDeleteThumbnails() throws Exception {
+        Path original = uploadDir.resolve("gone.png");
+        ImageIO.write(image(50, 50), "png", original.toFile());
+        avatarImageService.createThumbnails(original, "gone.png");
+
+        Cache cache = cacheManager.getCache(AvatarImageService.CACHE);
+        cache.put("gone.png:32", avatarImageService.getThumbnail("gone.png", 32));
+        cache.put("kept.png:32", "other avatar");
+
+        avatarImageService.deleteThumbnails("gone.png");
+
+        assertNull(avatarImageService.getThumbnail("gone.png", 32));
+        assertNull(cache.get("gone.png:32"));
+        assertNotNull(cache.get("kept.png:32"));
+    }
+
+    private BufferedImage image(int width, int height) {
+        // Blue bands left and right of a red square in the middle
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            boolean middle = Math.abs(x - width / 2) < height / 2;
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, middle ? Color.RED.getRGB() : Color.BLUE.getRGB());
+            }
+        }
+        return image;
+    }
+}
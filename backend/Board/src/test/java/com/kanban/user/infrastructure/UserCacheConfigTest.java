@@ -0,0 +1,22 @@
+package com.kanban.user.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.kanban.shared.infrastructure.config.CacheConfig;
+import com.kanban.user.application.AvatarImageService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserCacheConfigTest {
+
+    @Test
+    void testAvatarsAreWeighedByBytes() {
+        Cache<Object, Object> cache = CacheConfig.builder("maximumWeight=1000", new UserCacheConfig().avatarsCache())
+                .build();
+        cache.put("a.png:32", new AvatarImageService.Thumbnail(new byte[600], "\"a\""));
+        cache.put("b.png:32", new AvatarImageService.Thumbnail(new byte[600], "\"b\""));
+        cache.cleanUp();
+
+        assertEquals(1, cache.estimatedSize());
+    }
+}
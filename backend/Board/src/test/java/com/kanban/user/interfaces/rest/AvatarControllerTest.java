@@ -1,15 +1,18 @@
 package com.kanban.user.interfaces.rest;
 
 import com.kanban.shared.infrastructure.UserMapper;
+import com.kanban.user.application.AvatarImageService;
 import com.kanban.user.domain.model.User;
 import com.kanban.user.domain.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,14 +20,19 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Optional;
 
+import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,9 +46,18 @@ class AvatarControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private AvatarController avatarController;
+
     @MockBean
     private UserRepository userRepository;
 
+    @MockBean
+    private AvatarImageService avatarImageService;
+
+    @TempDir
+    Path uploadDir;
+
     private User testUser;
     private UserDetails userDetails;
 
@@ -73,6 +90,8 @@ class AvatarControllerTest {
                 Collections.singletonList(new SimpleGrantedAuthority("USER"))
             );
         SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        ReflectionTestUtils.setField(avatarController, "uploadDir", uploadDir.toString());
     }
 
     @Test
@@ -96,6 +115,28 @@ class AvatarControllerTest {
 
         verify(userRepository, times(1)).findByUsername("testuser");
         verify(userRepository, times(1)).save(any(User.class));
+        verify(avatarImageService).createThumbnails(any(Path.class), anyString());
+        // Thumbnails of the replaced avatar are removed
+        verify(avatarImageService).deleteThumbnails("avatar.jpg");
+    }
+
+    @Test
+    void testUploadAvatar_TooManyPixels() throws Exception {
+        MockMultipartFile file = new MockMultipartFile(
+            "file",
+            "huge-avatar.png",
+            "image/png",
+            "small file, huge image".getBytes()
+        );
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(avatarImageService.exceedsPixelLimit(any())).thenReturn(true);
+
+        mockMvc.perform(multipart("/avatar/upload")
+                .file(file))
+                .andExpect(status().isPayloadTooLarge());
+
+        verify(userRepository, never()).save(any(User.class));
+        verify(avatarImageService, never()).createThumbnails(any(Path.class), anyString());
     }
 
     @Test
@@ -365,4 +406,78 @@ class AvatarControllerTest {
                 .file(file))
                 .andExpect(status().isBadRequest());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testGetAvatar_StreamsWithValidators() throws Exception {
+        Files.write(uploadDir.resolve("stored.png"), "0123456789".getBytes());
+
+        mockMvc.perform(get("/avatar/stored.png"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(content().bytes("0123456789".getBytes()))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.ETAG, notNullValue()))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, notNullValue()));
+    }
+
+    @Test
+    void testGetAvatar_RangeReturnsPartialContent() throws Exception {
+        Files.write(uploadDir.resolve("stored.png"), "0123456789".getBytes());
+
+        mockMvc.perform(get("/avatar/stored.png").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().bytes("2345".getBytes()));
+
+        mockMvc.perform(get("/avatar/stored.png").header(HttpHeaders.RANGE, "bytes=20-30"))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+    }
+
+    @Test
+    void testGetAvatar_ConditionalGetReturnsNotModified() throws Exception {
+        Files.write(uploadDir.resolve("stored.png"), "0123456789".getBytes());
+        String etag = mockMvc.perform(get("/avatar/stored.png"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/avatar/stored.png").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        mockMvc.perform(get("/avatar/stored.png").header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testGetAvatar_SizedRequestServesCachedThumbnail() throws Exception {
+        byte[] png = "thumbnail".getBytes();
+        when(avatarImageService.getThumbnail("stored.png", 40))
+                .thenReturn(new AvatarImageService.Thumbnail(png, "\"abc-9\""));
+
+        mockMvc.perform(get("/avatar/stored.png").param("size", "40"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(content().bytes(png))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-9\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+
+        mockMvc.perform(get("/avatar/stored.png").param("size", "40").header(HttpHeaders.IF_NONE_MATCH, "\"abc-9\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void testGetAvatar_SizedRequestWithoutThumbnailServesOriginal() throws Exception {
+        Files.write(uploadDir.resolve("stored.webp"), "0123456789".getBytes());
+        when(avatarImageService.getThumbnail(eq("stored.webp"), anyInt())).thenReturn(null);
+
+        mockMvc.perform(get("/avatar/stored.webp").param("size", "64"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/webp"))
+                .andExpect(content().bytes("0123456789".getBytes()));
+    }
+
+    @Test
+    void testGetAvatar_MissingFile() throws Exception {
+        mockMvc.perform(get("/avatar/missing.png"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -18,7 +18,11 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextImpl;
 import com.kanban.shared.infrastructure.config.JwtUtil;
+import com.kanban.shared.infrastructure.config.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 
+import java.time.Duration;
 import java.util.Collections;
 
 @TestConfiguration
@@ -79,4 +83,10 @@ public class TestSecurityConfig {
     public JwtUtil jwtUtil() {
         return new JwtUtil();
     }
+
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        return new VerifiedTokenCache(jwtUtil, userDetailsService, meterRegistry, "maximumSize=100", Duration.ofMinutes(15));
+    }
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.kanban.user.interfaces.rest;
 
+import com.kanban.shared.infrastructure.CacheInvalidationListener;
 import com.kanban.shared.infrastructure.UserMapper;
 import com.kanban.user.domain.model.Role;
 import com.kanban.user.domain.model.User;
@@ -23,6 +24,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -31,7 +33,9 @@ import java.util.Collections;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -50,6 +54,9 @@ class UserControllerTest {
     @MockBean
     private RoleRepository roleRepository;
 
+    @MockBean
+    private CacheInvalidationListener cacheInvalidationListener;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -185,6 +192,21 @@ class UserControllerTest {
         verify(userRepository, times(1)).save(any(User.class));
     }
 
+    @Test
+    void testPromoteToAdmin_InvalidatesTokensOnEveryNode() throws Exception {
+        // Arrange
+        testUser.setRoles(new ArrayList<>(List.of(userRole)));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(adminRole));
+
+        // Act & Assert
+        mockMvc.perform(post("/users/1/promote-to-admin").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk());
+
+        assertTrue(testUser.getRoles().contains(adminRole));
+        verify(cacheInvalidationListener).invalidateTokens("testuser");
+    }
+
     @Test
     void testCreateUser_InvalidData() throws Exception {
         // Arrange
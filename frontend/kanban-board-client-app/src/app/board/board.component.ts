@@ -9,6 +9,8 @@ import {
 } from '@angular/core';
 import {
   catchError,
+  concatMap,
+  EMPTY,
   firstValueFrom,
   map,
   merge,
@@ -47,6 +49,10 @@ import {
   TaskMoveData,
 } from '../core/utils/drag-drop.utils';
 import { ensureTaskPositions } from '../core/utils/task-position.utils';
+import {
+  applyBoardPatch,
+  isBoardPatchEvent,
+} from '../core/utils/board-patch.utils';
 
 interface BoardState {
   board: BoardInstance | null;
@@ -89,6 +95,7 @@ export class BoardComponent implements OnInit, OnDestroy {
   private destroy$ = new Subject<void>();
   private isTaskEditorOpen = false;
   private currentlyOpenedIssueId: number | null = null;
+  private lastSequence = 0;
 
   ngOnInit(): void {
     // Set up the boardState$ to use the BehaviorSubject
@@ -150,12 +157,7 @@ export class BoardComponent implements OnInit, OnDestroy {
 
     const initialBoard$ = boardId$.pipe(
       switchMap(boardId =>
-        this.boardService.getBoardById(boardId).pipe(
-          map(board => {
-            // Ensure tasks have proper positions
-            const boardWithPositions = ensureTaskPositions(board);
-            return { board: boardWithPositions, loading: false, error: null };
-          }),
+        this.loadSnapshot(boardId).pipe(
           catchError(_error => {
             console.error('Error loading board:', _error);
             return of({
@@ -172,11 +174,35 @@ export class BoardComponent implements OnInit, OnDestroy {
       switchMap(boardId => {
         this.boardSocketService.connect(boardId);
         return this.boardSocketService.listenForUpdates().pipe(
-          map(board => {
-            // Ensure tasks have proper positions after WebSocket updates
-            const boardWithPositions = ensureTaskPositions(board);
-
-            return { board: boardWithPositions, loading: false, error: null };
+          concatMap(message => {
+            if (!isBoardPatchEvent(message)) {
+              // Full board broadcast (e.g. board edits)
+              const boardWithPositions = ensureTaskPositions(message);
+              return of({
+                board: boardWithPositions,
+                loading: false,
+                error: null,
+              });
+            }
+            const current = this.boardStateSubject.value?.board;
+            if (message.sequence <= this.lastSequence && current) {
+              // Already reflected by the snapshot we hold
+              return EMPTY;
+            }
+            if (
+              message.sequence !== this.lastSequence + 1 ||
+              !current ||
+              message.kind === 'BOARD_CHANGED'
+            ) {
+              // Missed events (or a server restart), or a board, column or label edit: reload a consistent snapshot
+              return this.loadSnapshot(boardId);
+            }
+            this.lastSequence = message.sequence;
+            return of({
+              board: applyBoardPatch(current, message),
+              loading: false,
+              error: null,
+            });
           }),
           catchError(error => {
             console.error('WebSocket error:', error);
@@ -222,6 +248,17 @@ export class BoardComponent implements OnInit, OnDestroy {
       .subscribe();
   }
 
+  private loadSnapshot(boardId: string): Observable<BoardState> {
+    return this.boardService.getBoardSnapshot(boardId).pipe(
+      map(snapshot => {
+        this.lastSequence = snapshot.sequence;
+        // Ensure tasks have proper positions
+        const boardWithPositions = ensureTaskPositions(snapshot.board);
+        return { board: boardWithPositions, loading: false, error: null };
+      })
+    );
+  }
+
   async onDrop(
     event: CdkDragDrop<TaskInstance[]>,
     currentBoard: BoardInstance
@@ -251,6 +288,14 @@ export class BoardComponent implements OnInit, OnDestroy {
 
       // Only send WebSocket event if the task actually moved
       if (shouldSendEvent) {
+        const targetTasks = updatedBoard.columns?.find(
+          col => col.id === dragEvent.currentColumnId
+        )?.tasks;
+        const afterTask =
+          dragEvent.currentIndex > 0
+            ? targetTasks?.[dragEvent.currentIndex - 1]
+            : undefined;
+
         // Create task move message with proper format
         const taskMoveData: TaskMoveData = {
           type: 'TASK_MOVE',
@@ -261,6 +306,7 @@ export class BoardComponent implements OnInit, OnDestroy {
           currentColumnId: dragEvent.currentColumnId,
           previousIndex: dragEvent.previousIndex,
           currentIndex: dragEvent.currentIndex,
+          afterTaskId: afterTask?.id,
           timestamp: Date.now(),
         };
 
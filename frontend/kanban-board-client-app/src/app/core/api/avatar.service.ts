@@ -22,12 +22,14 @@ export class AvatarService {
     return this.http.delete<UserInstance>(`${this.baseUrl}/remove`);
   }
 
-  getAvatarUrl(avatarPath: string | null): string {
+  getAvatarUrl(avatarPath: string | null, size?: number): string {
     if (!avatarPath) {
       return 'assets/default-avatar.svg';
     }
 
-    return `${window.location.origin}/api/avatar/${avatarPath}`;
+    // Sized requests get a small cached thumbnail instead of the original upload
+    const query = size ? `?size=${size}` : '';
+    return `${window.location.origin}/api/avatar/${avatarPath}${query}`;
   }
 
   validateFile(file: File): { isValid: boolean; error?: string } {
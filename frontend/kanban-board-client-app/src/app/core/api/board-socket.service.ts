@@ -1,8 +1,21 @@
 /* eslint-disable @typescript-eslint/no-explicit-any */
-import { filter, map, Observable, take, catchError } from 'rxjs';
+import {
+  concatMap,
+  filter,
+  from,
+  map,
+  Observable,
+  of,
+  take,
+  catchError,
+} from 'rxjs';
 import { webSocket, WebSocketSubject } from 'rxjs/webSocket';
 import { AuthService } from './auth.service';
 import { Injectable, inject } from '@angular/core';
+import {
+  isBoardPatchBatch,
+  isBoardPatchEvent,
+} from '../utils/board-patch.utils';
 
 @Injectable({
   providedIn: 'root',
@@ -49,6 +62,14 @@ export class BoardSocketService {
         const [, , body] = this.parseStompFrame(message);
         const parsedMessage = JSON.parse(body);
 
+        // Incremental patches are applied by the subscriber
+        if (
+          isBoardPatchEvent(parsedMessage) ||
+          isBoardPatchBatch(parsedMessage)
+        ) {
+          return parsedMessage;
+        }
+
         // Handle new WebSocket response format
         if (parsedMessage.type && parsedMessage.status) {
           // This is a WebSocket response with status
@@ -65,6 +86,10 @@ export class BoardSocketService {
         // Fallback to old format (direct board object)
         return parsedMessage;
       }),
+      // Batched patches are handed out one event at a time, in sequence order
+      concatMap(message =>
+        isBoardPatchBatch(message) ? from(message.events) : of(message)
+      ),
       catchError(error => {
         console.error('WebSocket error in listenForUpdates:', error);
         throw error;
@@ -24,15 +24,21 @@ describe('BoardService', () => {
   });
 
   it('should fetch all boards', () => {
-    const mockBoardDTO = { id: 1, name: 'Test Board', columns: [] };
+    const mockBoardDTO = {
+      id: 1,
+      name: 'Test Board',
+      columnCount: 2,
+      taskCount: 5,
+    };
 
     service.getAllBoards().subscribe(boards => {
       expect(boards.length).toBe(1);
       expect(boards[0].id).toBe(1);
       expect(boards[0].name).toBe('Test Board');
+      expect(boards[0].columnCount).toBe(2);
     });
 
-    const req = httpMock.expectOne('/api/boards');
+    const req = httpMock.expectOne('/api/boards?view=summary');
     expect(req.request.method).toBe('GET');
     req.flush([mockBoardDTO]);
   });
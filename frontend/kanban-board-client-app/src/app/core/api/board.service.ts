@@ -13,9 +13,13 @@ export class BoardService {
 
   private readonly baseUrl = '/api/boards';
 
+  /**
+   * Board summaries with column and task counts, without columns, tasks or labels
+   */
   getAllBoards(): Observable<BoardInstance[]> {
+    const params = new HttpParams().set('view', 'summary');
     return this.httpClient
-      .get<BoardDTO[]>(this.baseUrl)
+      .get<BoardDTO[]>(this.baseUrl, { params })
       .pipe(map(e => e.map(el => new BoardInstance(el))));
   }
 
@@ -27,6 +31,21 @@ export class BoardService {
       .pipe(map(e => new BoardInstance(e[0])));
   }
 
+  /**
+   * Full board state with the last patch sequence it reflects
+   */
+  getBoardSnapshot(
+    id: string
+  ): Observable<{ sequence: number; board: BoardInstance }> {
+    return this.httpClient
+      .get<{ sequence: number; board: BoardDTO }>(
+        `${this.baseUrl}/${id}/snapshot`
+      )
+      .pipe(
+        map(e => ({ sequence: e.sequence, board: new BoardInstance(e.board) }))
+      );
+  }
+
   createBoard(board: Partial<BoardDTO>): Observable<BoardInstance> {
     return this.httpClient
       .post<BoardDTO>(this.baseUrl, board)
@@ -74,6 +74,6 @@ export class UserBadgeComponent {
   }
 
   getAvatarUrl(): string {
-    return this.avatarService.getAvatarUrl(this.user()?.avatar);
+    return this.avatarService.getAvatarUrl(this.user()?.avatar, 64);
   }
 }
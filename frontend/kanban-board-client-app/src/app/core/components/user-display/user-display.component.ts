@@ -26,6 +26,6 @@ export class UserDisplayComponent {
   getUserInitials = getUserInitials;
 
   getAvatarUrl(user: UserInstance | null): string {
-    return this.avatarService.getAvatarUrl(user?.avatar);
+    return this.avatarService.getAvatarUrl(user?.avatar, 64);
   }
 }
@@ -15,6 +15,8 @@ export class BoardInstance implements BoardDTOInterface {
   createdBy?: UserInstance;
   columns?: Array<ColumnInstance>;
   labels?: Array<LabelInstance>;
+  columnCount?: number;
+  taskCount?: number;
 
   constructor(data: BoardDTOInterface) {
     this.id = data.id;
@@ -34,5 +36,7 @@ export class BoardInstance implements BoardDTOInterface {
     this.labels = data.labels
       ? data.labels.map(label => new LabelInstance(label))
       : undefined;
+    this.columnCount = data.columnCount;
+    this.taskCount = data.taskCount;
   }
 }
@@ -10,6 +10,7 @@ export class ColumnInstance implements ColumnDTOInterface {
   createdAt?: Date;
   updatedAt?: Date;
   tasks?: Array<TaskInstance>;
+  taskCount?: number;
 
   constructor(data: ColumnDTOInterface) {
     this.id = data.id;
@@ -22,5 +23,6 @@ export class ColumnInstance implements ColumnDTOInterface {
     this.tasks = data.tasks
       ? data.tasks.map(task => new TaskInstance(task))
       : undefined;
+    this.taskCount = data.taskCount;
   }
 }
@@ -24,5 +24,7 @@ export interface BoardDTO {
     createdBy?: UserDTO;
     columns?: Array<ColumnDTO>;
     labels?: Array<LabelDTO>;
+    columnCount?: number;
+    taskCount?: number;
 }
 
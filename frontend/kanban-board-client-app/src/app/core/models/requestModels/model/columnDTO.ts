@@ -19,5 +19,6 @@ export interface ColumnDTO {
     createdAt?: Date;
     updatedAt?: Date;
     tasks?: Array<TaskDTO>;
+    taskCount?: number;
 }
 
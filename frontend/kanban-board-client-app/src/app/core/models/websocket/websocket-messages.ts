@@ -12,6 +12,7 @@ export interface TaskMoveMessage extends WebSocketMessage {
   currentColumnId: number;
   previousIndex: number;
   currentIndex: number;
+  afterTaskId?: number;
 }
 
 export interface TaskCreateMessage extends WebSocketMessage {
@@ -0,0 +1,193 @@
+import { BoardInstance } from '../models/classes/BoardInstance';
+import { ColumnInstance } from '../models/classes/ColumnInstance';
+import { TaskInstance } from '../models/classes/TaskInstance';
+import { TaskDTO } from '../models/requestModels/model/taskDTO';
+
+export type BoardPatchKind =
+  | 'TASK_CREATED'
+  | 'TASK_MOVED'
+  | 'TASK_UPDATED'
+  | 'TASK_DELETED'
+  | 'TASKS_UPDATED'
+  | 'TASKS_MOVED'
+  | 'TASKS_DELETED'
+  | 'BOARD_CHANGED';
+
+/**
+ * Incremental board change published on /topic/board/{id}
+ */
+export interface BoardPatchEvent {
+  type: 'BOARD_PATCH';
+  kind: BoardPatchKind;
+  boardId: number;
+  sequence: number;
+  taskId: number;
+  taskIds?: number[];
+  fromColumnId?: number;
+  fromPosition?: number;
+  toColumnId?: number;
+  toPosition?: number;
+  task?: TaskDTO;
+  tasks?: TaskDTO[];
+  changes?: Record<string, unknown>;
+  timestamp?: number;
+}
+
+/**
+ * Patch events of one broadcast window, sent together; applied in order like single events
+ */
+export interface BoardPatchBatch {
+  type: 'BOARD_PATCH_BATCH';
+  boardId: number;
+  events: BoardPatchEvent[];
+}
+
+export function isBoardPatchBatch(message: unknown): message is BoardPatchBatch {
+  return (
+    !!message &&
+    typeof message === 'object' &&
+    (message as { type?: string }).type === 'BOARD_PATCH_BATCH'
+  );
+}
+
+export function isBoardPatchEvent(message: unknown): message is BoardPatchEvent {
+  return (
+    !!message &&
+    typeof message === 'object' &&
+    (message as { type?: string }).type === 'BOARD_PATCH'
+  );
+}
+
+/**
+ * Applies a patch to a board and returns a new board instance.
+ * Patches are absolute (upsert/move/delete by task id), so applying one twice is harmless.
+ * @param board - Current board state
+ * @param event - Patch received from the server
+ * @returns Updated board
+ */
+export function applyBoardPatch(
+  board: BoardInstance,
+  event: BoardPatchEvent
+): BoardInstance {
+  const columns = (board.columns ?? []).map(column => ({
+    ...column,
+    tasks: [...(column.tasks ?? [])],
+  })) as ColumnInstance[];
+
+  switch (event.kind) {
+    case 'TASK_CREATED': {
+      const existing = removeTask(columns, event.taskId);
+      const task = existing ?? new TaskInstance(event.task ?? { title: '' });
+      insertTask(columns, task, event.toColumnId, event.toPosition);
+      break;
+    }
+    case 'TASK_MOVED': {
+      const task = removeTask(columns, event.taskId);
+      if (task) {
+        insertTask(columns, task, event.toColumnId, event.toPosition);
+      }
+      break;
+    }
+    case 'TASK_UPDATED': {
+      columns.forEach(column => {
+        column.tasks = column.tasks!.map(task =>
+          task.id === event.taskId
+            ? Object.assign(
+                Object.create(Object.getPrototypeOf(task)),
+                task,
+                event.changes
+              )
+            : task
+        );
+      });
+      break;
+    }
+    case 'TASK_DELETED':
+      removeTask(columns, event.taskId);
+      break;
+    case 'TASKS_UPDATED': {
+      if (!event.changes) {
+        break;
+      }
+      const ids = new Set(event.taskIds ?? []);
+      columns.forEach(column => {
+        column.tasks = column.tasks!.map(task =>
+          ids.has(task.id!)
+            ? Object.assign(
+                Object.create(Object.getPrototypeOf(task)),
+                task,
+                event.changes
+              )
+            : task
+        );
+      });
+      break;
+    }
+    case 'TASKS_MOVED': {
+      // Appended to the target column in order; tasks moved to another board just leave this one
+      const previews = new Map((event.tasks ?? []).map(task => [task.id, task]));
+      (event.taskIds ?? []).forEach(taskId => {
+        const existing = removeTask(columns, taskId);
+        const preview = previews.get(taskId);
+        const task = existing ?? (preview ? new TaskInstance(preview) : undefined);
+        if (task) {
+          insertTask(columns, task, event.toColumnId);
+        }
+      });
+      break;
+    }
+    case 'TASKS_DELETED':
+      (event.taskIds ?? []).forEach(taskId => removeTask(columns, taskId));
+      break;
+  }
+
+  const updated = Object.assign(
+    Object.create(Object.getPrototypeOf(board)),
+    board
+  ) as BoardInstance;
+  updated.columns = columns;
+  return updated;
+}
+
+function removeTask(
+  columns: ColumnInstance[],
+  taskId: number
+): TaskInstance | undefined {
+  for (const column of columns) {
+    const index = column.tasks!.findIndex(task => task.id === taskId);
+    if (index >= 0) {
+      const [task] = column.tasks!.splice(index, 1);
+      renumber(column);
+      return task;
+    }
+  }
+  return undefined;
+}
+
+function insertTask(
+  columns: ColumnInstance[],
+  task: TaskInstance,
+  columnId?: number,
+  position?: number
+): void {
+  const column = columns.find(c => c.id === columnId);
+  if (!column) {
+    return;
+  }
+  const index = Math.min(
+    Math.max(position ?? column.tasks!.length, 0),
+    column.tasks!.length
+  );
+  column.tasks!.splice(index, 0, task);
+  renumber(column);
+}
+
+function renumber(column: ColumnInstance): void {
+  column.tasks = column.tasks!.map((task, index) =>
+    task.position === index
+      ? task
+      : Object.assign(Object.create(Object.getPrototypeOf(task)), task, {
+          position: index,
+        })
+  );
+}
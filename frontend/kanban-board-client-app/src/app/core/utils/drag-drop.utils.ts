@@ -24,6 +24,8 @@ export interface TaskMoveData {
   currentColumnId: number;
   previousIndex: number;
   currentIndex: number;
+  // Task the moved one now follows; lets the server place it without walking the column
+  afterTaskId?: number;
   timestamp: number;
 }
 